@@ -0,0 +1,157 @@
+package io.github.yasmiins.orderexecutionservice.service.lifecycle;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+import io.github.yasmiins.orderexecutionservice.config.LifecycleLogProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Caller-thread cost of logging one order transition. {@code synchronousTemplate} is the previous
+ * nine-argument SLF4J template logged inline; {@code asyncStructured} goes through
+ * {@link OrderLifecycleLogger}. Both write through the console pattern into a discarding stream,
+ * so the numbers exclude terminal I/O. {@code orderWorkTokens} burns CPU between records to stand in
+ * for the rest of the order path; the overhead per order is a method's score minus
+ * {@code orderWorkOnly}. With no work the loop logs faster than any writer can keep up, so it shows
+ * the drop path ({@code DROP}) or writer throughput ({@code BLOCK}); the printed drop count tells
+ * which regime a run was in.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderLifecycleLoggerBenchmark {
+
+    private static final String LIFECYCLE_LOG_TEMPLATE =
+        "event={} orderId={} symbol={} fromStatus={} toStatus={} filledQuantity={} quantity={} price={} idempotencyKey={}";
+    private static final org.slf4j.Logger templateLog = LoggerFactory.getLogger("benchmark.lifecycle.template");
+
+    @Param({"DROP", "BLOCK"})
+    public LifecycleLogProperties.OverflowPolicy overflowPolicy;
+
+    @Param({"0", "2000"})
+    public int orderWorkTokens;
+
+    private final UUID orderId = UUID.randomUUID();
+    private final BigDecimal filledQuantity = new BigDecimal("4.000000");
+    private final BigDecimal quantity = new BigDecimal("10.000000");
+    private final BigDecimal price = new BigDecimal("187.250000");
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderLifecycleLogger lifecycleLog;
+    private OrderLifecycleLogger inlineLifecycleLog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern("%d{ISO8601} [%thread] %-5level %logger{36} - %msg%n");
+        encoder.start();
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder);
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        Logger root = context.getLogger(Logger.ROOT_LOGGER_NAME);
+        root.detachAndStopAllAppenders();
+        root.addAppender(appender);
+        root.setLevel(ch.qos.logback.classic.Level.INFO);
+
+        LifecycleLogProperties properties = new LifecycleLogProperties();
+        properties.setOverflowPolicy(overflowPolicy);
+        meterRegistry = new SimpleMeterRegistry();
+        lifecycleLog = new OrderLifecycleLogger(properties, new OrderMetrics(meterRegistry));
+        lifecycleLog.start();
+        LifecycleLogProperties inline = new LifecycleLogProperties();
+        inline.setAsync(false);
+        inlineLifecycleLog = new OrderLifecycleLogger(inline, new OrderMetrics(new SimpleMeterRegistry()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        lifecycleLog.stop();
+        System.out.printf("dropped lifecycle records: %.0f%n", meterRegistry.counter("orders.lifecycle_log.dropped").count());
+    }
+
+    @Benchmark
+    public void orderWorkOnly() {
+        Blackhole.consumeCPU(orderWorkTokens);
+    }
+
+    @Benchmark
+    public void synchronousTemplate() {
+        Blackhole.consumeCPU(orderWorkTokens);
+        templateLog.info(
+            LIFECYCLE_LOG_TEMPLATE,
+            "order_filled",
+            orderId,
+            "AAPL",
+            OrderStatus.PARTIALLY_FILLED,
+            OrderStatus.FILLED,
+            filledQuantity,
+            quantity,
+            price,
+            null
+        );
+    }
+
+    @Benchmark
+    public void synchronousStructured() {
+        Blackhole.consumeCPU(orderWorkTokens);
+        inlineLifecycleLog.info(
+            "order_filled",
+            orderId,
+            "AAPL",
+            OrderStatus.PARTIALLY_FILLED,
+            OrderStatus.FILLED,
+            filledQuantity,
+            quantity,
+            price,
+            null
+        );
+    }
+
+    @Benchmark
+    public void asyncStructured() {
+        Blackhole.consumeCPU(orderWorkTokens);
+        lifecycleLog.info(
+            "order_filled",
+            orderId,
+            "AAPL",
+            OrderStatus.PARTIALLY_FILLED,
+            OrderStatus.FILLED,
+            filledQuantity,
+            quantity,
+            price,
+            null
+        );
+    }
+}
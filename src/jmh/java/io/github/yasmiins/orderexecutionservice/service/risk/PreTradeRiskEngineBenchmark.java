@@ -0,0 +1,71 @@
+package io.github.yasmiins.orderexecutionservice.service.risk;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.yasmiins.orderexecutionservice.config.OrderJournalProperties;
+import io.github.yasmiins.orderexecutionservice.config.PreTradeRiskProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+
+/**
+ * Cost of a pre-trade check on the accept path: price band, three limit checks and the matching
+ * release when the order is canceled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreTradeRiskEngineBenchmark {
+
+    private static final BigDecimal QUANTITY = new BigDecimal("10");
+    private static final BigDecimal PRICE = new BigDecimal("101.25");
+
+    private PreTradeRiskEngine engine;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OrderRepository orderRepository = Mockito.mock(OrderRepository.class);
+        Mockito.when(orderRepository.findOpenExposures(Mockito.anyList())).thenReturn(List.of());
+        PreTradeRiskProperties properties = new PreTradeRiskProperties();
+        properties.setMaxAccountNotional(new BigDecimal("1000000000"));
+        properties.setMaxSymbolNotional(new BigDecimal("1000000000"));
+        properties.setMaxOpenQuantity(new BigDecimal("1000000000"));
+        properties.setPriceBandPercent(new BigDecimal("10"));
+        engine = new PreTradeRiskEngine(
+            orderRepository,
+            new OrderJournal(new OrderJournalProperties()),
+            symbol -> new BigDecimal("100"),
+            properties
+        );
+        engine.afterSingletonsInstantiated();
+    }
+
+    @Benchmark
+    public void reserveAndRelease() {
+        // Sequential ids keep SecureRandom out of the measurement.
+        UUID orderId = new UUID(0, ++sequence);
+        engine.reserve(orderId, "acct", "AAPL", OrderType.LIMIT, QUANTITY, PRICE);
+        engine.apply(new JournalEntry.Cancel(orderId));
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Per-request cost of the client rate limiter. Limits are set high enough that every call is
+ * admitted, so the numbers are the overhead a well-behaved client pays. The budget is 1 µs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientRateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+    private static final double UNLIMITED_RATE = 1e9;
+    private static final int UNLIMITED_BURST = Integer.MAX_VALUE / 2;
+
+    private ClientRateLimiter limiter;
+    private ClientRateLimitInterceptor interceptor;
+    private String[] clientIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new ClientRateLimiter(UNLIMITED_RATE, UNLIMITED_BURST, CLIENTS);
+        interceptor = new ClientRateLimitInterceptor(
+            limiter,
+            limiter,
+            new OrderMetrics(new SimpleMeterRegistry()),
+            "X-Api-Key"
+        );
+        clientIds = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIds[i] = "client-" + i;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+        MockHttpServletRequest request;
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            request = new MockHttpServletRequest("POST", "/orders");
+            request.addHeader("X-Api-Key", "client-hot");
+        }
+
+        int nextIndex() {
+            int index = next;
+            next = index + 1 == CLIENTS ? 0 : index + 1;
+            return index;
+        }
+    }
+
+    @Benchmark
+    public long singleHotClient() {
+        return limiter.tryAcquire("client-hot");
+    }
+
+    @Benchmark
+    public long manyClients(Cursor cursor) {
+        return limiter.tryAcquire(clientIds[cursor.nextIndex()]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long singleHotClientContended() {
+        return limiter.tryAcquire("client-hot");
+    }
+
+    @Benchmark
+    public boolean interceptorPreHandle(Cursor cursor) {
+        return interceptor.preHandle(cursor.request, cursor.response, this);
+    }
+}
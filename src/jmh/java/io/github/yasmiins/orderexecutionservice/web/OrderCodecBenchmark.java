@@ -0,0 +1,144 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * Encode and decode cost of the binary order codec next to the Jackson mapper the JSON API uses,
+ * for a create request, a single order and a 100-order list. Run with {@code -prof gc} to compare
+ * allocation per operation as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderCodecBenchmark {
+
+    private static final TypeReference<List<OrderResponse>> ORDER_LIST = new TypeReference<>() {
+    };
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private CreateOrderRequest createRequest;
+    private OrderResponse order;
+    private List<OrderResponse> orders;
+    private byte[] createBinary;
+    private byte[] createJson;
+    private byte[] orderBinary;
+    private byte[] orderJson;
+    private byte[] ordersBinary;
+    private byte[] ordersJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        createRequest = new CreateOrderRequest(
+            "AAPL", OrderSide.BUY, OrderType.LIMIT, new BigDecimal("10.000000"), new BigDecimal("187.250000")
+        );
+        order = order(0);
+        orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(order(i));
+        }
+        createBinary = OrderBinaryCodec.encodeCreateOrder(createRequest);
+        createJson = jsonMapper.writeValueAsBytes(createRequest);
+        orderBinary = OrderBinaryCodec.encodeOrder(order);
+        orderJson = jsonMapper.writeValueAsBytes(order);
+        ordersBinary = OrderBinaryCodec.encodeOrders(orders);
+        ordersJson = jsonMapper.writeValueAsBytes(orders);
+        System.out.printf(
+            "payload bytes: create binary=%d json=%d, order binary=%d json=%d, 100 orders binary=%d json=%d%n",
+            createBinary.length, createJson.length, orderBinary.length, orderJson.length,
+            ordersBinary.length, ordersJson.length
+        );
+    }
+
+    @Benchmark
+    public CreateOrderRequest decodeCreateBinary() {
+        return OrderBinaryCodec.decodeCreateOrder(createBinary);
+    }
+
+    @Benchmark
+    public CreateOrderRequest decodeCreateJson() {
+        return jsonMapper.readValue(createJson, CreateOrderRequest.class);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderBinary() {
+        return OrderBinaryCodec.encodeOrder(order);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderJson() {
+        return jsonMapper.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public OrderResponse decodeOrderBinary() {
+        return OrderBinaryCodec.decodeOrder(orderBinary);
+    }
+
+    @Benchmark
+    public OrderResponse decodeOrderJson() {
+        return jsonMapper.readValue(orderJson, OrderResponse.class);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderListBinary() {
+        return OrderBinaryCodec.encodeOrders(orders);
+    }
+
+    @Benchmark
+    public byte[] encodeOrderListJson() {
+        return jsonMapper.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public List<OrderResponse> decodeOrderListBinary() {
+        return OrderBinaryCodec.decodeOrders(ordersBinary);
+    }
+
+    @Benchmark
+    public List<OrderResponse> decodeOrderListJson() {
+        return jsonMapper.readValue(ordersJson, ORDER_LIST);
+    }
+
+    private static OrderResponse order(int i) {
+        Instant createdAt = Instant.parse("2025-03-01T10:15:30.123456Z").plusMillis(i);
+        return new OrderResponse(
+            new UUID(0x0123456789abcdefL, i),
+            i % 2 == 0 ? "AAPL" : "MSFT",
+            i % 2 == 0 ? OrderSide.BUY : OrderSide.SELL,
+            OrderType.LIMIT,
+            new BigDecimal("10.000000"),
+            new BigDecimal("4.000000"),
+            new BigDecimal("187.250000"),
+            OrderStatus.PARTIALLY_FILLED,
+            createdAt,
+            createdAt.plusMillis(250)
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.yasmiins.orderexecutionservice.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Load-test settings, read from {@code loadtest.*} system properties so a run can be reshaped from
+ * the Maven command line without code changes.
+ */
+record LoadProfile(
+    int clients,
+    List<String> symbols,
+    int warmupSeconds,
+    int durationSeconds,
+    long tickMs,
+    long seed,
+    Map<Operation, Integer> mix,
+    double tolerance,
+    boolean writeBaseline,
+    Path baselineFile
+) {
+
+    private static final List<String> TICKERS = List.of(
+        "AAPL", "MSFT", "GOOG", "TSLA", "AMZN", "NVDA", "META", "JPM", "V", "XOM", "UNH", "JNJ", "WMT", "PG", "MA", "HD"
+    );
+
+    static LoadProfile fromSystemProperties() {
+        int symbolCount = Integer.getInteger("loadtest.symbols", 8);
+        List<String> symbols = new ArrayList<>(symbolCount);
+        for (int i = 0; i < symbolCount; i++) {
+            symbols.add(i < TICKERS.size() ? TICKERS.get(i) : "SYM" + i);
+        }
+        return new LoadProfile(
+            Integer.getInteger("loadtest.clients", 16),
+            List.copyOf(symbols),
+            Integer.getInteger("loadtest.warmup-seconds", 5),
+            Integer.getInteger("loadtest.duration-seconds", 30),
+            Long.getLong("loadtest.tick-ms", 1000L),
+            Long.getLong("loadtest.seed", 42L),
+            parseMix(System.getProperty("loadtest.mix", "limit:35,market:15,retry:10,cancel:10,get:20,list:10")),
+            Double.parseDouble(System.getProperty("loadtest.tolerance", "1.5")),
+            Boolean.getBoolean("loadtest.write-baseline"),
+            Path.of(System.getProperty("loadtest.baseline-file", "src/loadtest/resources/loadtest-baseline.properties"))
+        );
+    }
+
+    /**
+     * The settings that shape the numbers, for report headers; a baseline is only comparable with
+     * runs of the same summary.
+     */
+    String summary() {
+        return "clients=%d symbols=%d warmup=%ds duration=%ds tick=%dms seed=%d mix=%s"
+            .formatted(clients, symbols.size(), warmupSeconds, durationSeconds, tickMs, seed, mix);
+    }
+
+    /**
+     * Draws the next operation according to the configured weights.
+     */
+    Operation nextOperation(SplittableRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int draw = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            draw -= entry.getValue();
+            if (draw < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty operation mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights: " + value);
+        }
+        return mix;
+    }
+
+    enum Operation {
+        LIMIT("post_orders"),
+        MARKET("post_orders"),
+        RETRY("post_orders_retry"),
+        CANCEL("post_cancel"),
+        GET("get_order"),
+        LIST("get_orders");
+
+        private final String endpoint;
+
+        Operation(String endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        String endpoint() {
+            return endpoint;
+        }
+    }
+}
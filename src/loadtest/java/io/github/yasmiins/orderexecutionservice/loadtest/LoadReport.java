@@ -0,0 +1,108 @@
+package io.github.yasmiins.orderexecutionservice.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histograms and outcome counters for one measured run, plus the comparison against a
+ * stored baseline. Metric keys ending in {@code _ms} are latencies (lower is better); keys ending
+ * in {@code _per_sec} are throughput (higher is better).
+ */
+final class LoadReport {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    /**
+     * Latency regressions below this many milliseconds are ignored; sub-millisecond percentiles
+     * are too noisy to gate a build on.
+     */
+    private static final double LATENCY_SLACK_MS = 2.0;
+
+    private final Map<String, Histogram> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    void recordLatency(String endpoint, long nanos) {
+        latencies.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3))
+            .recordValue(Math.min(nanos, MAX_TRACKABLE_NANOS));
+    }
+
+    void recordOutcome(String endpoint, String outcome) {
+        outcomes.computeIfAbsent(endpoint + "." + outcome, key -> new LongAdder()).increment();
+    }
+
+    long outcomeCount(String suffix) {
+        return outcomes.entrySet().stream()
+            .filter(entry -> entry.getKey().endsWith("." + suffix))
+            .mapToLong(entry -> entry.getValue().sum())
+            .sum();
+    }
+
+    /**
+     * Flattens the run into sorted {@code metric=value} pairs, the same shape as the baseline file.
+     */
+    Properties toProperties(double measuredSeconds, Map<String, Double> extra) {
+        Map<String, String> values = new TreeMap<>();
+        long total = 0;
+        for (Map.Entry<String, Histogram> entry : latencies.entrySet()) {
+            Histogram histogram = entry.getValue();
+            String endpoint = entry.getKey();
+            if (!endpoint.equals("fill_tick")) {
+                total += histogram.getTotalCount();
+                values.put(endpoint + ".throughput_per_sec", format(histogram.getTotalCount() / measuredSeconds));
+            }
+            values.put(endpoint + ".p50_ms", format(millis(histogram.getValueAtPercentile(50))));
+            values.put(endpoint + ".p99_ms", format(millis(histogram.getValueAtPercentile(99))));
+            values.put(endpoint + ".p999_ms", format(millis(histogram.getValueAtPercentile(99.9))));
+        }
+        values.put("total.throughput_per_sec", format(total / measuredSeconds));
+        extra.forEach((key, value) -> values.put(key, format(value)));
+        outcomes.forEach((key, value) -> values.put("outcome." + key, Long.toString(value.sum())));
+        Properties properties = new Properties();
+        properties.putAll(values);
+        return properties;
+    }
+
+    /**
+     * Returns one message per metric that is worse than {@code baseline} by more than
+     * {@code tolerance} (a ratio, e.g. 1.5). Outcome counts and maxima are single samples of luck and
+     * are reported but not compared.
+     */
+    static List<String> regressions(Properties current, Properties baseline, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        for (String key : new TreeMap<>(baseline).keySet().stream().map(Object::toString).toList()) {
+            if (key.startsWith("outcome.") || key.endsWith(".max_ms")) {
+                continue;
+            }
+            double expected = Double.parseDouble(baseline.getProperty(key));
+            String actualValue = current.getProperty(key);
+            if (actualValue == null) {
+                regressions.add(key + " missing from this run (baseline " + expected + ")");
+                continue;
+            }
+            double actual = Double.parseDouble(actualValue);
+            if (key.endsWith("_ms") && actual > expected * tolerance && actual - expected > LATENCY_SLACK_MS) {
+                regressions.add(key + " = " + actual + " ms, baseline " + expected + " ms");
+            } else if (key.endsWith("_per_sec") && actual < expected / tolerance) {
+                regressions.add(key + " = " + actual + "/s, baseline " + expected + "/s");
+            }
+        }
+        return regressions;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
@@ -0,0 +1,339 @@
+package io.github.yasmiins.orderexecutionservice.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.loadtest.LoadProfile.Operation;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Drives a mix of limit and market orders, idempotent retries, cancels and reads across several
+ * symbols against the full stack, with N closed-loop clients. Reports throughput and p50/p99/p99.9
+ * latency per endpoint, fill-tick duration and Hikari connection wait, writes them to
+ * {@code target/loadtest/report.properties}, and fails when any metric is worse than the stored
+ * baseline by more than {@code loadtest.tolerance}. Run with {@code ./mvnw -Ploadtest verify};
+ * add {@code -Dloadtest.write-baseline=true} to record a new baseline instead of comparing.
+ *
+ * <p>The scheduled fill pass is disabled and driven from here instead, so every tick is timed.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "simulator.scheduling.enabled=false",
+        "order.rate-limit.order-entry.requests-per-second=1000000",
+        "order.rate-limit.order-entry.burst=1000000",
+        "order.rate-limit.order-query.requests-per-second=1000000",
+        "order.rate-limit.order-query.burst=1000000",
+        "logging.level.io.github.yasmiins.orderexecutionservice=INFO"
+    }
+)
+class OrderFlowLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderFlowLoadTest.class);
+    private static final LoadProfile PROFILE = LoadProfile.fromSystemProperties();
+    private static final BigDecimal REFERENCE_PRICE = new BigDecimal("100");
+    private static final int RECENT_ORDERS = 64;
+    private static final int RECENT_RETRIES = 16;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void symbols(DynamicPropertyRegistry registry) {
+        registry.add("order.validation.supported-symbols", () -> String.join(",", PROFILE.symbols()));
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SimulatedFillEngine fillEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient http = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+
+    private volatile LoadReport activeReport;
+    private volatile boolean running = true;
+
+    @Test
+    void orderFlow_withinBaseline() throws Exception {
+        log.info("event=loadtest_started profile={}", PROFILE);
+        ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor();
+        ticker.scheduleWithFixedDelay(this::timedFillTick, PROFILE.tickMs(), PROFILE.tickMs(), TimeUnit.MILLISECONDS);
+        List<Thread> clients = new ArrayList<>();
+        for (int i = 0; i < PROFILE.clients(); i++) {
+            int clientIndex = i;
+            clients.add(Thread.ofPlatform().name("loadtest-client-" + i).start(() -> runClient(clientIndex)));
+        }
+
+        activeReport = new LoadReport();
+        Thread.sleep(TimeUnit.SECONDS.toMillis(PROFILE.warmupSeconds()));
+        LoadReport report = new LoadReport();
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").timer();
+        long acquireCountBefore = acquire == null ? 0 : acquire.count();
+        double acquireNanosBefore = acquire == null ? 0 : acquire.totalTime(TimeUnit.NANOSECONDS);
+        long measuringSince = System.nanoTime();
+        activeReport = report;
+        Thread.sleep(TimeUnit.SECONDS.toMillis(PROFILE.durationSeconds()));
+        activeReport = null;
+        double measuredSeconds = (System.nanoTime() - measuringSince) / 1e9;
+        running = false;
+        for (Thread client : clients) {
+            client.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        ticker.shutdown();
+        ticker.awaitTermination(30, TimeUnit.SECONDS);
+
+        long acquireCount = acquire == null ? 0 : acquire.count() - acquireCountBefore;
+        double acquireNanos = acquire == null ? 0 : acquire.totalTime(TimeUnit.NANOSECONDS) - acquireNanosBefore;
+        Properties current = report.toProperties(measuredSeconds, Map.of(
+            "db_connection_wait.mean_ms", acquireCount == 0 ? 0 : acquireNanos / acquireCount / 1e6,
+            "db_connection_wait.max_ms", acquire == null ? 0 : acquire.max(TimeUnit.MILLISECONDS)
+        ));
+        Path reportDir = Path.of(System.getProperty("loadtest.report-dir", "target/loadtest"));
+        Files.createDirectories(reportDir);
+        store(current, reportDir.resolve("report.properties"), "Load test report " + PROFILE.summary());
+        current.stringPropertyNames().stream().sorted()
+            .forEach(key -> log.info("event=loadtest_metric {}={}", key, current.getProperty(key)));
+
+        assertThat(report.outcomeCount("error")).as("requests with unexpected status").isZero();
+        assertThat(Long.parseLong(current.getProperty("outcome.post_orders.ok", "0"))).isPositive();
+        if (PROFILE.writeBaseline()) {
+            store(current, PROFILE.baselineFile(), "Load test baseline " + PROFILE.summary());
+            log.info("event=loadtest_baseline_written file={}", PROFILE.baselineFile().toAbsolutePath());
+            return;
+        }
+        assertThat(PROFILE.baselineFile())
+            .as("baseline file; record one with -Dloadtest.write-baseline=true")
+            .exists();
+        Properties baseline = new Properties();
+        try (InputStream in = Files.newInputStream(PROFILE.baselineFile())) {
+            baseline.load(in);
+        }
+        assertThat(LoadReport.regressions(current, baseline, PROFILE.tolerance()))
+            .as("metrics worse than baseline by more than x%s", PROFILE.tolerance())
+            .isEmpty();
+    }
+
+    private void runClient(int clientIndex) {
+        SplittableRandom random = new SplittableRandom(PROFILE.seed() + clientIndex);
+        String apiKey = "loadtest-client-" + clientIndex;
+        ArrayDeque<UUID> recentOrders = new ArrayDeque<>();
+        ArrayDeque<String[]> recentCreates = new ArrayDeque<>();
+        while (running) {
+            Operation operation = PROFILE.nextOperation(random);
+            String symbol = PROFILE.symbols().get(random.nextInt(PROFILE.symbols().size()));
+            HttpRequest request = switch (operation) {
+                case LIMIT, MARKET -> {
+                    String key = UUID.randomUUID().toString();
+                    String body = createBody(random, symbol, operation == Operation.LIMIT);
+                    remember(recentCreates, new String[] {key, body}, RECENT_RETRIES);
+                    yield post("/orders", body, apiKey, key);
+                }
+                case RETRY -> {
+                    String[] previous = recentCreates.peekLast();
+                    yield previous == null ? null : post("/orders", previous[1], apiKey, previous[0]);
+                }
+                case CANCEL -> {
+                    UUID orderId = recentOrders.pollFirst();
+                    yield orderId == null ? null : post("/orders/" + orderId + "/cancel", "", apiKey, null);
+                }
+                case GET -> {
+                    UUID orderId = recentOrders.peekLast();
+                    yield orderId == null ? null : get("/orders/" + orderId, apiKey);
+                }
+                case LIST -> get("/orders?symbol=" + symbol + "&status=NEW", apiKey);
+            };
+            if (request == null) {
+                continue;
+            }
+            HttpResponse<String> response = send(operation, request);
+            if (response == null) {
+                continue;
+            }
+            int status = response.statusCode();
+            if (status == 201 && operation != Operation.RETRY) {
+                UUID created = parseId(response.body());
+                if (created != null) {
+                    remember(recentOrders, created, RECENT_ORDERS);
+                }
+            } else if (status == 429 || status == 503) {
+                backOff(response);
+            }
+        }
+    }
+
+    /**
+     * Waits as long as the server asked, like a well-behaved client; hammering a shedding server
+     * would only measure how fast it can say no.
+     */
+    private void backOff(HttpResponse<String> response) {
+        long seconds = response.headers().firstValueAsLong("Retry-After").orElse(1L);
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(Math.max(1L, seconds)));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+
+    /**
+     * Sends the request and records latency and outcome; returns null if it never got a response.
+     */
+    private HttpResponse<String> send(Operation operation, HttpRequest request) {
+        String endpoint = operation.endpoint();
+        long startedAt = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException ex) {
+            record(endpoint, "error", -1);
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+            return null;
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        int status = response.statusCode();
+        String outcome = switch (status) {
+            case 200, 201 -> "ok";
+            // Cancels race the fill engine; an order that filled first is a normal outcome.
+            case 409 -> operation == Operation.CANCEL ? "conflict" : "error";
+            case 429 -> "throttled";
+            case 503 -> "shed";
+            default -> "error";
+        };
+        record(endpoint, outcome, outcome.equals("ok") || outcome.equals("conflict") ? elapsed : -1);
+        if (outcome.equals("error")) {
+            log.warn("event=loadtest_unexpected_status endpoint={} status={} body={}", endpoint, status, response.body());
+        }
+        return response;
+    }
+
+    private void record(String endpoint, String outcome, long latencyNanos) {
+        LoadReport report = activeReport;
+        if (report == null) {
+            return;
+        }
+        report.recordOutcome(endpoint, outcome);
+        if (latencyNanos >= 0) {
+            report.recordLatency(endpoint, latencyNanos);
+        }
+    }
+
+    private void timedFillTick() {
+        long startedAt = System.nanoTime();
+        try {
+            fillEngine.processOpenOrders();
+        } catch (RuntimeException ex) {
+            log.warn("event=loadtest_fill_tick_failed", ex);
+            return;
+        }
+        LoadReport report = activeReport;
+        if (report != null) {
+            report.recordLatency("fill_tick", System.nanoTime() - startedAt);
+        }
+    }
+
+    private static String createBody(SplittableRandom random, String symbol, boolean limit) {
+        String side = random.nextBoolean() ? "BUY" : "SELL";
+        int quantity = 1 + random.nextInt(100);
+        if (!limit) {
+            return "{\"symbol\":\"%s\",\"side\":\"%s\",\"orderType\":\"MARKET\",\"quantity\":%d}"
+                .formatted(symbol, side, quantity);
+        }
+        // Within +/-2% of the simulator price, so roughly half of the limits are marketable.
+        BigDecimal price = REFERENCE_PRICE
+            .multiply(BigDecimal.valueOf(0.98 + random.nextDouble() * 0.04))
+            .setScale(2, RoundingMode.HALF_UP);
+        return "{\"symbol\":\"%s\",\"side\":\"%s\",\"orderType\":\"LIMIT\",\"quantity\":%d,\"price\":%s}"
+            .formatted(symbol, side, quantity, price.toPlainString());
+    }
+
+    private HttpRequest post(String path, String body, String apiKey, String idempotencyKey) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri(path))
+            .header("Content-Type", "application/json")
+            .header("X-Api-Key", apiKey)
+            .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (idempotencyKey != null) {
+            builder.header("Idempotency-Key", idempotencyKey);
+        }
+        return builder.build();
+    }
+
+    private HttpRequest get(String path, String apiKey) {
+        return HttpRequest.newBuilder(uri(path)).header("X-Api-Key", apiKey).GET().build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static UUID parseId(String body) {
+        int start = body.indexOf("\"id\":\"");
+        return start < 0 ? null : UUID.fromString(body.substring(start + 6, start + 42));
+    }
+
+    private static <T> void remember(ArrayDeque<T> recent, T value, int limit) {
+        recent.addLast(value);
+        if (recent.size() > limit) {
+            recent.pollFirst();
+        }
+    }
+
+    private static void store(Properties properties, Path file, String comment) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, comment);
+        }
+    }
+}
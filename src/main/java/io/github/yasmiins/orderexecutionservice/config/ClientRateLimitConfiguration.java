@@ -0,0 +1,44 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import io.github.yasmiins.orderexecutionservice.web.ClientRateLimitInterceptor;
+import io.github.yasmiins.orderexecutionservice.web.ClientRateLimiter;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "order.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ClientRateLimitConfiguration {
+
+    @Bean
+    ClientRateLimitInterceptor clientRateLimitInterceptor(ClientRateLimitProperties properties, OrderMetrics orderMetrics) {
+        return new ClientRateLimitInterceptor(
+            limiter(properties.getOrderEntry(), properties.getMaxClients()),
+            limiter(properties.getOrderQuery(), properties.getMaxClients()),
+            orderMetrics,
+            properties.getClientHeader()
+        );
+    }
+
+    @Bean
+    WebMvcConfigurer clientRateLimitWebMvcConfigurer(ClientRateLimitInterceptor clientRateLimitInterceptor) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                // Ahead of admission control, so a flooding client cannot take intake permits.
+                registry.addInterceptor(clientRateLimitInterceptor)
+                    .addPathPatterns("/orders", "/orders/**")
+                    .order(Ordered.HIGHEST_PRECEDENCE);
+            }
+        };
+    }
+
+    private static ClientRateLimiter limiter(ClientRateLimitProperties.Limit limit, int maxClients) {
+        return new ClientRateLimiter(limit.getRequestsPerSecond(), limit.getBurst(), maxClients);
+    }
+}
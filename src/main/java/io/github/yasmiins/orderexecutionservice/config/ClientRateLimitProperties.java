@@ -0,0 +1,83 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.rate-limit")
+public class ClientRateLimitProperties {
+
+    private boolean enabled = true;
+    private String clientHeader = "X-Api-Key";
+    private int maxClients = 10_000;
+    private Limit orderEntry = new Limit(100, 200);
+    private Limit orderQuery = new Limit(200, 400);
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getClientHeader() {
+        return clientHeader;
+    }
+
+    public void setClientHeader(String clientHeader) {
+        this.clientHeader = clientHeader;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public Limit getOrderEntry() {
+        return orderEntry;
+    }
+
+    public void setOrderEntry(Limit orderEntry) {
+        this.orderEntry = orderEntry;
+    }
+
+    public Limit getOrderQuery() {
+        return orderQuery;
+    }
+
+    public void setOrderQuery(Limit orderQuery) {
+        this.orderQuery = orderQuery;
+    }
+
+    public static class Limit {
+
+        private double requestsPerSecond;
+        private int burst;
+
+        public Limit() {
+        }
+
+        public Limit(double requestsPerSecond, int burst) {
+            this.requestsPerSecond = requestsPerSecond;
+            this.burst = burst;
+        }
+
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        public void setRequestsPerSecond(double requestsPerSecond) {
+            this.requestsPerSecond = requestsPerSecond;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.yasmiins.orderexecutionservice.service.profiling.FillTickJdbcListener;
+
+/**
+ * Registers {@link FillTickJdbcListener} with every Hibernate session, but only with
+ * {@code simulator.profiling.enabled=true}, so that sessions carry no extra listener otherwise.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "simulator.profiling.enabled", havingValue = "true")
+public class FillTickProfilingConfiguration {
+
+    @Bean
+    HibernatePropertiesCustomizer fillTickJdbcListener() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, FillTickJdbcListener.class.getName());
+    }
+}
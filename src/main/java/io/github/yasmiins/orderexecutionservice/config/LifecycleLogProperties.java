@@ -0,0 +1,55 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.lifecycle-log")
+public class LifecycleLogProperties {
+
+    private boolean async = true;
+    private int capacity = 8192;
+    private int batchSize = 256;
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public enum OverflowPolicy {
+        /**
+         * Discard the record and count it in {@code orders.lifecycle_log.dropped}.
+         */
+        DROP,
+        /**
+         * Wait on the calling thread until the writer frees a slot.
+         */
+        BLOCK
+    }
+}
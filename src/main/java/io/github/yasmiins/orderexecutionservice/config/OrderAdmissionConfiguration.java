@@ -0,0 +1,60 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import io.github.yasmiins.orderexecutionservice.web.AimdConcurrencyLimiter;
+import io.github.yasmiins.orderexecutionservice.web.OrderAdmissionInterceptor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "order.admission.enabled", havingValue = "true")
+public class OrderAdmissionConfiguration {
+
+    @Bean
+    AimdConcurrencyLimiter orderAdmissionLimiter(OrderAdmissionProperties properties, MeterRegistry registry) {
+        AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(
+            properties.getInitialLimit(),
+            properties.getMinLimit(),
+            properties.getMaxLimit(),
+            properties.getLatencyTolerance(),
+            TimeUnit.MILLISECONDS.toNanos(properties.getSampleWindowMs()),
+            properties.getBackoffRatio(),
+            properties.getMaxQueued()
+        );
+        Gauge.builder("orders.admission.limit", limiter, AimdConcurrencyLimiter::limit)
+            .description("Current concurrency limit for order intake")
+            .register(registry);
+        Gauge.builder("orders.admission.in_flight", limiter, AimdConcurrencyLimiter::inFlight)
+            .description("Order intake requests holding a permit")
+            .register(registry);
+        Gauge.builder("orders.admission.baseline_latency", limiter, l -> l.baselineNanos() / 1_000_000.0)
+            .description("Baseline order intake latency the limit is measured against")
+            .baseUnit("milliseconds")
+            .register(registry);
+        return limiter;
+    }
+
+    @Bean
+    WebMvcConfigurer orderAdmissionWebMvcConfigurer(
+        AimdConcurrencyLimiter orderAdmissionLimiter,
+        OrderMetrics orderMetrics,
+        OrderAdmissionProperties properties
+    ) {
+        OrderAdmissionInterceptor interceptor =
+            new OrderAdmissionInterceptor(orderAdmissionLimiter, orderMetrics, properties);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor).addPathPatterns("/orders");
+            }
+        };
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.admission")
+public class OrderAdmissionProperties {
+
+    private boolean enabled = false;
+    private int initialLimit = 10;
+    private int minLimit = 1;
+    private int maxLimit = 40;
+    private double latencyTolerance = 2.0;
+    private long sampleWindowMs = 1000;
+    private double backoffRatio = 0.9;
+    private int maxQueued = 50;
+    private long maxQueueWaitMs = 100;
+    private long retryAfterSeconds = 1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public long getSampleWindowMs() {
+        return sampleWindowMs;
+    }
+
+    public void setSampleWindowMs(long sampleWindowMs) {
+        this.sampleWindowMs = sampleWindowMs;
+    }
+
+    public double getBackoffRatio() {
+        return backoffRatio;
+    }
+
+    public void setBackoffRatio(double backoffRatio) {
+        this.backoffRatio = backoffRatio;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    public long getMaxQueueWaitMs() {
+        return maxQueueWaitMs;
+    }
+
+    public void setMaxQueueWaitMs(long maxQueueWaitMs) {
+        this.maxQueueWaitMs = maxQueueWaitMs;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
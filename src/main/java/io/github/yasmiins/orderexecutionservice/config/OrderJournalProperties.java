@@ -0,0 +1,46 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "order.journal")
+public class OrderJournalProperties {
+
+    private boolean enabled = false;
+    private Path directory = Path.of("data", "journal");
+    private long segmentSizeBytes = 64L * 1024 * 1024;
+    private long fsyncIntervalMs = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public void setDirectory(Path directory) {
+        this.directory = directory;
+    }
+
+    public long getSegmentSizeBytes() {
+        return segmentSizeBytes;
+    }
+
+    public void setSegmentSizeBytes(long segmentSizeBytes) {
+        this.segmentSizeBytes = segmentSizeBytes;
+    }
+
+    public long getFsyncIntervalMs() {
+        return fsyncIntervalMs;
+    }
+
+    public void setFsyncIntervalMs(long fsyncIntervalMs) {
+        this.fsyncIntervalMs = fsyncIntervalMs;
+    }
+}
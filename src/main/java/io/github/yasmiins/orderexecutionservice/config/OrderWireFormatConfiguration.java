@@ -0,0 +1,18 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.github.yasmiins.orderexecutionservice.web.OrderBinaryHttpMessageConverter;
+
+@Configuration(proxyBeanMethods = false)
+public class OrderWireFormatConfiguration implements WebMvcConfigurer {
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        // Appended after the JSON converter so that Accept: */* and missing Accept headers keep getting JSON;
+        // clients opt into binary by naming the media type explicitly.
+        builder.configureMessageConvertersList(converters -> converters.add(new OrderBinaryHttpMessageConverter()));
+    }
+}
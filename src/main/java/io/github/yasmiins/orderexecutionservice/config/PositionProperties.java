@@ -0,0 +1,30 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * In-memory per-symbol positions. {@code rebuild-fetch-size} is the number of executions fetched
+ * per round trip while the positions are rebuilt at startup.
+ */
+@ConfigurationProperties(prefix = "order.positions")
+public class PositionProperties {
+
+    private boolean enabled = true;
+    private int rebuildFetchSize = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getRebuildFetchSize() {
+        return rebuildFetchSize;
+    }
+
+    public void setRebuildFetchSize(int rebuildFetchSize) {
+        this.rebuildFetchSize = rebuildFetchSize;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import java.math.BigDecimal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Pre-trade risk limits. A limit left unset is not enforced, and none is set by default.
+ */
+@ConfigurationProperties(prefix = "order.risk")
+public class PreTradeRiskProperties {
+
+    private boolean enabled = true;
+    private BigDecimal maxAccountNotional;
+    private BigDecimal maxSymbolNotional;
+    private BigDecimal maxOpenQuantity;
+    private BigDecimal priceBandPercent;
+    private long rebuildIntervalMs = 60000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public BigDecimal getMaxAccountNotional() {
+        return maxAccountNotional;
+    }
+
+    public void setMaxAccountNotional(BigDecimal maxAccountNotional) {
+        this.maxAccountNotional = maxAccountNotional;
+    }
+
+    public BigDecimal getMaxSymbolNotional() {
+        return maxSymbolNotional;
+    }
+
+    public void setMaxSymbolNotional(BigDecimal maxSymbolNotional) {
+        this.maxSymbolNotional = maxSymbolNotional;
+    }
+
+    public BigDecimal getMaxOpenQuantity() {
+        return maxOpenQuantity;
+    }
+
+    public void setMaxOpenQuantity(BigDecimal maxOpenQuantity) {
+        this.maxOpenQuantity = maxOpenQuantity;
+    }
+
+    public BigDecimal getPriceBandPercent() {
+        return priceBandPercent;
+    }
+
+    public void setPriceBandPercent(BigDecimal priceBandPercent) {
+        this.priceBandPercent = priceBandPercent;
+    }
+
+    public long getRebuildIntervalMs() {
+        return rebuildIntervalMs;
+    }
+
+    public void setRebuildIntervalMs(long rebuildIntervalMs) {
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+}
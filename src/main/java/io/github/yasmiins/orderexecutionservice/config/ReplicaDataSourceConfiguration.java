@@ -0,0 +1,64 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits reads from writes when {@code order.datasource.replica.enabled=true}. The application
+ * {@link DataSource} is a {@link LazyConnectionDataSourceProxy}: connections are only fetched on
+ * first use, after the transaction has marked them read-only, and read-only connections come from
+ * the replica pool. Everything else, including Flyway, uses the primary pool from
+ * {@code spring.datasource.*}.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "order.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(
+        DataSourceProperties properties,
+        ObjectProvider<JdbcConnectionDetails> connectionDetails
+    ) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // Service connections (e.g. Testcontainers) take precedence over spring.datasource.*.
+        connectionDetails.ifAvailable(details -> {
+            dataSource.setJdbcUrl(details.getJdbcUrl());
+            dataSource.setUsername(details.getUsername());
+            dataSource.setPassword(details.getPassword());
+        });
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(properties.getUrl());
+        dataSource.setUsername(properties.getUsername());
+        dataSource.setPassword(properties.getPassword());
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.yasmiins.orderexecutionservice.config;
 
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,10 +12,18 @@ public class SimulatedFillProperties {
 
     private boolean enabled = true;
     private long tickMs = 1000;
+    private int triggerThreads = 2;
     private BigDecimal minFillPercent = new BigDecimal("0.25");
     private BigDecimal maxFillPercent = new BigDecimal("0.50");
     private BigDecimal defaultPrice = new BigDecimal("100");
     private Map<String, BigDecimal> prices = new HashMap<>();
+    private PriceFeed priceFeed = new PriceFeed();
+    private FillModel fillModel = new FillModel();
+    private WarmStart warmStart = new WarmStart();
+    private OpenOrderCursor openOrderCursor = new OpenOrderCursor();
+    private Sharding sharding = new Sharding();
+    private SkipLocked skipLocked = new SkipLocked();
+    private Profiling profiling = new Profiling();
 
     public boolean isEnabled() {
         return enabled;
@@ -32,6 +41,14 @@ public class SimulatedFillProperties {
         this.tickMs = tickMs;
     }
 
+    public int getTriggerThreads() {
+        return triggerThreads;
+    }
+
+    public void setTriggerThreads(int triggerThreads) {
+        this.triggerThreads = triggerThreads;
+    }
+
     public BigDecimal getMinFillPercent() {
         return minFillPercent;
     }
@@ -63,4 +80,415 @@ public class SimulatedFillProperties {
     public void setPrices(Map<String, BigDecimal> prices) {
         this.prices = prices;
     }
+
+    public PriceFeed getPriceFeed() {
+        return priceFeed;
+    }
+
+    public void setPriceFeed(PriceFeed priceFeed) {
+        this.priceFeed = priceFeed;
+    }
+
+    public FillModel getFillModel() {
+        return fillModel;
+    }
+
+    public void setFillModel(FillModel fillModel) {
+        this.fillModel = fillModel;
+    }
+
+    public WarmStart getWarmStart() {
+        return warmStart;
+    }
+
+    public void setWarmStart(WarmStart warmStart) {
+        this.warmStart = warmStart;
+    }
+
+    public OpenOrderCursor getOpenOrderCursor() {
+        return openOrderCursor;
+    }
+
+    public void setOpenOrderCursor(OpenOrderCursor openOrderCursor) {
+        this.openOrderCursor = openOrderCursor;
+    }
+
+    public Sharding getSharding() {
+        return sharding;
+    }
+
+    public void setSharding(Sharding sharding) {
+        this.sharding = sharding;
+    }
+
+    public SkipLocked getSkipLocked() {
+        return skipLocked;
+    }
+
+    public void setSkipLocked(SkipLocked skipLocked) {
+        this.skipLocked = skipLocked;
+    }
+
+    public Profiling getProfiling() {
+        return profiling;
+    }
+
+    public void setProfiling(Profiling profiling) {
+        this.profiling = profiling;
+    }
+
+    /**
+     * Market-data producer that feeds the latest-price cache. The default {@code static} type keeps
+     * the configured {@code prices} fixed.
+     */
+    public static class PriceFeed {
+
+        private String type = "static";
+        private long intervalMs = 250;
+        private BigDecimal volatility = new BigDecimal("0.001");
+        private BigDecimal tickSize = new BigDecimal("0.01");
+        private Long seed;
+        private Path file;
+        private double speed = 1.0;
+        private boolean loop = true;
+        private int port = 9876;
+
+        public String getType() {
+            return type;
+        }
+
+        public void setType(String type) {
+            this.type = type;
+        }
+
+        public long getIntervalMs() {
+            return intervalMs;
+        }
+
+        public void setIntervalMs(long intervalMs) {
+            this.intervalMs = intervalMs;
+        }
+
+        public BigDecimal getVolatility() {
+            return volatility;
+        }
+
+        public void setVolatility(BigDecimal volatility) {
+            this.volatility = volatility;
+        }
+
+        public BigDecimal getTickSize() {
+            return tickSize;
+        }
+
+        public void setTickSize(BigDecimal tickSize) {
+            this.tickSize = tickSize;
+        }
+
+        public Long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(Long seed) {
+            this.seed = seed;
+        }
+
+        public Path getFile() {
+            return file;
+        }
+
+        public void setFile(Path file) {
+            this.file = file;
+        }
+
+        public double getSpeed() {
+            return speed;
+        }
+
+        public void setSpeed(double speed) {
+            this.speed = speed;
+        }
+
+        public boolean isLoop() {
+            return loop;
+        }
+
+        public void setLoop(boolean loop) {
+            this.loop = loop;
+        }
+
+        public int getPort() {
+            return port;
+        }
+
+        public void setPort(int port) {
+            this.port = port;
+        }
+    }
+
+    /**
+     * How much of an order's remaining quantity a pass fills. Every distribution draws from a
+     * per-symbol random stream derived from {@code seed}, so a fixed seed replays the same fills.
+     */
+    public static class FillModel {
+
+        private Distribution distribution = Distribution.UNIFORM;
+        private Long seed;
+        private double arrivalRate = 1.0;
+        private BigDecimal referenceQuantity = new BigDecimal("100");
+        private double sizeExponent = 0.5;
+
+        public Distribution getDistribution() {
+            return distribution;
+        }
+
+        public void setDistribution(Distribution distribution) {
+            this.distribution = distribution;
+        }
+
+        public Long getSeed() {
+            return seed;
+        }
+
+        public void setSeed(Long seed) {
+            this.seed = seed;
+        }
+
+        public double getArrivalRate() {
+            return arrivalRate;
+        }
+
+        public void setArrivalRate(double arrivalRate) {
+            this.arrivalRate = arrivalRate;
+        }
+
+        public BigDecimal getReferenceQuantity() {
+            return referenceQuantity;
+        }
+
+        public void setReferenceQuantity(BigDecimal referenceQuantity) {
+            this.referenceQuantity = referenceQuantity;
+        }
+
+        public double getSizeExponent() {
+            return sizeExponent;
+        }
+
+        public void setSizeExponent(double sizeExponent) {
+            this.sizeExponent = sizeExponent;
+        }
+
+        public enum Distribution {
+            /**
+             * Fill a fraction of the remainder drawn uniformly from the min/max fill percent.
+             */
+            UNIFORM,
+            /**
+             * Draw a Poisson number of counterparty arrivals with mean {@code arrival-rate}; each
+             * takes a uniform fraction of what is left. No arrivals means no fill on this pass.
+             */
+            POISSON,
+            /**
+             * Uniform, scaled down by {@code (reference-quantity / remaining) ^ size-exponent} for
+             * remainders above {@code reference-quantity}, so large orders fill more slowly.
+             */
+            SIZE_DEPENDENT
+        }
+    }
+
+    /**
+     * In-memory open-order state restored at boot from a snapshot plus an {@code updated_at}
+     * catch-up, and used by the engine instead of scanning {@code orders} on every tick.
+     */
+    public static class WarmStart {
+
+        private boolean enabled = false;
+        private Path snapshotFile = Path.of("data", "snapshots", "open-orders.snap");
+        private long snapshotIntervalMs = 60000;
+        private long catchUpSkewMs = 5000;
+        private long reconcileIntervalMs = 300000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Path getSnapshotFile() {
+            return snapshotFile;
+        }
+
+        public void setSnapshotFile(Path snapshotFile) {
+            this.snapshotFile = snapshotFile;
+        }
+
+        public long getSnapshotIntervalMs() {
+            return snapshotIntervalMs;
+        }
+
+        public void setSnapshotIntervalMs(long snapshotIntervalMs) {
+            this.snapshotIntervalMs = snapshotIntervalMs;
+        }
+
+        public long getCatchUpSkewMs() {
+            return catchUpSkewMs;
+        }
+
+        public void setCatchUpSkewMs(long catchUpSkewMs) {
+            this.catchUpSkewMs = catchUpSkewMs;
+        }
+
+        public long getReconcileIntervalMs() {
+            return reconcileIntervalMs;
+        }
+
+        public void setReconcileIntervalMs(long reconcileIntervalMs) {
+            this.reconcileIntervalMs = reconcileIntervalMs;
+        }
+    }
+
+    /**
+     * Engine-side cache of open orders refreshed from rows whose {@code updated_at} moved since the
+     * previous read, for deployments without warm start. Each read overlaps the previous one by
+     * {@code overlap-ms} so rows from transactions that committed late are not missed.
+     */
+    public static class OpenOrderCursor {
+
+        private boolean enabled = false;
+        private long overlapMs = 5000;
+        private long fullReloadIntervalMs = 300000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getOverlapMs() {
+            return overlapMs;
+        }
+
+        public void setOverlapMs(long overlapMs) {
+            this.overlapMs = overlapMs;
+        }
+
+        public long getFullReloadIntervalMs() {
+            return fullReloadIntervalMs;
+        }
+
+        public void setFullReloadIntervalMs(long fullReloadIntervalMs) {
+            this.fullReloadIntervalMs = fullReloadIntervalMs;
+        }
+    }
+
+    /**
+     * Splits symbols across fill-engine instances sharing one database. Each node heartbeats every
+     * {@code heartbeat-ms} and holds {@code lease-ms} leases on its share of symbols; a node that
+     * stops heartbeating loses its leases, and its symbols move, once {@code lease-ms} has passed.
+     */
+    public static class Sharding {
+
+        private boolean enabled = false;
+        private String nodeId;
+        private long heartbeatMs = 5000;
+        private long leaseMs = 15000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getNodeId() {
+            return nodeId;
+        }
+
+        public void setNodeId(String nodeId) {
+            this.nodeId = nodeId;
+        }
+
+        public long getHeartbeatMs() {
+            return heartbeatMs;
+        }
+
+        public void setHeartbeatMs(long heartbeatMs) {
+            this.heartbeatMs = heartbeatMs;
+        }
+
+        public long getLeaseMs() {
+            return leaseMs;
+        }
+
+        public void setLeaseMs(long leaseMs) {
+            this.leaseMs = leaseMs;
+        }
+    }
+
+    /**
+     * Replaces the engine's scan-and-lock pass with {@code workers} threads that claim batches of
+     * {@code batch-size} open orders with {@code FOR UPDATE SKIP LOCKED} and fill them in the
+     * claiming transaction.
+     */
+    public static class SkipLocked {
+
+        private boolean enabled = false;
+        private int workers = 4;
+        private int batchSize = 200;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public void setWorkers(int workers) {
+            this.workers = workers;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+    }
+
+    /**
+     * Per-phase timing of fill passes, served at {@code /actuator/filltick}. Off by default; when
+     * off the engine only pays a field read per phase.
+     */
+    public static class Profiling {
+
+        private boolean enabled = false;
+        private int history = 50;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getHistory() {
+            return history;
+        }
+
+        public void setHistory(int history) {
+            this.history = history;
+        }
+    }
 }
@@ -0,0 +1,90 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import io.github.yasmiins.orderexecutionservice.service.DomainEventPublisher;
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillProcessor;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillTrigger;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+import io.github.yasmiins.orderexecutionservice.service.marketdata.LatestPriceCache;
+import io.github.yasmiins.orderexecutionservice.service.position.PositionKeeper;
+import io.github.yasmiins.orderexecutionservice.service.risk.PreTradeRiskEngine;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderStateStore;
+import io.github.yasmiins.orderexecutionservice.web.OrderController;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Startup tuning for {@code spring.main.lazy-initialization=true}. Everything on the order and fill
+ * path stays eager so the first order does not pay for context initialization; admin and actuator
+ * beans are created on first use. Beans that rebuild in-memory state at startup are listed too,
+ * rather than relying on Boot keeping {@code SmartInitializingSingleton} beans eager.
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfiguration {
+
+    private static final List<Class<?>> HOT_PATH_TYPES = List.of(
+        DataSource.class,
+        EntityManagerFactory.class,
+        AbstractEntityManagerFactoryBean.class,
+        Repository.class,
+        DispatcherServlet.class,
+        OrderController.class,
+        OrderService.class,
+        DomainEventPublisher.class,
+        OrderMetrics.class,
+        OrderJournal.class,
+        LatestPriceCache.class,
+        SimulatedFillEngine.class,
+        SimulatedFillProcessor.class,
+        SimulatedFillTrigger.class,
+        OpenOrderStateStore.class,
+        PreTradeRiskEngine.class,
+        PositionKeeper.class
+    );
+
+    @Bean
+    static LazyInitializationExcludeFilter hotPathLazyInitializationExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> isHotPath(beanType) || hasScheduledMethods(beanType);
+    }
+
+    private static boolean isHotPath(Class<?> beanType) {
+        for (Class<?> type : HOT_PATH_TYPES) {
+            if (type.isAssignableFrom(beanType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@code @Scheduled} methods are only registered when their bean is created, so a lazy bean
+     * would silently never run.
+     */
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        if (!AnnotationUtils.isCandidateClass(beanType, Scheduled.class)) {
+            return false;
+        }
+        return !MethodIntrospector.selectMethods(
+            beanType,
+            (MethodIntrospector.MetadataLookup<Boolean>) (Method method) ->
+                AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null
+        ).isEmpty();
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.yasmiins.orderexecutionservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-minute symbol statistics. Executions are summed in memory and written to
+ * {@code symbol_minute_stats} every {@code flush-interval-ms}.
+ */
+@ConfigurationProperties(prefix = "order.stats")
+public class SymbolStatsProperties {
+
+    private long flushIntervalMs = 1000;
+
+    public long getFlushIntervalMs() {
+        return flushIntervalMs;
+    }
+
+    public void setFlushIntervalMs(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+}
@@ -21,6 +21,8 @@ import jakarta.persistence.Version;
 @Table(name = "orders")
 public class Order {
 
+    public static final String DEFAULT_ACCOUNT = "default";
+
     @Id
     private UUID id;
 
@@ -31,6 +33,9 @@ public class Order {
     @Embedded
     private Instrument instrument;
 
+    @Column(nullable = false, length = 64)
+    private String account = DEFAULT_ACCOUNT;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 8)
     private OrderSide side;
@@ -122,6 +127,10 @@ public class Order {
         return instrument;
     }
 
+    public String getAccount() {
+        return account;
+    }
+
     public OrderSide getSide() {
         return side;
     }
@@ -154,6 +163,10 @@ public class Order {
         return updatedAt;
     }
 
+    public void setAccount(String account) {
+        this.account = account;
+    }
+
     public void setStatus(OrderStatus status) {
         this.status = status;
     }
@@ -0,0 +1,55 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import io.github.yasmiins.orderexecutionservice.config.PositionProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+
+/**
+ * Streams the full execution history with a server-side cursor, for rebuilding in-memory state
+ * without holding every execution in memory. PostgreSQL only uses a cursor inside a transaction,
+ * so callers must provide one; without it the driver reads the whole result at once.
+ */
+@Repository
+public class ExecutionHistoryRepository {
+
+    private static final String FILLS_SQL = """
+        SELECT e.symbol, o.side, e.quantity, e.price
+        FROM executions e JOIN orders o ON o.id = e.order_id
+        ORDER BY e.executed_at, e.id
+        """;
+
+    private final JdbcTemplate streamingTemplate;
+
+    public ExecutionHistoryRepository(DataSource dataSource, PositionProperties properties) {
+        // A template of its own, so the fetch size does not apply to other queries.
+        this.streamingTemplate = new JdbcTemplate(dataSource);
+        this.streamingTemplate.setFetchSize(Math.max(1, properties.getRebuildFetchSize()));
+    }
+
+    /**
+     * Passes every execution to {@code consumer} in execution order and returns how many there were.
+     */
+    public long forEachFill(Consumer<ExecutedFill> consumer) {
+        long[] count = new long[1];
+        streamingTemplate.query(FILLS_SQL, rs -> {
+            consumer.accept(new ExecutedFill(
+                rs.getString("symbol"),
+                OrderSide.valueOf(rs.getString("side")),
+                rs.getBigDecimal("quantity"),
+                rs.getBigDecimal("price")
+            ));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    public record ExecutedFill(String symbol, OrderSide side, BigDecimal quantity, BigDecimal price) {
+    }
+}
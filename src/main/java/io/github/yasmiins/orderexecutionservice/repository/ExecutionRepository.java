@@ -4,9 +4,32 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import io.github.yasmiins.orderexecutionservice.domain.Execution;
 
 public interface ExecutionRepository extends JpaRepository<Execution, UUID> {
     List<Execution> findByOrderId(UUID orderId);
+
+    /**
+     * Executions of an order plus volume-weighted average price, fill count, filled quantity and
+     * last fill time, in one pass over {@code idx_executions_order_id}. Returns no rows when the
+     * order does not exist.
+     */
+    @Query(value = """
+        SELECT e.id AS "executionId",
+               e.quantity AS quantity,
+               e.price AS price,
+               e.executed_at AS "executedAt",
+               COUNT(e.id) OVER () AS "fillCount",
+               ROUND(SUM(e.quantity * e.price) OVER () / NULLIF(SUM(e.quantity) OVER (), 0), 6) AS "averageFillPrice",
+               COALESCE(SUM(e.quantity) OVER (), 0) AS "filledQuantity",
+               MAX(e.executed_at) OVER () AS "lastFillAt"
+        FROM orders o
+        LEFT JOIN executions e ON e.order_id = o.id
+        WHERE o.id = :orderId
+        ORDER BY e.executed_at, e.id
+        """, nativeQuery = true)
+    List<ExecutionRow> findExecutionRows(@Param("orderId") UUID orderId);
 }
@@ -0,0 +1,28 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One execution of an order together with the order-wide fill aggregates, which repeat on every
+ * row. An order without executions yields a single row whose execution columns are null.
+ */
+public interface ExecutionRow {
+
+    UUID getExecutionId();
+
+    BigDecimal getQuantity();
+
+    BigDecimal getPrice();
+
+    Instant getExecutedAt();
+
+    long getFillCount();
+
+    BigDecimal getAverageFillPrice();
+
+    BigDecimal getFilledQuantity();
+
+    Instant getLastFillAt();
+}
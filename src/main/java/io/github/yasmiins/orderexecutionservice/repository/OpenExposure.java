@@ -0,0 +1,20 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * The part of an open order that counts against pre-trade risk limits.
+ */
+public record OpenExposure(
+    UUID id,
+    String account,
+    String symbol,
+    OrderType orderType,
+    BigDecimal quantity,
+    BigDecimal filledQuantity,
+    BigDecimal price
+) {
+}
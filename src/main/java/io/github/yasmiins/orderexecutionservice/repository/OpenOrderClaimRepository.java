@@ -0,0 +1,105 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrder;
+
+/**
+ * Claims batches of open orders for concurrent fill workers. Claimed rows stay locked until the
+ * caller's transaction ends, and rows locked by another transaction are skipped rather than waited
+ * for, so workers on any number of threads or nodes never claim the same order at the same time.
+ * Callers provide the transaction.
+ */
+@Repository
+public class OpenOrderClaimRepository {
+
+    private static final String CLAIM_SELECT = """
+        SELECT id, symbol, side, order_type, quantity, price, filled_quantity, status, created_at
+        FROM orders
+        WHERE status IN ('NEW', 'PARTIALLY_FILLED')
+          AND updated_at < ?
+          AND (created_at, id) > (?, ?)
+        """;
+
+    private static final String CLAIM_ORDER_AND_LOCK = """
+        ORDER BY created_at, id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private static final String CLAIM_SQL = CLAIM_SELECT + CLAIM_ORDER_AND_LOCK;
+    private static final String CLAIM_SYMBOLS_SQL = CLAIM_SELECT + "  AND symbol = ANY(?)\n" + CLAIM_ORDER_AND_LOCK;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OpenOrderClaimRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Database time, used as the start of a drain so that orders the drain itself fills, whose
+     * {@code updated_at} is stamped by the database, are not claimed again.
+     */
+    public Instant databaseNow() {
+        return jdbcTemplate.queryForObject("SELECT NOW()", Timestamp.class).toInstant();
+    }
+
+    /**
+     * Locks and returns up to {@code limit} open orders, oldest first, that come after
+     * {@code (afterCreatedAt, afterId)} and were last updated before {@code updatedBefore}.
+     * {@code symbols}, when not null, restricts the claim to those symbols.
+     */
+    public List<OpenOrder> claimOpenOrders(
+        Instant updatedBefore,
+        Instant afterCreatedAt,
+        UUID afterId,
+        Collection<String> symbols,
+        int limit
+    ) {
+        if (symbols == null) {
+            return jdbcTemplate.query(
+                CLAIM_SQL,
+                OpenOrderClaimRepository::mapOrder,
+                Timestamp.from(updatedBefore),
+                Timestamp.from(afterCreatedAt),
+                afterId,
+                limit
+            );
+        }
+        return jdbcTemplate.query(
+            CLAIM_SYMBOLS_SQL,
+            OpenOrderClaimRepository::mapOrder,
+            Timestamp.from(updatedBefore),
+            Timestamp.from(afterCreatedAt),
+            afterId,
+            symbols.toArray(String[]::new),
+            limit
+        );
+    }
+
+    private static OpenOrder mapOrder(ResultSet rs, int rowNum) throws SQLException {
+        return new OpenOrder(
+            rs.getObject("id", UUID.class),
+            rs.getString("symbol"),
+            OrderSide.valueOf(rs.getString("side")),
+            OrderType.valueOf(rs.getString("order_type")),
+            rs.getBigDecimal("quantity"),
+            rs.getBigDecimal("price"),
+            rs.getBigDecimal("filled_quantity"),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("created_at").toInstant()
+        );
+    }
+}
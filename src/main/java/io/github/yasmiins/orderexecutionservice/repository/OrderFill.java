@@ -0,0 +1,29 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+
+/**
+ * One simulated fill computed from an order's loaded state. {@code fromStatus} and
+ * {@code fromFilledQuantity} are that state; the fill only applies while the row still matches
+ * them. {@code fillQuantity} is zero for an order that only needs its status corrected to FILLED.
+ * {@code executedAt} is written as the execution time, so events and stored rows agree on it.
+ */
+public record OrderFill(
+    UUID orderId,
+    String symbol,
+    OrderSide side,
+    BigDecimal quantity,
+    OrderStatus fromStatus,
+    BigDecimal fromFilledQuantity,
+    BigDecimal fillQuantity,
+    BigDecimal filledQuantity,
+    OrderStatus status,
+    BigDecimal price,
+    Instant executedAt
+) {
+}
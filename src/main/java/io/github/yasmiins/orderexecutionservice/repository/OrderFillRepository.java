@@ -0,0 +1,86 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Writes simulated fills with JDBC batches instead of entity updates, so the fill engine needs no
+ * per-order read inside the fill transaction. Callers provide the transaction.
+ */
+@Repository
+public class OrderFillRepository {
+
+    /**
+     * Conditional update and execution insert in one statement; the insert count tells whether the
+     * update applied. Bumps {@code version} so in-flight entity updates fail their optimistic check.
+     */
+    private static final String FILL_SQL = """
+        WITH filled AS (
+            UPDATE orders SET filled_quantity = ?, status = ?, version = version + 1, updated_at = NOW()
+            WHERE id = ? AND status = ? AND filled_quantity = ?
+            RETURNING id, symbol
+        )
+        INSERT INTO executions (id, order_id, symbol, quantity, price, executed_at)
+        SELECT ?, id, symbol, ?, ?, ? FROM filled
+        """;
+
+    private static final String COMPLETE_SQL = """
+        UPDATE orders SET status = ?, version = version + 1, updated_at = NOW()
+        WHERE id = ? AND status = ? AND filled_quantity = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderFillRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Applies each fill whose order still has the status and filled quantity it was computed from,
+     * in at most two batched round trips, and returns which fills applied. Fills of orders changed
+     * since they were loaded, e.g. canceled, are skipped rather than failing the batch.
+     */
+    public boolean[] applyFills(List<OrderFill> fills) {
+        List<Object[]> executions = new ArrayList<>(fills.size());
+        List<Object[]> completions = new ArrayList<>();
+        for (OrderFill fill : fills) {
+            if (fill.fillQuantity().signum() > 0) {
+                executions.add(new Object[] {
+                    fill.filledQuantity(),
+                    fill.status().name(),
+                    fill.orderId(),
+                    fill.fromStatus().name(),
+                    fill.fromFilledQuantity(),
+                    UUID.randomUUID(),
+                    fill.fillQuantity(),
+                    fill.price(),
+                    Timestamp.from(fill.executedAt())
+                });
+            } else {
+                completions.add(new Object[] {
+                    fill.status().name(),
+                    fill.orderId(),
+                    fill.fromStatus().name(),
+                    fill.fromFilledQuantity()
+                });
+            }
+        }
+        int[] executionCounts = executions.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(FILL_SQL, executions);
+        int[] completionCounts = completions.isEmpty() ? new int[0] : jdbcTemplate.batchUpdate(COMPLETE_SQL, completions);
+
+        boolean[] applied = new boolean[fills.size()];
+        int execution = 0;
+        int completion = 0;
+        for (int i = 0; i < applied.length; i++) {
+            applied[i] = fills.get(i).fillQuantity().signum() > 0
+                ? executionCounts[execution++] > 0
+                : completionCounts[completion++] > 0;
+        }
+        return applied;
+    }
+}
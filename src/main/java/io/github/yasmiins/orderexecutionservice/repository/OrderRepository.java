@@ -1,20 +1,165 @@
 package io.github.yasmiins.orderexecutionservice.repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import io.github.yasmiins.orderexecutionservice.domain.Order;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrder;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
+    String ORDER_VIEW_SELECT = """
+        SELECT new io.github.yasmiins.orderexecutionservice.repository.OrderView(
+            o.id, o.instrument.symbol, o.side, o.orderType, o.quantity, o.filledQuantity, o.price, o.status,
+            o.createdAt, o.updatedAt
+        )
+        FROM Order o
+        """;
+
+    // Columns of OrderRow, for native statements that return the rows they changed.
+    String ORDER_ROW_RETURNING = """
+        RETURNING id, account, symbol, side, order_type AS "orderType", quantity, filled_quantity AS "filledQuantity",
+                  price, status, created_at AS "createdAt", updated_at AS "updatedAt"
+        """;
+
+    // Open-order loads feed the fill engine, warm start and the risk engine. They are not read-only so that they
+    // always run on the primary, even when a read replica is configured.
+    @Transactional
     List<Order> findByStatusIn(List<OrderStatus> statuses, Sort sort);
 
-    List<Order> findByInstrumentSymbol(String symbol, Sort sort);
+    @Query(ORDER_VIEW_SELECT + "WHERE o.id = :id")
+    Optional<OrderView> findViewById(@Param("id") UUID id);
+
+    @Query(ORDER_VIEW_SELECT)
+    List<OrderView> findAllViews(Sort sort);
+
+    @Query(ORDER_VIEW_SELECT + "WHERE o.instrument.symbol = :symbol")
+    List<OrderView> findViewsBySymbol(@Param("symbol") String symbol, Sort sort);
+
+    @Query(ORDER_VIEW_SELECT + "WHERE o.status = :status")
+    List<OrderView> findViewsByStatus(@Param("status") OrderStatus status, Sort sort);
+
+    @Query(ORDER_VIEW_SELECT + "WHERE o.instrument.symbol = :symbol AND o.status = :status")
+    List<OrderView> findViewsBySymbolAndStatus(
+        @Param("symbol") String symbol,
+        @Param("status") OrderStatus status,
+        Sort sort
+    );
+
+    @Transactional
+    List<Order> findByInstrumentSymbolAndStatusIn(String symbol, List<OrderStatus> statuses, Sort sort);
+
+    @Transactional
+    List<Order> findByInstrumentSymbolInAndStatusIn(Collection<String> symbols, List<OrderStatus> statuses, Sort sort);
+
+    @Query("SELECT DISTINCT o.instrument.symbol FROM Order o WHERE o.status IN :statuses")
+    @Transactional
+    List<String> findSymbolsWithStatusIn(@Param("statuses") List<OrderStatus> statuses);
+
+    @Query("""
+        SELECT new io.github.yasmiins.orderexecutionservice.service.state.OpenOrder(
+            o.id, o.instrument.symbol, o.side, o.orderType, o.quantity, o.price, o.filledQuantity, o.status, o.createdAt
+        )
+        FROM Order o
+        WHERE o.status IN :statuses
+        """)
+    @Transactional
+    List<OpenOrder> findOpenOrderState(@Param("statuses") List<OrderStatus> statuses);
+
+    /**
+     * Current state of the given orders, open or not, oldest first; the fill engine's load for
+     * orders it is asked to process by id.
+     */
+    @Query("""
+        SELECT new io.github.yasmiins.orderexecutionservice.service.state.OpenOrder(
+            o.id, o.instrument.symbol, o.side, o.orderType, o.quantity, o.price, o.filledQuantity, o.status, o.createdAt
+        )
+        FROM Order o
+        WHERE o.id IN :ids
+        ORDER BY o.createdAt
+        """)
+    @Transactional
+    List<OpenOrder> findOrderStateByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Every order touched after {@code after}, open or not, so callers can both add and evict.
+     */
+    @Query("""
+        SELECT new io.github.yasmiins.orderexecutionservice.service.state.OpenOrder(
+            o.id, o.instrument.symbol, o.side, o.orderType, o.quantity, o.price, o.filledQuantity, o.status, o.createdAt
+        )
+        FROM Order o
+        WHERE o.updatedAt > :after
+        """)
+    @Transactional
+    List<OpenOrder> findOrderStateUpdatedAfter(@Param("after") Instant after);
+
+    @Query("""
+        SELECT new io.github.yasmiins.orderexecutionservice.repository.OpenExposure(
+            o.id, o.account, o.instrument.symbol, o.orderType, o.quantity, o.filledQuantity, o.price
+        )
+        FROM Order o
+        WHERE o.status IN :statuses
+        """)
+    @Transactional
+    List<OpenExposure> findOpenExposures(@Param("statuses") List<OrderStatus> statuses);
+
+    /**
+     * Cancels one order if it is still open, in a single statement, and returns its new state.
+     * Empty when the order does not exist or is no longer open.
+     */
+    @Query(value = """
+        UPDATE orders SET status = 'CANCELED', version = version + 1, updated_at = NOW()
+        WHERE id = :id AND status IN ('NEW', 'PARTIALLY_FILLED')
+        """ + ORDER_ROW_RETURNING, nativeQuery = true)
+    Optional<OrderRow> cancelIfOpen(@Param("id") UUID id);
 
-    List<Order> findByStatus(OrderStatus status, Sort sort);
+    /**
+     * Cancels up to {@code limit} open orders matching the optional symbol and side filters in one
+     * statement and returns their new state. Bumps {@code version} so in-flight entity updates fail their
+     * optimistic check. The outer status check is re-evaluated against the latest row version, so
+     * an order filled concurrently is not canceled.
+     */
+    @Query(value = """
+        UPDATE orders SET status = 'CANCELED', version = version + 1, updated_at = NOW()
+        WHERE id IN (
+            SELECT id FROM orders
+            WHERE status IN ('NEW', 'PARTIALLY_FILLED')
+              AND (CAST(:symbol AS VARCHAR) IS NULL OR symbol = :symbol)
+              AND (CAST(:side AS VARCHAR) IS NULL OR side = :side)
+            LIMIT :limit
+        )
+        AND status IN ('NEW', 'PARTIALLY_FILLED')
+        """ + ORDER_ROW_RETURNING, nativeQuery = true)
+    List<OrderRow> cancelOpenOrders(
+        @Param("symbol") String symbol,
+        @Param("side") String side,
+        @Param("limit") int limit
+    );
 
-    List<Order> findByInstrumentSymbolAndStatus(String symbol, OrderStatus status, Sort sort);
+    /**
+     * Cancels the open orders among {@code ids} that also match the optional symbol and side
+     * filters and returns their new state.
+     */
+    @Query(value = """
+        UPDATE orders SET status = 'CANCELED', version = version + 1, updated_at = NOW()
+        WHERE id IN (:ids)
+          AND status IN ('NEW', 'PARTIALLY_FILLED')
+          AND (CAST(:symbol AS VARCHAR) IS NULL OR symbol = :symbol)
+          AND (CAST(:side AS VARCHAR) IS NULL OR side = :side)
+        """ + ORDER_ROW_RETURNING, nativeQuery = true)
+    List<OrderRow> cancelOpenOrdersByIds(
+        @Param("ids") List<UUID> ids,
+        @Param("symbol") String symbol,
+        @Param("side") String side
+    );
 }
@@ -0,0 +1,37 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * Order columns returned by native statements ({@code RETURNING ...}); see {@link OrderView#from(OrderRow)}.
+ */
+public interface OrderRow {
+
+    UUID getId();
+
+    String getAccount();
+
+    String getSymbol();
+
+    OrderSide getSide();
+
+    OrderType getOrderType();
+
+    BigDecimal getQuantity();
+
+    BigDecimal getFilledQuantity();
+
+    BigDecimal getPrice();
+
+    OrderStatus getStatus();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+}
@@ -0,0 +1,42 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * Read-only order row selected straight from a JPQL constructor expression, so list reads skip
+ * entity hydration and persistence-context bookkeeping.
+ */
+public record OrderView(
+    UUID id,
+    String symbol,
+    OrderSide side,
+    OrderType orderType,
+    BigDecimal quantity,
+    BigDecimal filledQuantity,
+    BigDecimal price,
+    OrderStatus status,
+    Instant createdAt,
+    Instant updatedAt
+) {
+
+    public static OrderView from(OrderRow row) {
+        return new OrderView(
+            row.getId(),
+            row.getSymbol(),
+            row.getSide(),
+            row.getOrderType(),
+            row.getQuantity(),
+            row.getFilledQuantity(),
+            row.getPrice(),
+            row.getStatus(),
+            row.getCreatedAt(),
+            row.getUpdatedAt()
+        );
+    }
+}
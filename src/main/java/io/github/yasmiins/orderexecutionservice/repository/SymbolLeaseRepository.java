@@ -0,0 +1,81 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Fill-engine cluster membership ({@code fill_nodes}) and per-symbol ownership leases
+ * ({@code symbol_leases}). All times come from the database clock, so nodes never compare their
+ * own clocks. Each call is its own auto-committed statement.
+ */
+@Repository
+public class SymbolLeaseRepository {
+
+    private static final String HEARTBEAT_SQL = """
+        INSERT INTO fill_nodes (node_id, heartbeat_at) VALUES (?, NOW())
+        ON CONFLICT (node_id) DO UPDATE SET heartbeat_at = NOW()
+        """;
+
+    private static final String LIVE_NODES_SQL = """
+        SELECT node_id FROM fill_nodes
+        WHERE heartbeat_at > NOW() - ? * INTERVAL '1 millisecond'
+        ORDER BY node_id
+        """;
+
+    /**
+     * Takes or renews a lease; the conflict update only applies to the holder's own lease or to an
+     * expired one, so a live lease of another node is never stolen.
+     */
+    private static final String CLAIM_SQL = """
+        INSERT INTO symbol_leases (symbol, owner, expires_at)
+        VALUES (?, ?, NOW() + ? * INTERVAL '1 millisecond')
+        ON CONFLICT (symbol) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at
+        WHERE symbol_leases.owner = EXCLUDED.owner OR symbol_leases.expires_at < NOW()
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SymbolLeaseRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void heartbeat(String nodeId) {
+        jdbcTemplate.update(HEARTBEAT_SQL, nodeId);
+    }
+
+    /**
+     * Nodes that sent a heartbeat within {@code ttl}, sorted by id. Rows of nodes silent for longer
+     * are deleted on the way.
+     */
+    public List<String> findLiveNodes(Duration ttl) {
+        jdbcTemplate.update("DELETE FROM fill_nodes WHERE heartbeat_at <= NOW() - ? * INTERVAL '1 millisecond'", ttl.toMillis());
+        return jdbcTemplate.queryForList(LIVE_NODES_SQL, String.class, ttl.toMillis());
+    }
+
+    /**
+     * Claims or renews the lease on {@code symbol} for {@code duration}; false when another node
+     * holds a live lease on it.
+     */
+    public boolean claim(String symbol, String nodeId, Duration duration) {
+        return jdbcTemplate.update(CLAIM_SQL, symbol, nodeId, duration.toMillis()) > 0;
+    }
+
+    public void release(String nodeId, Collection<String> symbols) {
+        for (String symbol : symbols) {
+            jdbcTemplate.update("DELETE FROM symbol_leases WHERE symbol = ? AND owner = ?", symbol, nodeId);
+        }
+    }
+
+    /**
+     * Drops every lease of the node and its membership row, so the others can rebalance on their
+     * next heartbeat instead of waiting for the leases to expire.
+     */
+    public void leave(String nodeId) {
+        jdbcTemplate.update("DELETE FROM symbol_leases WHERE owner = ?", nodeId);
+        jdbcTemplate.update("DELETE FROM fill_nodes WHERE node_id = ?", nodeId);
+    }
+}
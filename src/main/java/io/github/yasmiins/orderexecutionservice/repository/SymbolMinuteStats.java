@@ -0,0 +1,19 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Executions of one symbol within the minute starting at {@code minute}. {@code notional} is the
+ * sum of quantity times price, so volume-weighted averages of any span of minutes can be derived
+ * from the sums.
+ */
+public record SymbolMinuteStats(
+    Instant minute,
+    BigDecimal volume,
+    BigDecimal notional,
+    long tradeCount,
+    BigDecimal high,
+    BigDecimal low
+) {
+}
@@ -0,0 +1,85 @@
+package io.github.yasmiins.orderexecutionservice.repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Per-symbol, per-minute execution rollup in {@code symbol_minute_stats}, so that statistics never
+ * require a scan of {@code executions}. Callers provide the transaction.
+ */
+@Repository
+public class SymbolStatsRepository {
+
+    private static final String ADD_SQL = """
+        INSERT INTO symbol_minute_stats (symbol, minute_start, volume, notional, trade_count, high_price, low_price)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (symbol, minute_start) DO UPDATE SET
+            volume = symbol_minute_stats.volume + EXCLUDED.volume,
+            notional = symbol_minute_stats.notional + EXCLUDED.notional,
+            trade_count = symbol_minute_stats.trade_count + EXCLUDED.trade_count,
+            high_price = GREATEST(symbol_minute_stats.high_price, EXCLUDED.high_price),
+            low_price = LEAST(symbol_minute_stats.low_price, EXCLUDED.low_price)
+        """;
+
+    private static final String RECENT_SQL = """
+        SELECT minute_start, volume, notional, trade_count, high_price, low_price
+        FROM symbol_minute_stats
+        WHERE symbol = ? AND minute_start > date_trunc('minute', NOW()) - ? * INTERVAL '1 minute'
+        ORDER BY minute_start DESC
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SymbolStatsRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Adds each bucket's sums to the stored row of its symbol and minute, widening the high and
+     * low, in one batch written in the map's symbol order.
+     */
+    public void add(SortedMap<String, List<SymbolMinuteStats>> bucketsBySymbol) {
+        List<Object[]> rows = new ArrayList<>();
+        bucketsBySymbol.forEach((symbol, buckets) -> {
+            for (SymbolMinuteStats bucket : buckets) {
+                rows.add(new Object[] {
+                    symbol,
+                    Timestamp.from(bucket.minute()),
+                    bucket.volume(),
+                    bucket.notional(),
+                    bucket.tradeCount(),
+                    bucket.high(),
+                    bucket.low()
+                });
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(ADD_SQL, rows);
+        }
+    }
+
+    /**
+     * Buckets of {@code symbol} in the last {@code minutes} minutes, including the current one,
+     * newest first. Minutes without executions have no bucket.
+     */
+    public List<SymbolMinuteStats> findRecent(String symbol, int minutes) {
+        return jdbcTemplate.query(
+            RECENT_SQL,
+            (rs, rowNum) -> new SymbolMinuteStats(
+                rs.getTimestamp("minute_start").toInstant(),
+                rs.getBigDecimal("volume"),
+                rs.getBigDecimal("notional"),
+                rs.getLong("trade_count"),
+                rs.getBigDecimal("high_price"),
+                rs.getBigDecimal("low_price")
+            ),
+            symbol,
+            minutes
+        );
+    }
+}
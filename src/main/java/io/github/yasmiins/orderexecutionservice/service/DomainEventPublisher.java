@@ -1,5 +1,7 @@
 package io.github.yasmiins.orderexecutionservice.service;
 
+import java.util.List;
+
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.support.TransactionSynchronization;
@@ -30,4 +32,24 @@ public class DomainEventPublisher {
             }
         });
     }
+
+    /**
+     * Publishes the events in order after the surrounding transaction commits, using a single
+     * synchronization for the whole batch.
+     */
+    public void publishAllAfterCommit(List<?> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            events.forEach(publisher::publishEvent);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(publisher::publishEvent);
+            }
+        });
+    }
 }
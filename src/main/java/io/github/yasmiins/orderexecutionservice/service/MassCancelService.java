@@ -0,0 +1,143 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRow;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderCanceled;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+import io.github.yasmiins.orderexecutionservice.service.lifecycle.OrderLifecycleLogger;
+
+/**
+ * Cancels open orders in bulk with set-based {@code UPDATE ... RETURNING} statements. Each batch
+ * commits on its own so row locks stay short; events and journal entries go out once per batch,
+ * and each canceled order gets an {@code order_canceled} lifecycle record once its batch committed.
+ */
+@Service
+public class MassCancelService {
+
+    static final int BATCH_SIZE = 10_000;
+
+    private static final Logger log = LoggerFactory.getLogger(MassCancelService.class);
+
+    private final OrderRepository orderRepository;
+    private final DomainEventPublisher eventPublisher;
+    private final OrderJournal orderJournal;
+    private final OrderMetrics orderMetrics;
+    private final OrderLifecycleLogger lifecycleLog;
+    private final SymbolRegistry symbolRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public MassCancelService(
+        OrderRepository orderRepository,
+        DomainEventPublisher eventPublisher,
+        OrderJournal orderJournal,
+        OrderMetrics orderMetrics,
+        OrderLifecycleLogger lifecycleLog,
+        SymbolRegistry symbolRegistry,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.orderRepository = orderRepository;
+        this.eventPublisher = eventPublisher;
+        this.orderJournal = orderJournal;
+        this.orderMetrics = orderMetrics;
+        this.lifecycleLog = lifecycleLog;
+        this.symbolRegistry = symbolRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Cancels every open order matching all given filters. At least one filter is required.
+     *
+     * @return ids of the orders that were canceled by this call
+     */
+    public List<UUID> cancelOpenOrders(String symbol, OrderSide side, List<UUID> orderIds) {
+        String normalizedSymbol = normalizeSymbol(symbol);
+        String sideName = side == null ? null : side.name();
+        if (normalizedSymbol == null && side == null && (orderIds == null || orderIds.isEmpty())) {
+            throw new OrderValidationException("Mass cancel requires a symbol, side or order ids");
+        }
+
+        List<UUID> canceled = new ArrayList<>();
+        if (orderIds != null && !orderIds.isEmpty()) {
+            List<UUID> distinctIds = orderIds.stream().distinct().toList();
+            for (int from = 0; from < distinctIds.size(); from += BATCH_SIZE) {
+                List<UUID> chunk = distinctIds.subList(from, Math.min(from + BATCH_SIZE, distinctIds.size()));
+                canceled.addAll(runBatch(() -> orderRepository.cancelOpenOrdersByIds(chunk, normalizedSymbol, sideName)));
+            }
+        } else {
+            List<UUID> batch;
+            do {
+                batch = runBatch(() -> orderRepository.cancelOpenOrders(normalizedSymbol, sideName, BATCH_SIZE));
+                canceled.addAll(batch);
+            } while (!batch.isEmpty());
+        }
+
+        log.info(
+            "event=orders_mass_canceled symbol={} side={} requestedIds={} canceled={}",
+            normalizedSymbol,
+            sideName,
+            orderIds == null ? 0 : orderIds.size(),
+            canceled.size()
+        );
+        return canceled;
+    }
+
+    private List<UUID> runBatch(Supplier<List<OrderRow>> statement) {
+        List<OrderRow> rows = transactionTemplate.execute(status -> {
+            List<OrderRow> canceled = statement.get();
+            orderJournal.appendAllAfterCommit(
+                canceled.stream().map(row -> new JournalEntry.Cancel(row.getId())).toList()
+            );
+            eventPublisher.publishAllAfterCommit(
+                canceled.stream().map(row -> new OrderCanceled(row.getId())).toList()
+            );
+            return canceled;
+        });
+        // The batch has committed here.
+        orderMetrics.incrementCanceled(rows.size());
+        List<UUID> ids = new ArrayList<>(rows.size());
+        for (OrderRow row : rows) {
+            ids.add(row.getId());
+            // Open orders are PARTIALLY_FILLED exactly when something has been filled.
+            OrderStatus fromStatus = row.getFilledQuantity().signum() > 0
+                ? OrderStatus.PARTIALLY_FILLED
+                : OrderStatus.NEW;
+            lifecycleLog.info(
+                "order_canceled",
+                row.getId(),
+                row.getSymbol(),
+                fromStatus,
+                OrderStatus.CANCELED,
+                row.getFilledQuantity(),
+                row.getQuantity(),
+                row.getPrice(),
+                null
+            );
+        }
+        return ids;
+    }
+
+    private String normalizeSymbol(String symbol) {
+        if (symbol == null) {
+            return null;
+        }
+        String normalized = symbolRegistry.normalize(symbol);
+        if (normalized == null) {
+            throw new OrderValidationException("Symbol must be provided");
+        }
+        return normalized;
+    }
+}
@@ -13,8 +13,17 @@ public class OrderMetrics {
     private final Counter ordersCanceled;
     private final Counter ordersRejectedValidation;
     private final Counter ordersRejectedIdempotency;
+    private final Counter ordersRejectedRisk;
     private final Counter fillsCreatedPartial;
     private final Counter fillsCreatedFull;
+    private final Counter admissionAccepted;
+    private final Counter admissionQueued;
+    private final Counter admissionShed;
+    private final Counter rateLimitedOrderEntry;
+    private final Counter rateLimitedOrderQuery;
+    private final Counter lifecycleLogDropped;
+    private final Counter cursorRowsFull;
+    private final Counter cursorRowsIncremental;
 
     public OrderMetrics(MeterRegistry registry) {
         ordersAccepted = Counter.builder("orders.accepted")
@@ -31,6 +40,10 @@ public class OrderMetrics {
             .description("Orders rejected")
             .tag("reason", "idempotency")
             .register(registry);
+        ordersRejectedRisk = Counter.builder("orders.rejected")
+            .description("Orders rejected")
+            .tag("reason", "risk")
+            .register(registry);
         fillsCreatedPartial = Counter.builder("orders.fills.created")
             .description("Fills created")
             .tag("type", "partial")
@@ -39,6 +52,37 @@ public class OrderMetrics {
             .description("Fills created")
             .tag("type", "full")
             .register(registry);
+        admissionAccepted = Counter.builder("orders.admission")
+            .description("Order intake admission decisions")
+            .tag("outcome", "accepted")
+            .register(registry);
+        admissionQueued = Counter.builder("orders.admission")
+            .description("Order intake admission decisions")
+            .tag("outcome", "queued")
+            .register(registry);
+        admissionShed = Counter.builder("orders.admission")
+            .description("Order intake admission decisions")
+            .tag("outcome", "shed")
+            .register(registry);
+        rateLimitedOrderEntry = Counter.builder("orders.rate_limited")
+            .description("Requests rejected by per-client rate limits")
+            .tag("endpoint", "order_entry")
+            .register(registry);
+        rateLimitedOrderQuery = Counter.builder("orders.rate_limited")
+            .description("Requests rejected by per-client rate limits")
+            .tag("endpoint", "order_query")
+            .register(registry);
+        lifecycleLogDropped = Counter.builder("orders.lifecycle_log.dropped")
+            .description("Lifecycle log records dropped because the log buffer was full")
+            .register(registry);
+        cursorRowsFull = Counter.builder("orders.open_order_cursor.rows")
+            .description("Order rows read by the fill engine's open-order cursor")
+            .tag("read", "full")
+            .register(registry);
+        cursorRowsIncremental = Counter.builder("orders.open_order_cursor.rows")
+            .description("Order rows read by the fill engine's open-order cursor")
+            .tag("read", "incremental")
+            .register(registry);
     }
 
     public void incrementAccepted() {
@@ -49,6 +93,10 @@ public class OrderMetrics {
         ordersCanceled.increment();
     }
 
+    public void incrementCanceled(int count) {
+        ordersCanceled.increment(count);
+    }
+
     public void incrementRejectedValidation() {
         ordersRejectedValidation.increment();
     }
@@ -57,6 +105,38 @@ public class OrderMetrics {
         ordersRejectedIdempotency.increment();
     }
 
+    public void incrementRejectedRisk() {
+        ordersRejectedRisk.increment();
+    }
+
+    public void incrementAdmissionAccepted() {
+        admissionAccepted.increment();
+    }
+
+    public void incrementAdmissionQueued() {
+        admissionQueued.increment();
+    }
+
+    public void incrementAdmissionShed() {
+        admissionShed.increment();
+    }
+
+    public void incrementRateLimitedOrderEntry() {
+        rateLimitedOrderEntry.increment();
+    }
+
+    public void incrementRateLimitedOrderQuery() {
+        rateLimitedOrderQuery.increment();
+    }
+
+    public void incrementLifecycleLogDropped() {
+        lifecycleLogDropped.increment();
+    }
+
+    public void incrementCursorRowsRead(boolean fullReload, int rows) {
+        (fullReload ? cursorRowsFull : cursorRowsIncremental).increment(rows);
+    }
+
     public void incrementFillCreated(OrderStatus status) {
         if (status == OrderStatus.FILLED) {
             fillsCreatedFull.increment();
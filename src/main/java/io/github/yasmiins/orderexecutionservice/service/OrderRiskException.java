@@ -0,0 +1,8 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+public class OrderRiskException extends RuntimeException {
+
+    public OrderRiskException(String message) {
+        super(message);
+    }
+}
@@ -6,15 +6,13 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.List;
 import java.util.Locale;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import io.github.yasmiins.orderexecutionservice.config.OrderValidationProperties;
 import io.github.yasmiins.orderexecutionservice.domain.Instrument;
@@ -23,39 +21,67 @@ import io.github.yasmiins.orderexecutionservice.domain.Order;
 import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
 import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRow;
 import io.github.yasmiins.orderexecutionservice.repository.IdempotencyRecordRepository;
 import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRow;
+import io.github.yasmiins.orderexecutionservice.repository.OrderView;
 import io.github.yasmiins.orderexecutionservice.service.event.OrderAccepted;
 import io.github.yasmiins.orderexecutionservice.service.event.OrderCanceled;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+import io.github.yasmiins.orderexecutionservice.service.lifecycle.OrderLifecycleLogger;
+import io.github.yasmiins.orderexecutionservice.service.risk.PreTradeRiskEngine;
 
 @Service
 public class OrderService {
 
     private static final BigDecimal ZERO = BigDecimal.ZERO;
     private static final String NULL_VALUE = "<null>";
-    private static final String LIFECYCLE_LOG_TEMPLATE =
-        "event={} orderId={} symbol={} fromStatus={} toStatus={} filledQuantity={} quantity={} price={} idempotencyKey={}";
-    private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+    private static final int MAX_ACCOUNT_LENGTH = 64;
 
     private final OrderRepository orderRepository;
+    private final ExecutionRepository executionRepository;
     private final IdempotencyRecordRepository idempotencyRecordRepository;
     private final DomainEventPublisher eventPublisher;
+    private final OrderJournal orderJournal;
     private final OrderMetrics orderMetrics;
-    private final Set<String> supportedSymbols;
+    private final OrderLifecycleLogger lifecycleLog;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final PreTradeRiskEngine riskEngine;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryReadTransaction;
+    private final SymbolRegistry symbolRegistry;
     private final BigDecimal maxOrderSize;
 
     public OrderService(
         OrderRepository orderRepository,
+        ExecutionRepository executionRepository,
         IdempotencyRecordRepository idempotencyRecordRepository,
         OrderValidationProperties validationProperties,
+        SymbolRegistry symbolRegistry,
         DomainEventPublisher eventPublisher,
-        OrderMetrics orderMetrics
+        OrderJournal orderJournal,
+        OrderMetrics orderMetrics,
+        OrderLifecycleLogger lifecycleLog,
+        ReadYourWritesTracker readYourWritesTracker,
+        PreTradeRiskEngine riskEngine,
+        PlatformTransactionManager transactionManager
     ) {
         this.orderRepository = orderRepository;
+        this.executionRepository = executionRepository;
         this.idempotencyRecordRepository = idempotencyRecordRepository;
         this.eventPublisher = eventPublisher;
+        this.orderJournal = orderJournal;
         this.orderMetrics = orderMetrics;
-        this.supportedSymbols = normalizeSymbols(validationProperties.getSupportedSymbols());
+        this.lifecycleLog = lifecycleLog;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.riskEngine = riskEngine;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.primaryReadTransaction = new TransactionTemplate(transactionManager);
+        this.symbolRegistry = symbolRegistry;
         this.maxOrderSize = validationProperties.getMaxOrderSize();
     }
 
@@ -67,13 +93,31 @@ public class OrderService {
         BigDecimal price,
         OrderType orderType
     ) {
-        OrderCreationData data = validateAndPrepare(symbol, side, quantity, price, orderType);
-        Order order = buildOrder(UUID.randomUUID(), data);
+        return createOrder(Order.DEFAULT_ACCOUNT, symbol, side, quantity, price, orderType);
+    }
+
+    @Transactional
+    public Order createOrder(
+        String account,
+        String symbol,
+        OrderSide side,
+        BigDecimal quantity,
+        BigDecimal price,
+        OrderType orderType
+    ) {
+        OrderCreationData data = validateAndPrepare(account, symbol, side, quantity, price, orderType);
+        UUID orderId = UUID.randomUUID();
+        reserveRisk(orderId, data);
+        Order order = buildOrder(orderId, data);
         Order saved = orderRepository.save(order);
-        eventPublisher.publishAfterCommit(new OrderAccepted(saved.getId()));
+        // Journal first: its subscribers (the warm open-order state) must see the order before the
+        // fill trigger reacts to OrderAccepted.
+        orderJournal.appendAfterCommit(JournalEntry.Create.of(saved));
+        eventPublisher.publishAfterCommit(
+            new OrderAccepted(saved.getId(), saved.getInstrument().getSymbol(), saved.getAccount())
+        );
         orderMetrics.incrementAccepted();
-        log.info(
-            LIFECYCLE_LOG_TEMPLATE,
+        lifecycleLog.info(
             "order_accepted",
             saved.getId(),
             saved.getInstrument().getSymbol(),
@@ -95,19 +139,40 @@ public class OrderService {
         BigDecimal quantity,
         BigDecimal price,
         OrderType orderType
+    ) {
+        return createOrderWithIdempotency(
+            idempotencyKey,
+            Order.DEFAULT_ACCOUNT,
+            symbol,
+            side,
+            quantity,
+            price,
+            orderType
+        );
+    }
+
+    @Transactional
+    public Order createOrderWithIdempotency(
+        String idempotencyKey,
+        String account,
+        String symbol,
+        OrderSide side,
+        BigDecimal quantity,
+        BigDecimal price,
+        OrderType orderType
     ) {
         String trimmedKey = trimKey(idempotencyKey);
         if (trimmedKey == null) {
-            return createOrder(symbol, side, quantity, price, orderType);
+            return createOrder(account, symbol, side, quantity, price, orderType);
         }
 
-        String fingerprint = fingerprint(symbol, side, quantity, price, orderType);
+        String fingerprint = fingerprint(account, symbol, side, quantity, price, orderType);
         IdempotencyRecord existing = idempotencyRecordRepository.findById(trimmedKey).orElse(null);
         if (existing != null) {
             return resolveIdempotentReplay(existing, fingerprint);
         }
 
-        OrderCreationData data = validateAndPrepare(symbol, side, quantity, price, orderType);
+        OrderCreationData data = validateAndPrepare(account, symbol, side, quantity, price, orderType);
         UUID orderId = UUID.randomUUID();
         int inserted = idempotencyRecordRepository.insertIfAbsent(trimmedKey, fingerprint, orderId);
         if (inserted == 0) {
@@ -116,12 +181,15 @@ public class OrderService {
             return resolveIdempotentReplay(current, fingerprint);
         }
 
+        reserveRisk(orderId, data);
         Order order = buildOrder(orderId, data);
         Order saved = orderRepository.save(order);
-        eventPublisher.publishAfterCommit(new OrderAccepted(saved.getId()));
+        orderJournal.appendAfterCommit(JournalEntry.Create.of(saved));
+        eventPublisher.publishAfterCommit(
+            new OrderAccepted(saved.getId(), saved.getInstrument().getSymbol(), saved.getAccount())
+        );
         orderMetrics.incrementAccepted();
-        log.info(
-            LIFECYCLE_LOG_TEMPLATE,
+        lifecycleLog.info(
             "order_accepted",
             saved.getId(),
             saved.getInstrument().getSymbol(),
@@ -135,55 +203,93 @@ public class OrderService {
         return saved;
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Reads through a read-only transaction (replica when configured) unless the order was written
+     * recently, in which case the read goes to the primary.
+     */
     public Order getOrder(UUID orderId) {
-        return orderRepository.findById(orderId)
-            .orElseThrow(() -> new OrderNotFoundException(orderId));
+        TransactionTemplate transaction = readYourWritesTracker.requiresPrimary(orderId)
+            ? primaryReadTransaction
+            : readOnlyTransaction;
+        return transaction.execute(status -> orderRepository.findById(orderId)
+            .orElseThrow(() -> new OrderNotFoundException(orderId)));
+    }
+
+    /**
+     * Same routing as {@link #getOrder}: fills of a recently written order are read from the primary.
+     */
+    public List<ExecutionRow> getExecutions(UUID orderId) {
+        TransactionTemplate transaction = readYourWritesTracker.requiresPrimary(orderId)
+            ? primaryReadTransaction
+            : readOnlyTransaction;
+        List<ExecutionRow> rows = transaction.execute(status -> executionRepository.findExecutionRows(orderId));
+        if (rows.isEmpty()) {
+            throw new OrderNotFoundException(orderId);
+        }
+        return rows;
+    }
+
+    /**
+     * Lists orders through a read-only transaction, or from the primary while {@code account} has
+     * created or canceled an order within the read-your-writes window.
+     */
+    public List<OrderView> getOrders(String account, String symbol, OrderStatus status) {
+        TransactionTemplate transaction = readYourWritesTracker.requiresPrimaryForAccount(account)
+            ? primaryReadTransaction
+            : readOnlyTransaction;
+        return transaction.execute(tx -> findOrders(symbol, status));
     }
 
-    @Transactional(readOnly = true)
-    public List<Order> getOrders(String symbol, OrderStatus status) {
+    private List<OrderView> findOrders(String symbol, OrderStatus status) {
         String normalizedSymbol = normalizeSymbolFilter(symbol);
         Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
         if (normalizedSymbol != null && status != null) {
-            return orderRepository.findByInstrumentSymbolAndStatus(normalizedSymbol, status, sort);
+            return orderRepository.findViewsBySymbolAndStatus(normalizedSymbol, status, sort);
         }
         if (normalizedSymbol != null) {
-            return orderRepository.findByInstrumentSymbol(normalizedSymbol, sort);
+            return orderRepository.findViewsBySymbol(normalizedSymbol, sort);
         }
         if (status != null) {
-            return orderRepository.findByStatus(status, sort);
+            return orderRepository.findViewsByStatus(status, sort);
         }
-        return orderRepository.findAll(sort);
+        return orderRepository.findAllViews(sort);
     }
 
+    /**
+     * Cancels with one conditional {@code UPDATE ... RETURNING}; the order is only read again when
+     * the update matched nothing, to tell a missing order from one that is no longer open.
+     */
     @Transactional
-    public Order cancelOrder(UUID orderId) {
-        Order order = getOrder(orderId);
-        OrderStatus status = order.getStatus();
-        if (status == OrderStatus.CANCELED) {
-            return order;
-        }
-        if (status == OrderStatus.FILLED || status == OrderStatus.REJECTED) {
-            throw new OrderStateException("Order in status " + status + " cannot be canceled");
+    public OrderView cancelOrder(UUID orderId) {
+        OrderRow row = orderRepository.cancelIfOpen(orderId).orElse(null);
+        if (row == null) {
+            OrderView current = orderRepository.findViewById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId));
+            if (current.status() == OrderStatus.CANCELED) {
+                return current;
+            }
+            throw new OrderStateException("Order in status " + current.status() + " cannot be canceled");
         }
-        order.setStatus(OrderStatus.CANCELED);
-        Order saved = orderRepository.save(order);
-        eventPublisher.publishAfterCommit(new OrderCanceled(saved.getId()));
+        OrderView canceled = OrderView.from(row);
+        // Open orders are PARTIALLY_FILLED exactly when something has been filled.
+        OrderStatus fromStatus = canceled.filledQuantity().signum() > 0
+            ? OrderStatus.PARTIALLY_FILLED
+            : OrderStatus.NEW;
+        orderJournal.appendAfterCommit(new JournalEntry.Cancel(canceled.id()));
+        eventPublisher.publishAfterCommit(new OrderCanceled(canceled.id(), row.getAccount()));
         orderMetrics.incrementCanceled();
-        log.info(
-            LIFECYCLE_LOG_TEMPLATE,
+        lifecycleLog.info(
             "order_canceled",
-            saved.getId(),
-            saved.getInstrument().getSymbol(),
-            status,
-            saved.getStatus(),
-            saved.getFilledQuantity(),
-            saved.getQuantity(),
-            saved.getPrice(),
+            canceled.id(),
+            canceled.symbol(),
+            fromStatus,
+            canceled.status(),
+            canceled.filledQuantity(),
+            canceled.quantity(),
+            canceled.price(),
             null
         );
-        return saved;
+        return canceled;
     }
 
     private Order resolveIdempotentReplay(IdempotencyRecord record, String fingerprint) {
@@ -198,8 +304,7 @@ public class OrderService {
             BigDecimal quantity = existingOrder == null ? null : existingOrder.getQuantity();
             BigDecimal price = existingOrder == null ? null : existingOrder.getPrice();
             orderMetrics.incrementRejectedIdempotency();
-            log.warn(
-                LIFECYCLE_LOG_TEMPLATE,
+            lifecycleLog.warn(
                 "idempotency_conflict",
                 record.getOrderId(),
                 symbol,
@@ -214,10 +319,12 @@ public class OrderService {
                 "Idempotency key already used with different request payload"
             );
         }
-        return getOrder(record.getOrderId());
+        return orderRepository.findById(record.getOrderId())
+            .orElseThrow(() -> new OrderNotFoundException(record.getOrderId()));
     }
 
     private OrderCreationData validateAndPrepare(
+        String account,
         String symbol,
         OrderSide side,
         BigDecimal quantity,
@@ -225,30 +332,22 @@ public class OrderService {
         OrderType orderType
     ) {
         OrderType resolvedType = resolveOrderType(orderType);
-        String normalizedSymbol = normalizeSymbol(symbol);
-        validateSymbol(normalizedSymbol);
+        Instrument instrument = resolveInstrument(symbol);
         validateSide(side);
         validateQuantity(quantity);
         validateOrderSize(quantity);
         validatePrice(resolvedType, price);
-        return new OrderCreationData(normalizedSymbol, side, resolvedType, quantity, price);
+        return new OrderCreationData(normalizeAccount(account), instrument, side, resolvedType, quantity, price);
+    }
+
+    private void reserveRisk(UUID orderId, OrderCreationData data) {
+        riskEngine.reserve(orderId, data.account(), data.instrument().getSymbol(), data.orderType(), data.quantity(), data.price());
     }
 
     private Order buildOrder(UUID id, OrderCreationData data) {
-        if (id == null) {
-            return new Order(
-                new Instrument(data.symbol()),
-                data.side(),
-                data.orderType(),
-                data.quantity(),
-                data.price(),
-                ZERO,
-                OrderStatus.NEW
-            );
-        }
-        return new Order(
+        Order order = new Order(
             id,
-            new Instrument(data.symbol()),
+            data.instrument(),
             data.side(),
             data.orderType(),
             data.quantity(),
@@ -256,6 +355,8 @@ public class OrderService {
             ZERO,
             OrderStatus.NEW
         );
+        order.setAccount(data.account());
+        return order;
     }
 
     private String trimKey(String key) {
@@ -266,7 +367,12 @@ public class OrderService {
         return trimmed.isEmpty() ? null : trimmed;
     }
 
+    /**
+     * The account only enters the fingerprint when it is not the default one, so records written
+     * before orders carried an account still match their retries.
+     */
     private String fingerprint(
+        String account,
         String symbol,
         OrderSide side,
         BigDecimal quantity,
@@ -283,6 +389,10 @@ public class OrderService {
         appendFingerprint(builder, normalizedQuantity);
         appendFingerprint(builder, normalizedPrice);
         appendFingerprint(builder, resolvedOrderType == null ? null : resolvedOrderType.name());
+        String normalizedAccount = normalizeAccountForFingerprint(account);
+        if (!Order.DEFAULT_ACCOUNT.equals(normalizedAccount)) {
+            appendFingerprint(builder, normalizedAccount);
+        }
         return sha256Hex(builder.toString());
     }
 
@@ -292,6 +402,10 @@ public class OrderService {
     }
 
     private String normalizeSymbolForFingerprint(String symbol) {
+        SymbolRegistry.RegisteredSymbol registered = symbolRegistry.lookup(symbol);
+        if (registered != null) {
+            return registered.symbol();
+        }
         if (symbol == null) {
             return null;
         }
@@ -302,6 +416,13 @@ public class OrderService {
         return trimmed.toUpperCase(Locale.ROOT);
     }
 
+    private String normalizeAccountForFingerprint(String account) {
+        if (account == null || account.isBlank()) {
+            return Order.DEFAULT_ACCOUNT;
+        }
+        return account.trim();
+    }
+
     private String normalizeNumberForFingerprint(BigDecimal value) {
         if (value == null) {
             return null;
@@ -324,10 +445,20 @@ public class OrderService {
         return hex.toString();
     }
 
-    private void validateSymbol(String symbol) {
-        if (!supportedSymbols.isEmpty() && !supportedSymbols.contains(symbol)) {
-            throw new OrderValidationException("Unsupported symbol: " + symbol);
+    /**
+     * Supported symbols resolve to their shared {@link Instrument} without normalizing; only
+     * unknown input, or any symbol when no supported list is configured, takes the slow path.
+     */
+    private Instrument resolveInstrument(String symbol) {
+        SymbolRegistry.RegisteredSymbol registered = symbolRegistry.lookup(symbol);
+        if (registered != null) {
+            return registered.instrument();
         }
+        String normalizedSymbol = normalizeSymbol(symbol);
+        if (symbolRegistry.isRestricted()) {
+            throw new OrderValidationException("Unsupported symbol: " + normalizedSymbol);
+        }
+        return new Instrument(normalizedSymbol);
     }
 
     private void validateOrderSize(BigDecimal quantity) {
@@ -369,7 +500,22 @@ public class OrderService {
         return trimmed.toUpperCase(Locale.ROOT);
     }
 
+    private String normalizeAccount(String account) {
+        if (account == null || account.isBlank()) {
+            return Order.DEFAULT_ACCOUNT;
+        }
+        String trimmed = account.trim();
+        if (trimmed.length() > MAX_ACCOUNT_LENGTH) {
+            throw new OrderValidationException("Account must be at most " + MAX_ACCOUNT_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
     private String normalizeSymbolFilter(String symbol) {
+        SymbolRegistry.RegisteredSymbol registered = symbolRegistry.lookup(symbol);
+        if (registered != null) {
+            return registered.symbol();
+        }
         if (symbol == null) {
             return null;
         }
@@ -380,22 +526,13 @@ public class OrderService {
         return trimmed.toUpperCase(Locale.ROOT);
     }
 
-    private Set<String> normalizeSymbols(List<String> symbols) {
-        if (symbols == null || symbols.isEmpty()) {
-            return Set.of();
-        }
-        return symbols.stream()
-            .map(value -> value.trim().toUpperCase(Locale.ROOT))
-            .filter(value -> !value.isEmpty())
-            .collect(Collectors.toUnmodifiableSet());
-    }
-
     private OrderType resolveOrderType(OrderType orderType) {
         return orderType != null ? orderType : OrderType.LIMIT;
     }
 
     private record OrderCreationData(
-        String symbol,
+        String account,
+        Instrument instrument,
         OrderSide side,
         OrderType orderType,
         BigDecimal quantity,
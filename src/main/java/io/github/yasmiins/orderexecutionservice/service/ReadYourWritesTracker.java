@@ -0,0 +1,107 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.ReplicaDataSourceProperties;
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderAccepted;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderCanceled;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderFilled;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderPartiallyFilled;
+
+/**
+ * Staleness policy for replica reads: an order written within the last
+ * {@code order.datasource.replica.read-your-writes-window-ms} is read from the primary, so a client
+ * always sees its own create or cancel even while the replica lags. Order lists follow the same
+ * window per account, for accounts that created or canceled an order. Inactive without a replica.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final Map<UUID, Long> writtenAt = new ConcurrentHashMap<>();
+    private final Map<String, Long> accountWrittenAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(ReplicaDataSourceProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(properties.getReadYourWritesWindowMs());
+    }
+
+    @EventListener
+    public void onAccepted(OrderAccepted event) {
+        recordWrite(event.orderId());
+        recordAccountWrite(event.account());
+    }
+
+    @EventListener
+    public void onCanceled(OrderCanceled event) {
+        recordWrite(event.orderId());
+        if (event.account() != null) {
+            recordAccountWrite(event.account());
+        }
+    }
+
+    @EventListener
+    public void onPartiallyFilled(OrderPartiallyFilled event) {
+        recordWrite(event.orderId());
+    }
+
+    @EventListener
+    public void onFilled(OrderFilled event) {
+        recordWrite(event.orderId());
+    }
+
+    void recordWrite(UUID orderId) {
+        if (enabled) {
+            writtenAt.put(orderId, System.nanoTime());
+        }
+    }
+
+    void recordAccountWrite(String account) {
+        if (enabled) {
+            accountWrittenAt.put(normalizeAccount(account), System.nanoTime());
+        }
+    }
+
+    /**
+     * Whether reads of {@code orderId} must go to the primary to observe a recent write.
+     */
+    public boolean requiresPrimary(UUID orderId) {
+        if (!enabled) {
+            return false;
+        }
+        Long at = writtenAt.get(orderId);
+        return at != null && System.nanoTime() - at < windowNanos;
+    }
+
+    /**
+     * Whether order lists read on behalf of {@code account} must go to the primary, because that
+     * account created or canceled an order recently. A missing account is the default one.
+     */
+    public boolean requiresPrimaryForAccount(String account) {
+        if (!enabled) {
+            return false;
+        }
+        Long at = accountWrittenAt.get(normalizeAccount(account));
+        return at != null && System.nanoTime() - at < windowNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${order.datasource.replica.read-your-writes-window-ms:5000}")
+    void evictExpired() {
+        long now = System.nanoTime();
+        writtenAt.values().removeIf(at -> now - at >= windowNanos);
+        accountWrittenAt.values().removeIf(at -> now - at >= windowNanos);
+    }
+
+    private static String normalizeAccount(String account) {
+        return account == null || account.isBlank() ? Order.DEFAULT_ACCOUNT : account.trim();
+    }
+}
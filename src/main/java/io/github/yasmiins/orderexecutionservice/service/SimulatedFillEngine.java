@@ -1,8 +1,13 @@
 package io.github.yasmiins.orderexecutionservice.service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -10,12 +15,19 @@ import java.util.stream.Collectors;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
-import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
 import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
 import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.fill.SkipLockedFillDrainer;
+import io.github.yasmiins.orderexecutionservice.service.marketdata.PriceSource;
+import io.github.yasmiins.orderexecutionservice.service.profiling.FillTickProfiler;
+import io.github.yasmiins.orderexecutionservice.service.shard.SymbolShardCoordinator;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrder;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderCursor;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderStateStore;
 
 @Service
 @ConditionalOnProperty(name = "simulator.enabled", havingValue = "true", matchIfMissing = true)
@@ -25,63 +37,302 @@ public class SimulatedFillEngine {
         OrderStatus.NEW,
         OrderStatus.PARTIALLY_FILLED
     );
+    private static final Sort OPEN_ORDER_SORT = Sort.by(Sort.Direction.ASC, "createdAt");
+    // Orders per fill transaction; bounds how long one batch holds its row locks.
+    private static final int FILL_BATCH_SIZE = 500;
+    private static final Comparator<OpenOrder> FIFO = Comparator.comparing(
+        OpenOrder::createdAt,
+        Comparator.nullsFirst(Comparator.naturalOrder())
+    );
 
     private final OrderRepository orderRepository;
-    private final SimulatedFillProperties properties;
+    private final PriceSource priceSource;
     private final SimulatedFillProcessor processor;
+    private final OpenOrderStateStore stateStore;
+    private final OpenOrderCursor openOrderCursor;
+    private final SymbolShardCoordinator shardCoordinator;
+    private final SkipLockedFillDrainer drainer;
+    private final FillTickProfiler profiler;
     private final Map<String, ReentrantLock> symbolLocks = new ConcurrentHashMap<>();
+    private final Map<String, RestingLimits> restingLimits = new ConcurrentHashMap<>();
 
     public SimulatedFillEngine(
         OrderRepository orderRepository,
-        SimulatedFillProperties properties,
-        SimulatedFillProcessor processor
+        PriceSource priceSource,
+        SimulatedFillProcessor processor,
+        OpenOrderStateStore stateStore,
+        OpenOrderCursor openOrderCursor,
+        SymbolShardCoordinator shardCoordinator,
+        SkipLockedFillDrainer drainer,
+        FillTickProfiler profiler
     ) {
         this.orderRepository = orderRepository;
-        this.properties = properties;
+        this.priceSource = priceSource;
         this.processor = processor;
+        this.stateStore = stateStore;
+        this.openOrderCursor = openOrderCursor;
+        this.shardCoordinator = shardCoordinator;
+        this.drainer = drainer;
+        this.profiler = profiler;
     }
 
     public void processOpenOrders() {
-        List<Order> openOrders = orderRepository.findByStatusIn(
-            OPEN_STATUSES,
-            Sort.by(Sort.Direction.ASC, "createdAt")
-        );
+        boolean profiled = profiler.beginPass("tick");
+        try {
+            scanOpenOrders();
+        } finally {
+            if (profiled) {
+                profiler.endPass();
+            }
+        }
+    }
+
+    private void scanOpenOrders() {
+        restingLimits.keySet().removeIf(symbol -> !shardCoordinator.owns(symbol));
+        if (stateStore.isReady()) {
+            restingLimits.keySet().retainAll(stateStore.symbols());
+            for (String symbol : stateStore.symbols()) {
+                if (shardCoordinator.owns(symbol)) {
+                    processSymbol(symbol);
+                }
+            }
+            return;
+        }
+        if (drainer.isEnabled()) {
+            // Claimed orders bypass the symbol locks and leave no resting limits behind; every
+            // scheduled pass drains all open orders instead.
+            restingLimits.clear();
+            profiler.enter("claim_drain");
+            try {
+                drainer.drain();
+            } finally {
+                profiler.exit("claim_drain");
+            }
+            return;
+        }
+        if (openOrderCursor.isEnabled()) {
+            refreshCursor();
+            restingLimits.keySet().retainAll(openOrderCursor.symbols());
+            for (String symbol : openOrderCursor.symbols()) {
+                if (!shardCoordinator.owns(symbol)) {
+                    continue;
+                }
+                List<OpenOrder> orders = fifo(openOrderCursor.ordersFor(symbol));
+                if (orders.isEmpty()) {
+                    restingLimits.remove(symbol);
+                } else {
+                    processWithLock(symbol, orders);
+                }
+            }
+            return;
+        }
+
+        List<Order> openOrders;
+        profiler.enter("find_open_orders");
+        try {
+            openOrders = findOwnedOpenOrders();
+        } finally {
+            profiler.exit("find_open_orders");
+        }
         if (openOrders.isEmpty()) {
+            restingLimits.clear();
             return;
         }
 
-        Map<String, List<Order>> ordersBySymbol = openOrders.stream()
-            .collect(Collectors.groupingBy(order -> order.getInstrument().getSymbol()));
+        Map<String, List<OpenOrder>> ordersBySymbol;
+        profiler.enter("group_by_symbol");
+        try {
+            ordersBySymbol = openOrders.stream()
+                .map(OpenOrder::from)
+                .collect(Collectors.groupingBy(OpenOrder::symbol));
+        } finally {
+            profiler.exit("group_by_symbol");
+        }
 
+        restingLimits.keySet().retainAll(ordersBySymbol.keySet());
         ordersBySymbol.forEach(this::processWithLock);
     }
 
-    void processWithLock(String symbol, List<Order> orders) {
-        ReentrantLock lock = symbolLocks.computeIfAbsent(symbol, key -> new ReentrantLock());
-        lock.lock();
+    public void processSymbol(String symbol) {
+        if (!shardCoordinator.owns(symbol)) {
+            restingLimits.remove(symbol);
+            return;
+        }
+        boolean profiled = profiler.beginPass("symbol");
+        try {
+            List<OpenOrder> orders;
+            profiler.enter("find_open_orders");
+            try {
+                orders = loadOpenOrders(symbol);
+            } finally {
+                profiler.exit("find_open_orders");
+            }
+            if (orders.isEmpty()) {
+                restingLimits.remove(symbol);
+                return;
+            }
+            processWithLock(symbol, orders);
+        } finally {
+            if (profiled) {
+                profiler.endPass();
+            }
+        }
+    }
+
+    /**
+     * Processes just the given orders of one symbol, e.g. orders that were accepted since the last
+     * pass. The orders may leave new resting limits behind, so the symbol's resting limits become
+     * unknown until the next full pass.
+     */
+    public void processOrders(String symbol, Collection<UUID> orderIds) {
+        if (!shardCoordinator.owns(symbol)) {
+            return;
+        }
+        boolean profiled = profiler.beginPass("orders");
+        profiler.enter(symbol);
+        ReentrantLock lock = lockSymbol(symbol);
+        try {
+            List<OpenOrder> orders;
+            profiler.enter("find_open_orders");
+            try {
+                orders = orderRepository.findOrderStateByIdIn(orderIds);
+            } finally {
+                profiler.exit("find_open_orders");
+            }
+            applyFills(orders, priceSource.latestPrice(symbol));
+            restingLimits.put(symbol, RestingLimits.UNKNOWN);
+        } finally {
+            lock.unlock();
+            profiler.exit(symbol);
+            if (profiled) {
+                profiler.endPass();
+            }
+        }
+    }
+
+    /**
+     * Whether a move to {@code price} makes at least one resting limit order seen on the last pass
+     * over {@code symbol} marketable. Unknown limits count as crossed so that a full pass refreshes them.
+     */
+    public boolean crossesRestingLimit(String symbol, BigDecimal price) {
+        RestingLimits limits = restingLimits.get(symbol);
+        return limits != null && (limits == RestingLimits.UNKNOWN || limits.crossedBy(price));
+    }
+
+    private List<OpenOrder> loadOpenOrders(String symbol) {
+        if (stateStore.isReady()) {
+            return fifo(stateStore.ordersFor(symbol));
+        }
+        if (openOrderCursor.isEnabled()) {
+            openOrderCursor.refresh();
+            return fifo(openOrderCursor.ordersFor(symbol));
+        }
+        return orderRepository.findByInstrumentSymbolAndStatusIn(symbol, OPEN_STATUSES, OPEN_ORDER_SORT).stream()
+            .map(OpenOrder::from)
+            .toList();
+    }
+
+    private List<Order> findOwnedOpenOrders() {
+        if (!shardCoordinator.isEnabled()) {
+            return orderRepository.findByStatusIn(OPEN_STATUSES, OPEN_ORDER_SORT);
+        }
+        Set<String> owned = shardCoordinator.ownedSymbols();
+        if (owned.isEmpty()) {
+            return List.of();
+        }
+        return orderRepository.findByInstrumentSymbolInAndStatusIn(owned, OPEN_STATUSES, OPEN_ORDER_SORT);
+    }
+
+    private void refreshCursor() {
+        profiler.enter("find_open_orders");
+        try {
+            openOrderCursor.refresh();
+        } finally {
+            profiler.exit("find_open_orders");
+        }
+    }
+
+    private static List<OpenOrder> fifo(Collection<OpenOrder> cached) {
+        List<OpenOrder> orders = new ArrayList<>(cached);
+        orders.sort(FIFO);
+        return orders;
+    }
+
+    void processWithLock(String symbol, List<OpenOrder> orders) {
+        profiler.enter(symbol);
+        ReentrantLock lock = lockSymbol(symbol);
         try {
             processOrdersForSymbol(symbol, orders);
         } finally {
             lock.unlock();
+            profiler.exit(symbol);
         }
     }
 
-    void processOrdersForSymbol(String symbol, List<Order> orders) {
-        var price = resolvePrice(symbol);
-        for (Order order : orders) {
+    void processOrdersForSymbol(String symbol, List<OpenOrder> orders) {
+        var price = priceSource.latestPrice(symbol);
+        applyFills(orders, price);
+        restingLimits.put(symbol, RestingLimits.of(orders, price));
+    }
+
+    private ReentrantLock lockSymbol(String symbol) {
+        ReentrantLock lock = symbolLocks.computeIfAbsent(symbol, key -> new ReentrantLock());
+        profiler.enter("lock_wait");
+        try {
+            lock.lock();
+        } finally {
+            profiler.exit("lock_wait");
+        }
+        return lock;
+    }
+
+    /**
+     * Fills the orders from their loaded state, one transaction and one batched write per
+     * {@link #FILL_BATCH_SIZE} orders. The profiled {@code apply_fills} frame wraps the transactional
+     * call, so its self time is transaction begin and commit.
+     */
+    private void applyFills(List<OpenOrder> orders, BigDecimal price) {
+        for (int from = 0; from < orders.size(); from += FILL_BATCH_SIZE) {
+            List<OpenOrder> batch = orders.subList(from, Math.min(orders.size(), from + FILL_BATCH_SIZE));
+            profiler.enter("apply_fills");
             try {
-                processor.processOrder(order.getId(), price);
-            } catch (ObjectOptimisticLockingFailureException ex) {
-                // Another concurrent update won the race; skip this order for now.
+                processor.processOrders(batch, price);
+            } finally {
+                profiler.exit("apply_fills");
             }
         }
     }
 
-    private BigDecimal resolvePrice(String symbol) {
-        Map<String, BigDecimal> prices = properties.getPrices();
-        if (prices != null && prices.containsKey(symbol)) {
-            return prices.get(symbol);
+    /**
+     * Best resting BUY and SELL limits left behind by a pass. A price at or below the best bid, or
+     * at or above the best ask, would trade at least one of them.
+     */
+    record RestingLimits(BigDecimal bestBid, BigDecimal bestAsk) {
+
+        static final RestingLimits UNKNOWN = new RestingLimits(null, null);
+
+        static RestingLimits of(List<OpenOrder> orders, BigDecimal lastPrice) {
+            BigDecimal bestBid = null;
+            BigDecimal bestAsk = null;
+            for (OpenOrder order : orders) {
+                BigDecimal limit = order.price();
+                if (order.orderType() != OrderType.LIMIT || limit == null) {
+                    continue;
+                }
+                if (order.side() == OrderSide.BUY) {
+                    if (limit.compareTo(lastPrice) < 0 && (bestBid == null || limit.compareTo(bestBid) > 0)) {
+                        bestBid = limit;
+                    }
+                } else if (limit.compareTo(lastPrice) > 0 && (bestAsk == null || limit.compareTo(bestAsk) < 0)) {
+                    bestAsk = limit;
+                }
+            }
+            return new RestingLimits(bestBid, bestAsk);
+        }
+
+        boolean crossedBy(BigDecimal price) {
+            return (bestBid != null && price.compareTo(bestBid) <= 0)
+                || (bestAsk != null && price.compareTo(bestAsk) >= 0);
         }
-        return properties.getDefaultPrice();
     }
 }
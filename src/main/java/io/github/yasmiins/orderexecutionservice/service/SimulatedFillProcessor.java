@@ -2,145 +2,230 @@ package io.github.yasmiins.orderexecutionservice.service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.Objects;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
-import io.github.yasmiins.orderexecutionservice.domain.Execution;
-import io.github.yasmiins.orderexecutionservice.domain.Order;
 import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
 import io.github.yasmiins.orderexecutionservice.domain.OrderType;
-import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderFill;
+import io.github.yasmiins.orderexecutionservice.repository.OrderFillRepository;
 import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.event.ExecutionCreated;
 import io.github.yasmiins.orderexecutionservice.service.event.OrderFilled;
 import io.github.yasmiins.orderexecutionservice.service.event.OrderPartiallyFilled;
+import io.github.yasmiins.orderexecutionservice.service.fill.FillSizeModel;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+import io.github.yasmiins.orderexecutionservice.service.lifecycle.OrderLifecycleLogger;
+import io.github.yasmiins.orderexecutionservice.service.profiling.FillTickProfiler;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrder;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderStateStore;
 
 @Service
 public class SimulatedFillProcessor {
 
     private static final int SCALE = 6;
-    private static final String LIFECYCLE_LOG_TEMPLATE =
-        "event={} orderId={} symbol={} fromStatus={} toStatus={} filledQuantity={} quantity={} price={} idempotencyKey={}";
-    private static final Logger log = LoggerFactory.getLogger(SimulatedFillProcessor.class);
+    private static final double FRACTION_UNITS = 1_000_000d;
 
     private final OrderRepository orderRepository;
-    private final ExecutionRepository executionRepository;
-    private final SimulatedFillProperties properties;
+    private final OrderFillRepository orderFillRepository;
+    private final FillSizeModel fillSizeModel;
     private final DomainEventPublisher eventPublisher;
+    private final OrderJournal orderJournal;
     private final OrderMetrics orderMetrics;
+    private final OrderLifecycleLogger lifecycleLog;
+    private final OpenOrderStateStore stateStore;
+    private final FillTickProfiler profiler;
 
     public SimulatedFillProcessor(
         OrderRepository orderRepository,
-        ExecutionRepository executionRepository,
-        SimulatedFillProperties properties,
+        OrderFillRepository orderFillRepository,
+        FillSizeModel fillSizeModel,
         DomainEventPublisher eventPublisher,
-        OrderMetrics orderMetrics
+        OrderJournal orderJournal,
+        OrderMetrics orderMetrics,
+        OrderLifecycleLogger lifecycleLog,
+        OpenOrderStateStore stateStore,
+        FillTickProfiler profiler
     ) {
         this.orderRepository = orderRepository;
-        this.executionRepository = executionRepository;
-        this.properties = properties;
+        this.orderFillRepository = orderFillRepository;
+        this.fillSizeModel = fillSizeModel;
         this.eventPublisher = eventPublisher;
+        this.orderJournal = orderJournal;
         this.orderMetrics = orderMetrics;
+        this.lifecycleLog = lifecycleLog;
+        this.stateStore = stateStore;
+        this.profiler = profiler;
     }
 
+    /**
+     * Loads one order and fills it if it is open and marketable at {@code price}.
+     */
     @Transactional
     public void processOrder(UUID orderId, BigDecimal price) {
-        Order order = orderRepository.findById(orderId).orElse(null);
-        if (order == null) {
-            return;
-        }
+        processOrders(orderRepository.findOrderStateByIdIn(List.of(orderId)), price);
+    }
 
-        OrderStatus beforeStatus = order.getStatus();
-        if (beforeStatus == OrderStatus.CANCELED
-            || beforeStatus == OrderStatus.REJECTED
-            || beforeStatus == OrderStatus.FILLED) {
-            return;
+    /**
+     * Fills the marketable orders among {@code orders}, using the given state as loaded instead of
+     * reading each order again. All fills are written in one batch; a fill is only applied, and
+     * only journaled, logged and published, if its order still has the loaded status and filled
+     * quantity, so an order canceled or filled elsewhere in the meantime is skipped, and reloaded
+     * into the warm open-order state that missed the change. Each execution is published as an
+     * {@link ExecutionCreated} event after commit.
+     */
+    @Transactional
+    public void processOrders(List<OpenOrder> orders, BigDecimal price) {
+        // One execution time per batch, at the precision Postgres stores.
+        Instant executedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        List<OrderFill> fills = new ArrayList<>();
+        for (OpenOrder order : orders) {
+            if (order.isOpen() && isMarketable(order, price)) {
+                OrderFill fill = nextFill(order, price, executedAt);
+                if (fill != null) {
+                    fills.add(fill);
+                }
+            }
         }
-
-        if (!isMarketable(order, price)) {
+        if (fills.isEmpty()) {
             return;
         }
 
-        BigDecimal remaining = order.getQuantity().subtract(order.getFilledQuantity());
-        if (remaining.signum() <= 0) {
-            if (beforeStatus != OrderStatus.FILLED) {
-                order.setStatus(OrderStatus.FILLED);
-                Order saved = orderRepository.save(order);
-                log.info(
-                    LIFECYCLE_LOG_TEMPLATE,
-                    "order_filled",
-                    saved.getId(),
-                    saved.getInstrument().getSymbol(),
-                    beforeStatus,
-                    saved.getStatus(),
-                    saved.getFilledQuantity(),
-                    saved.getQuantity(),
-                    price,
-                    null
-                );
-                publishStatusTransition(beforeStatus, OrderStatus.FILLED, order.getId());
+        boolean[] applied;
+        profiler.enter("write_fills");
+        try {
+            applied = orderFillRepository.applyFills(fills);
+        } finally {
+            profiler.exit("write_fills");
+        }
+        List<OrderFill> appliedFills = new ArrayList<>(fills.size());
+        List<UUID> staleOrderIds = new ArrayList<>();
+        for (int i = 0; i < applied.length; i++) {
+            if (applied[i]) {
+                appliedFills.add(fills.get(i));
+            } else {
+                staleOrderIds.add(fills.get(i).orderId());
+            }
+        }
+        stateStore.reload(staleOrderIds);
+        List<ExecutionCreated> executions = new ArrayList<>(appliedFills.size());
+        for (OrderFill fill : appliedFills) {
+            afterFill(fill);
+            if (fill.fillQuantity().signum() > 0) {
+                executions.add(new ExecutionCreated(
+                    fill.orderId(),
+                    fill.symbol(),
+                    fill.side(),
+                    fill.fillQuantity(),
+                    fill.price(),
+                    fill.executedAt()
+                ));
             }
-            return;
         }
+        eventPublisher.publishAllAfterCommit(executions);
+    }
 
+    /**
+     * The fill for one pass over {@code order}, or {@code null} when the fill model draws no fill.
+     */
+    private OrderFill nextFill(OpenOrder order, BigDecimal price, Instant executedAt) {
+        BigDecimal remaining = order.quantity().subtract(order.filledQuantity());
+        if (remaining.signum() <= 0) {
+            return new OrderFill(
+                order.id(),
+                order.symbol(),
+                order.side(),
+                order.quantity(),
+                order.status(),
+                order.filledQuantity(),
+                BigDecimal.ZERO,
+                order.filledQuantity(),
+                OrderStatus.FILLED,
+                price,
+                executedAt
+            );
+        }
         BigDecimal fillQuantity = calculateFillQuantity(order, remaining);
-        Execution execution = new Execution(
-            order,
-            order.getInstrument(),
+        if (fillQuantity.signum() == 0) {
+            return null;
+        }
+        BigDecimal newFilled = order.filledQuantity().add(fillQuantity);
+        OrderStatus nextStatus = newFilled.compareTo(order.quantity()) >= 0
+            ? OrderStatus.FILLED
+            : OrderStatus.PARTIALLY_FILLED;
+        return new OrderFill(
+            order.id(),
+            order.symbol(),
+            order.side(),
+            order.quantity(),
+            order.status(),
+            order.filledQuantity(),
             fillQuantity,
-            price
+            newFilled,
+            nextStatus,
+            price,
+            executedAt
         );
-        executionRepository.save(execution);
+    }
 
-        BigDecimal newFilled = order.getFilledQuantity().add(fillQuantity);
-        order.setFilledQuantity(newFilled);
-        OrderStatus nextStatus = newFilled.compareTo(order.getQuantity()) >= 0
-            ? OrderStatus.FILLED
-            : OrderStatus.PARTIALLY_FILLED;
-        order.setStatus(nextStatus);
-        Order saved = orderRepository.save(order);
-        orderMetrics.incrementFillCreated(nextStatus);
-        if (beforeStatus != nextStatus) {
-            String event = nextStatus == OrderStatus.FILLED ? "order_filled" : "order_partially_filled";
-            log.info(
-                LIFECYCLE_LOG_TEMPLATE,
+    private void afterFill(OrderFill fill) {
+        if (fill.fillQuantity().signum() > 0) {
+            orderMetrics.incrementFillCreated(fill.status());
+        }
+        if (fill.fromStatus() != fill.status()) {
+            String event = fill.status() == OrderStatus.FILLED ? "order_filled" : "order_partially_filled";
+            lifecycleLog.info(
                 event,
-                saved.getId(),
-                saved.getInstrument().getSymbol(),
-                beforeStatus,
-                nextStatus,
-                saved.getFilledQuantity(),
-                saved.getQuantity(),
-                price,
+                fill.orderId(),
+                fill.symbol(),
+                fill.fromStatus(),
+                fill.status(),
+                fill.filledQuantity(),
+                fill.quantity(),
+                fill.price(),
                 null
             );
         }
-        publishStatusTransition(beforeStatus, nextStatus, order.getId());
+        orderJournal.appendAfterCommit(new JournalEntry.Fill(
+            fill.orderId(),
+            fill.fillQuantity(),
+            fill.price(),
+            fill.filledQuantity(),
+            fill.status()
+        ));
+        publishStatusTransition(fill.fromStatus(), fill.status(), fill.orderId());
     }
 
-    private boolean isMarketable(Order order, BigDecimal price) {
-        if (order.getOrderType() == OrderType.MARKET) {
+    private boolean isMarketable(OpenOrder order, BigDecimal price) {
+        if (order.orderType() == OrderType.MARKET) {
             return true;
         }
-        BigDecimal limitPrice = order.getPrice();
+        BigDecimal limitPrice = order.price();
         if (limitPrice == null) {
             return false;
         }
-        if (order.getSide() == OrderSide.BUY) {
+        if (order.side() == OrderSide.BUY) {
             return limitPrice.compareTo(price) >= 0;
         }
         return limitPrice.compareTo(price) <= 0;
     }
 
-    private BigDecimal calculateFillQuantity(Order order, BigDecimal remaining) {
-        BigDecimal percent = resolveFillPercent(order);
-        BigDecimal filled = remaining.multiply(percent).setScale(SCALE, RoundingMode.DOWN);
+    private BigDecimal calculateFillQuantity(OpenOrder order, BigDecimal remaining) {
+        double fraction = fillSizeModel.nextFillFraction(order.symbol(), remaining);
+        if (fraction <= 0.0) {
+            return BigDecimal.ZERO;
+        }
+        // Round the fraction to millionths so the multiply stays on small unscaled longs.
+        BigDecimal share = BigDecimal.valueOf(Math.round(fraction * FRACTION_UNITS), SCALE);
+        BigDecimal filled = remaining.multiply(share).setScale(SCALE, RoundingMode.DOWN);
         if (filled.signum() == 0) {
             return remaining;
         }
@@ -150,26 +235,6 @@ public class SimulatedFillProcessor {
         return filled;
     }
 
-    private BigDecimal resolveFillPercent(Order order) {
-        BigDecimal min = properties.getMinFillPercent();
-        BigDecimal max = properties.getMaxFillPercent();
-        int minBp = toBasisPoints(min);
-        int maxBp = toBasisPoints(max);
-        if (maxBp < minBp) {
-            int temp = maxBp;
-            maxBp = minBp;
-            minBp = temp;
-        }
-        int range = maxBp - minBp;
-        int hash = Math.abs(Objects.hash(order.getId(), order.getFilledQuantity()));
-        int pick = range == 0 ? minBp : minBp + (hash % (range + 1));
-        return BigDecimal.valueOf(pick).movePointLeft(2);
-    }
-
-    private int toBasisPoints(BigDecimal value) {
-        return value.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
-    }
-
     private void publishStatusTransition(OrderStatus before, OrderStatus after, UUID orderId) {
         if (before == after) {
             return;
@@ -4,6 +4,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * Periodic safety-net pass over every open order. Latency-sensitive work is driven by
+ * {@link SimulatedFillTrigger}; this tick picks up anything an event did not cover, such as the
+ * remainder of partially filled orders.
+ */
 @Component
 @ConditionalOnProperty(name = "simulator.enabled", havingValue = "true", matchIfMissing = true)
 @ConditionalOnProperty(name = "simulator.scheduling.enabled", havingValue = "true", matchIfMissing = true)
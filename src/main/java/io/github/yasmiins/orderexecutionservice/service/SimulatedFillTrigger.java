@@ -0,0 +1,133 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderAccepted;
+import io.github.yasmiins.orderexecutionservice.service.event.PriceChanged;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs fill work for a single symbol as soon as something that can produce a fill happens.
+ * Accepted orders are queued and processed by id, so a new order does not wait behind a scan of
+ * the whole symbol; a price move that crosses a resting limit requests a full pass for the symbol.
+ * Wakeups are coalesced per symbol: a symbol has at most one task queued or running, so a hot
+ * symbol never holds more than one trigger thread. Events that arrive while its task runs are
+ * picked up by a single follow-up task, submitted behind other symbols' work once the pass ends.
+ */
+@Component
+@ConditionalOnProperty(name = "simulator.enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(name = "simulator.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SimulatedFillTrigger {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulatedFillTrigger.class);
+
+    private final SimulatedFillEngine engine;
+    private final ExecutorService executor;
+    private final Map<String, SymbolWakeup> wakeups = new ConcurrentHashMap<>();
+
+    public SimulatedFillTrigger(SimulatedFillEngine engine, SimulatedFillProperties properties) {
+        this.engine = engine;
+        this.executor = Executors.newFixedThreadPool(
+            Math.max(1, properties.getTriggerThreads()),
+            Thread.ofPlatform().name("fill-trigger-", 0).daemon(true).factory()
+        );
+    }
+
+    @EventListener
+    public void onOrderAccepted(OrderAccepted event) {
+        if (event.symbol() == null) {
+            return;
+        }
+        SymbolWakeup wakeup = wakeupFor(event.symbol());
+        wakeup.accepted.add(event.orderId());
+        schedule(event.symbol(), wakeup);
+    }
+
+    @EventListener
+    public void onPriceChanged(PriceChanged event) {
+        if (engine.crossesRestingLimit(event.symbol(), event.price())) {
+            requestPass(event.symbol());
+        }
+    }
+
+    public void requestPass(String symbol) {
+        if (symbol == null) {
+            return;
+        }
+        SymbolWakeup wakeup = wakeupFor(symbol);
+        wakeup.fullPass.set(true);
+        schedule(symbol, wakeup);
+    }
+
+    private SymbolWakeup wakeupFor(String symbol) {
+        return wakeups.computeIfAbsent(symbol, key -> new SymbolWakeup());
+    }
+
+    private void schedule(String symbol, SymbolWakeup wakeup) {
+        if (!wakeup.running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> run(symbol, wakeup));
+        } catch (RejectedExecutionException ex) {
+            wakeup.running.set(false);
+        }
+    }
+
+    private void run(String symbol, SymbolWakeup wakeup) {
+        boolean fullPass = wakeup.fullPass.getAndSet(false);
+        List<UUID> accepted = new ArrayList<>();
+        UUID orderId;
+        while ((orderId = wakeup.accepted.poll()) != null) {
+            accepted.add(orderId);
+        }
+        try {
+            if (fullPass) {
+                // A full pass also covers any orders accepted since the last run.
+                engine.processSymbol(symbol);
+            } else if (!accepted.isEmpty()) {
+                engine.processOrders(symbol, accepted);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Event-driven fill pass failed for symbol {}", symbol, ex);
+        } finally {
+            // Events that arrived during the pass could not schedule while it ran; resubmit for them.
+            wakeup.running.set(false);
+            if (wakeup.hasWork()) {
+                schedule(symbol, wakeup);
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class SymbolWakeup {
+        private final AtomicBoolean running = new AtomicBoolean();
+        private final AtomicBoolean fullPass = new AtomicBoolean();
+        private final Queue<UUID> accepted = new ConcurrentLinkedQueue<>();
+
+        private boolean hasWork() {
+            return fullPass.get() || !accepted.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.OrderValidationProperties;
+import io.github.yasmiins.orderexecutionservice.domain.Instrument;
+
+/**
+ * Canonical symbols built once from {@code order.validation.supported-symbols}. {@link #lookup}
+ * resolves raw client input (surrounding whitespace, any case) to the shared {@link Instrument}
+ * and a dense id in one pass over the characters, without trimming, upper-casing or allocating.
+ * Ids follow the configured order, start at 0 and are stable for the life of the process, so they
+ * can index per-symbol arrays.
+ *
+ * <p>With no supported symbols configured the registry is empty and every symbol is accepted;
+ * callers normalize those themselves.
+ */
+@Component
+public class SymbolRegistry {
+
+    private final List<RegisteredSymbol> symbols;
+    private final RegisteredSymbol[] table;
+    private final int mask;
+
+    public SymbolRegistry(OrderValidationProperties validationProperties) {
+        List<String> supportedSymbols = validationProperties.getSupportedSymbols();
+        Set<String> canonical = new LinkedHashSet<>();
+        if (supportedSymbols != null) {
+            for (String value : supportedSymbols) {
+                String symbol = value.trim().toUpperCase(Locale.ROOT);
+                if (!symbol.isEmpty()) {
+                    canonical.add(symbol);
+                }
+            }
+        }
+        List<RegisteredSymbol> registered = new ArrayList<>(canonical.size());
+        for (String symbol : canonical) {
+            registered.add(new RegisteredSymbol(registered.size(), symbol, new Instrument(symbol)));
+        }
+        this.symbols = List.copyOf(registered);
+        // Load factor of at most 0.5 keeps probe chains short.
+        int capacity = Integer.highestOneBit(Math.max(2, registered.size()) * 2 - 1) << 1;
+        this.table = new RegisteredSymbol[capacity];
+        this.mask = capacity - 1;
+        for (RegisteredSymbol symbol : registered) {
+            int slot = hash(symbol.symbol(), 0, symbol.symbol().length()) & mask;
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = symbol;
+        }
+    }
+
+    /**
+     * Returns the registered symbol matching {@code raw} after trimming and upper-casing, or null
+     * when the input is null, blank or not a supported symbol.
+     */
+    public RegisteredSymbol lookup(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        int start = 0;
+        int end = raw.length();
+        while (start < end && raw.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && raw.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return null;
+        }
+        int length = end - start;
+        int slot = hash(raw, start, end) & mask;
+        RegisteredSymbol candidate;
+        while ((candidate = table[slot]) != null) {
+            String symbol = candidate.symbol();
+            if (symbol.length() == length && raw.regionMatches(true, start, symbol, 0, length)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * The canonical form of {@code raw}: the registered symbol if there is one, otherwise the
+     * trimmed, upper-cased input. Null when the input is null or blank.
+     */
+    public String normalize(String raw) {
+        RegisteredSymbol registered = lookup(raw);
+        if (registered != null) {
+            return registered.symbol();
+        }
+        if (raw == null || raw.isBlank()) {
+            return null;
+        }
+        return raw.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether a supported-symbol list is configured. When false every symbol is accepted and
+     * {@link #lookup} always returns null.
+     */
+    public boolean isRestricted() {
+        return !symbols.isEmpty();
+    }
+
+    public RegisteredSymbol byId(int id) {
+        return symbols.get(id);
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+
+    public List<RegisteredSymbol> symbols() {
+        return symbols;
+    }
+
+    private static int hash(String value, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + Character.toUpperCase(value.charAt(i));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * A supported symbol with its dense id and the {@link Instrument} shared by every new order.
+     */
+    public record RegisteredSymbol(int id, String symbol, Instrument instrument) {
+    }
+}
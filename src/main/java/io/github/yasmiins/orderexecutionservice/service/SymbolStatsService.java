@@ -0,0 +1,46 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.github.yasmiins.orderexecutionservice.repository.SymbolMinuteStats;
+import io.github.yasmiins.orderexecutionservice.repository.SymbolStatsRepository;
+
+/**
+ * Reads the per-minute execution rollup of a symbol. A read touches at most one row per minute of
+ * the requested window, however many executions the symbol has.
+ */
+@Service
+public class SymbolStatsService {
+
+    public static final int MAX_MINUTES = 1440;
+
+    private final SymbolStatsRepository symbolStatsRepository;
+    private final SymbolRegistry symbolRegistry;
+
+    public SymbolStatsService(SymbolStatsRepository symbolStatsRepository, SymbolRegistry symbolRegistry) {
+        this.symbolStatsRepository = symbolStatsRepository;
+        this.symbolRegistry = symbolRegistry;
+    }
+
+    /**
+     * Buckets of the last {@code minutes} minutes of {@code symbol}, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<SymbolMinuteStats> getRecentStats(String symbol, int minutes) {
+        if (minutes < 1 || minutes > MAX_MINUTES) {
+            throw new OrderValidationException("Minutes must be between 1 and " + MAX_MINUTES);
+        }
+        return symbolStatsRepository.findRecent(normalizeSymbol(symbol), minutes);
+    }
+
+    public String normalizeSymbol(String symbol) {
+        String normalized = symbolRegistry.normalize(symbol);
+        if (normalized == null) {
+            throw new OrderValidationException("Symbol must be provided");
+        }
+        return normalized;
+    }
+}
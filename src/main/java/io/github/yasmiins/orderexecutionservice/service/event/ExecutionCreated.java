@@ -0,0 +1,21 @@
+package io.github.yasmiins.orderexecutionservice.service.event;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+
+/**
+ * Emitted after commit for each execution written by a fill. {@code executedAt} is the stored
+ * {@code executions.executed_at}.
+ */
+public record ExecutionCreated(
+    UUID orderId,
+    String symbol,
+    OrderSide side,
+    BigDecimal quantity,
+    BigDecimal price,
+    Instant executedAt
+) {
+}
@@ -3,7 +3,7 @@ package io.github.yasmiins.orderexecutionservice.service.event;
 import java.util.UUID;
 
 /**
- * Emitted after commit when an order is accepted.
+ * Emitted after commit when an order is accepted for {@code account}.
  */
-public record OrderAccepted(UUID orderId) {
+public record OrderAccepted(UUID orderId, String symbol, String account) {
 }
@@ -3,7 +3,12 @@ package io.github.yasmiins.orderexecutionservice.service.event;
 import java.util.UUID;
 
 /**
- * Emitted after commit when an order transitions to CANCELED.
+ * Emitted after commit when an order transitions to CANCELED. The account is {@code null} for mass
+ * cancels, which do not read it back.
  */
-public record OrderCanceled(UUID orderId) {
+public record OrderCanceled(UUID orderId, String account) {
+
+    public OrderCanceled(UUID orderId) {
+        this(orderId, null);
+    }
 }
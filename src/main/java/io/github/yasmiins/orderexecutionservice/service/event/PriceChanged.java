@@ -0,0 +1,9 @@
+package io.github.yasmiins.orderexecutionservice.service.event;
+
+import java.math.BigDecimal;
+
+/**
+ * Emitted when the latest simulator price for a symbol moves.
+ */
+public record PriceChanged(String symbol, BigDecimal previousPrice, BigDecimal price) {
+}
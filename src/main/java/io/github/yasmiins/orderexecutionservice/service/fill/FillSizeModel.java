@@ -0,0 +1,108 @@
+package io.github.yasmiins.orderexecutionservice.service.fill;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+
+/**
+ * Draws the share of an order's remaining quantity that one fill pass executes, following
+ * {@code simulator.fill-model.distribution}.
+ * <p>
+ * Each symbol gets its own {@link SplittableRandom} seeded from {@code simulator.fill-model.seed}
+ * and the symbol, so the fills of one symbol do not depend on how passes over different symbols
+ * interleave. Within a symbol the draws follow the order of its fills: the engine's symbol lock
+ * serializes passes, so a replay with the same seed and the same passes draws the same sizes.
+ * The skip-locked drainer ({@code simulator.skip-locked.enabled}) bypasses that lock, and its
+ * workers take draws from a symbol's stream in whatever order they get there, so runs with it are
+ * not reproducible. Without a configured seed one is picked at startup and logged. Drawing a
+ * fraction does not allocate once a symbol's stream exists.
+ */
+@Component
+public class FillSizeModel {
+
+    private static final Logger log = LoggerFactory.getLogger(FillSizeModel.class);
+    private static final long SYMBOL_SEED_MIX = 0x9E3779B97F4A7C15L;
+
+    private final SimulatedFillProperties properties;
+    private final SimulatedFillProperties.FillModel.Distribution distribution;
+    private final long seed;
+    private final double noArrivalProbability;
+    private final double referenceQuantity;
+    private final double sizeExponent;
+    private final Map<String, SplittableRandom> streams = new ConcurrentHashMap<>();
+
+    public FillSizeModel(SimulatedFillProperties properties) {
+        SimulatedFillProperties.FillModel model = properties.getFillModel();
+        this.properties = properties;
+        this.distribution = model.getDistribution();
+        this.seed = model.getSeed() == null ? new SplittableRandom().nextLong() : model.getSeed();
+        this.noArrivalProbability = Math.exp(-model.getArrivalRate());
+        this.referenceQuantity = model.getReferenceQuantity().doubleValue();
+        this.sizeExponent = model.getSizeExponent();
+        log.info("event=fill_model distribution={} seed={}", distribution, seed);
+    }
+
+    /**
+     * Share of {@code remaining} to fill on this pass, between 0 and 1. Zero means the order is
+     * not filled on this pass.
+     */
+    public double nextFillFraction(String symbol, BigDecimal remaining) {
+        // The percent range is read on every draw, as before, so it can be tuned at runtime.
+        double min = properties.getMinFillPercent().doubleValue();
+        double max = properties.getMaxFillPercent().doubleValue();
+        double low = Math.min(min, max);
+        double range = Math.abs(max - min);
+        SplittableRandom random = stream(symbol);
+        synchronized (random) {
+            return switch (distribution) {
+                case UNIFORM -> uniform(random, low, range);
+                case POISSON -> poissonArrivals(random, low, range);
+                case SIZE_DEPENDENT -> uniform(random, low, range) * sizeFactor(remaining.doubleValue());
+            };
+        }
+    }
+
+    public long seed() {
+        return seed;
+    }
+
+    private SplittableRandom stream(String symbol) {
+        SplittableRandom random = streams.get(symbol);
+        if (random != null) {
+            return random;
+        }
+        return streams.computeIfAbsent(symbol, key -> new SplittableRandom(seed ^ (key.hashCode() * SYMBOL_SEED_MIX)));
+    }
+
+    private static double uniform(SplittableRandom random, double low, double range) {
+        return low + range * random.nextDouble();
+    }
+
+    /**
+     * Knuth's product-of-uniforms Poisson draw, where every arrival also takes its own uniform
+     * share of what the previous arrivals left.
+     */
+    private double poissonArrivals(SplittableRandom random, double low, double range) {
+        double left = 1.0;
+        double product = random.nextDouble();
+        while (product > noArrivalProbability && left > 0.0) {
+            left *= 1.0 - uniform(random, low, range);
+            product *= random.nextDouble();
+        }
+        return 1.0 - left;
+    }
+
+    private double sizeFactor(double remaining) {
+        if (remaining <= referenceQuantity) {
+            return 1.0;
+        }
+        return Math.pow(referenceQuantity / remaining, sizeExponent);
+    }
+}
@@ -0,0 +1,214 @@
+package io.github.yasmiins.orderexecutionservice.service.fill;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.repository.OpenOrderClaimRepository;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillProcessor;
+import io.github.yasmiins.orderexecutionservice.service.marketdata.PriceSource;
+import io.github.yasmiins.orderexecutionservice.service.shard.SymbolShardCoordinator;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrder;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Drains the open orders with several workers that claim batches straight from the database
+ * instead of taking the engine's in-process symbol locks, so workers on any number of threads and
+ * instances can fill orders side by side.
+ * <p>
+ * Each worker repeatedly opens a transaction, claims the next batch of open orders in
+ * {@code created_at} order with {@code FOR UPDATE SKIP LOCKED}, fills them at the current price of
+ * their symbol and commits, which releases the claim. Rows claimed by another worker are skipped, so
+ * no two workers fill the same order at once, and a worker stops when no unclaimed open order is
+ * left. Workers share a keyset position that moves past each claimed batch before it is filled, and
+ * only orders last updated before the drain started qualify; together these keep a drain from
+ * visiting an order twice, including the partially filled orders it has just written. Orders
+ * locked by something else when a worker reaches them, such as a cancel in flight, are left for the
+ * next drain.
+ * <p>
+ * With sharding enabled only this node's symbols are claimed.
+ */
+@Component
+public class SkipLockedFillDrainer {
+
+    private static final Logger log = LoggerFactory.getLogger(SkipLockedFillDrainer.class);
+
+    private final OpenOrderClaimRepository claimRepository;
+    private final SimulatedFillProcessor processor;
+    private final PriceSource priceSource;
+    private final SymbolShardCoordinator shardCoordinator;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final ExecutorService executor = Executors.newCachedThreadPool(
+        Thread.ofPlatform().name("fill-claim-", 0).daemon(true).factory()
+    );
+
+    public SkipLockedFillDrainer(
+        OpenOrderClaimRepository claimRepository,
+        SimulatedFillProcessor processor,
+        PriceSource priceSource,
+        SymbolShardCoordinator shardCoordinator,
+        PlatformTransactionManager transactionManager,
+        SimulatedFillProperties properties
+    ) {
+        SimulatedFillProperties.SkipLocked skipLocked = properties.getSkipLocked();
+        this.claimRepository = claimRepository;
+        this.processor = processor;
+        this.priceSource = priceSource;
+        this.shardCoordinator = shardCoordinator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = properties.isEnabled() && skipLocked.isEnabled();
+        this.workers = Math.max(1, skipLocked.getWorkers());
+        this.batchSize = Math.max(1, skipLocked.getBatchSize());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Drains the open orders with the configured number of workers and returns how many orders
+     * were claimed.
+     */
+    public int drain() {
+        return drain(workers);
+    }
+
+    public int drain(int workerCount) {
+        List<String> symbols = null;
+        if (shardCoordinator.isEnabled()) {
+            Set<String> owned = shardCoordinator.ownedSymbols();
+            if (owned.isEmpty()) {
+                return 0;
+            }
+            symbols = List.copyOf(owned);
+        }
+        long startedNanos = System.nanoTime();
+        Pass pass = new Pass(claimRepository.databaseNow(), symbols);
+
+        int claimed = 0;
+        if (workerCount <= 1) {
+            claimed = drainWorker(pass);
+        } else {
+            List<Future<Integer>> futures = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                futures.add(executor.submit(() -> drainWorker(pass)));
+            }
+            for (Future<Integer> future : futures) {
+                claimed += await(future);
+            }
+        }
+        log.debug(
+            "event=skip_locked_drain workers={} claimed={} elapsedMs={}",
+            workerCount,
+            claimed,
+            (System.nanoTime() - startedNanos) / 1_000_000
+        );
+        return claimed;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private int drainWorker(Pass pass) {
+        int claimed = 0;
+        while (true) {
+            Integer batch = transactionTemplate.execute(status -> claimAndFill(pass));
+            if (batch == null || batch == 0) {
+                return claimed;
+            }
+            claimed += batch;
+        }
+    }
+
+    private int claimAndFill(Pass pass) {
+        Position from = pass.position.get();
+        List<OpenOrder> batch = claimRepository.claimOpenOrders(
+            pass.startedAt,
+            from.createdAt(),
+            from.id(),
+            pass.symbols,
+            batchSize
+        );
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        OpenOrder last = batch.getLast();
+        pass.position.accumulateAndGet(new Position(last.createdAt(), last.id()), Position::max);
+
+        Map<String, List<OpenOrder>> bySymbol = new LinkedHashMap<>();
+        for (OpenOrder order : batch) {
+            bySymbol.computeIfAbsent(order.symbol(), symbol -> new ArrayList<>()).add(order);
+        }
+        // Joins this transaction, so the fills commit together with the end of the claim.
+        bySymbol.forEach((symbol, orders) -> processor.processOrders(orders, priceSource.latestPrice(symbol)));
+        return batch.size();
+    }
+
+    private static int await(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while draining open orders", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Fill worker failed", ex.getCause());
+        }
+    }
+
+    private static final class Pass {
+
+        private final Instant startedAt;
+        private final List<String> symbols;
+        private final AtomicReference<Position> position = new AtomicReference<>(Position.START);
+
+        private Pass(Instant startedAt, List<String> symbols) {
+            this.startedAt = startedAt;
+            this.symbols = symbols;
+        }
+    }
+
+    /**
+     * Keyset position in {@code (created_at, id)} order. Ids compare as unsigned bytes, the way
+     * PostgreSQL orders {@code uuid}, not the way {@link UUID#compareTo} does.
+     */
+    record Position(Instant createdAt, UUID id) {
+
+        static final Position START = new Position(Instant.EPOCH, new UUID(0L, 0L));
+
+        static Position max(Position a, Position b) {
+            int byTime = a.createdAt.compareTo(b.createdAt);
+            if (byTime != 0) {
+                return byTime > 0 ? a : b;
+            }
+            int byId = Long.compareUnsigned(a.id.getMostSignificantBits(), b.id.getMostSignificantBits());
+            if (byId == 0) {
+                byId = Long.compareUnsigned(a.id.getLeastSignificantBits(), b.id.getLeastSignificantBits());
+            }
+            return byId >= 0 ? a : b;
+        }
+    }
+}
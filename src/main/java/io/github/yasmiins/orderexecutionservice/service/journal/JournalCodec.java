@@ -0,0 +1,193 @@
+package io.github.yasmiins.orderexecutionservice.service.journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * Binary frame layout shared by the writer and reader:
+ * <pre>
+ * int   length   bytes after the header (sequence + type + payload); 0 marks the end of a segment
+ * int   crc      CRC32C over those bytes
+ * long  sequence
+ * byte  type
+ * ...   payload
+ * </pre>
+ * Decimals are stored as {@code long} unscaled value plus {@code byte} scale, which covers the
+ * {@code NUMERIC(18, 6)} columns they come from.
+ */
+final class JournalCodec {
+
+    static final int HEADER_BYTES = Integer.BYTES * 2;
+    static final int MAX_FRAME_BYTES = 256;
+
+    private static final byte TYPE_CREATE = 1;
+    private static final byte TYPE_CANCEL = 2;
+    private static final byte TYPE_FILL = 3;
+    private static final byte ABSENT = Byte.MIN_VALUE;
+
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private JournalCodec() {
+    }
+
+    /**
+     * Encodes a frame at the buffer's position and returns the number of bytes written.
+     */
+    static int encode(ByteBuffer buffer, long sequence, JournalEntry entry) {
+        int start = buffer.position();
+        buffer.position(start + HEADER_BYTES);
+        int bodyStart = buffer.position();
+        buffer.putLong(sequence);
+        switch (entry) {
+            case JournalEntry.Create create -> {
+                buffer.put(TYPE_CREATE);
+                putUuid(buffer, create.orderId());
+                putSymbol(buffer, create.symbol());
+                buffer.put((byte) create.side().ordinal());
+                buffer.put((byte) create.orderType().ordinal());
+                putDecimal(buffer, create.quantity());
+                putDecimal(buffer, create.price());
+                putInstant(buffer, create.createdAt());
+            }
+            case JournalEntry.Cancel cancel -> {
+                buffer.put(TYPE_CANCEL);
+                putUuid(buffer, cancel.orderId());
+            }
+            case JournalEntry.Fill fill -> {
+                buffer.put(TYPE_FILL);
+                putUuid(buffer, fill.orderId());
+                putDecimal(buffer, fill.fillQuantity());
+                putDecimal(buffer, fill.fillPrice());
+                putDecimal(buffer, fill.filledQuantity());
+                buffer.put((byte) fill.status().ordinal());
+            }
+        }
+        int end = buffer.position();
+        int length = end - bodyStart;
+        buffer.putInt(start, length);
+        buffer.putInt(start + Integer.BYTES, crc(buffer, bodyStart, length));
+        return end - start;
+    }
+
+    /**
+     * Decodes the frame at the buffer's position, or returns {@code null} at the end of the written
+     * region or on a torn/corrupt frame. On success the position moves past the frame.
+     */
+    static Frame decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER_BYTES) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length <= 0 || length > MAX_FRAME_BYTES || buffer.remaining() < HEADER_BYTES + length) {
+            return null;
+        }
+        int bodyStart = start + HEADER_BYTES;
+        if (buffer.getInt(start + Integer.BYTES) != crc(buffer, bodyStart, length)) {
+            return null;
+        }
+        buffer.position(bodyStart);
+        long sequence = buffer.getLong();
+        byte type = buffer.get();
+        JournalEntry entry = switch (type) {
+            case TYPE_CREATE -> new JournalEntry.Create(
+                getUuid(buffer),
+                getSymbol(buffer),
+                SIDES[buffer.get()],
+                TYPES[buffer.get()],
+                getDecimal(buffer),
+                getDecimal(buffer),
+                getInstant(buffer)
+            );
+            case TYPE_CANCEL -> new JournalEntry.Cancel(getUuid(buffer));
+            case TYPE_FILL -> new JournalEntry.Fill(
+                getUuid(buffer),
+                getDecimal(buffer),
+                getDecimal(buffer),
+                getDecimal(buffer),
+                STATUSES[buffer.get()]
+            );
+            default -> null;
+        };
+        if (entry == null) {
+            buffer.position(start);
+            return null;
+        }
+        buffer.position(bodyStart + length);
+        return new Frame(sequence, entry);
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID value) {
+        buffer.putLong(value.getMostSignificantBits());
+        buffer.putLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putSymbol(ByteBuffer buffer, String symbol) {
+        byte[] bytes = symbol.getBytes(StandardCharsets.US_ASCII);
+        buffer.put((byte) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getSymbol(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.get()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    private static void putDecimal(ByteBuffer buffer, BigDecimal value) {
+        if (value == null) {
+            buffer.put(ABSENT);
+            return;
+        }
+        buffer.put((byte) value.scale());
+        buffer.putLong(value.unscaledValue().longValueExact());
+    }
+
+    private static BigDecimal getDecimal(ByteBuffer buffer) {
+        byte scale = buffer.get();
+        if (scale == ABSENT) {
+            return null;
+        }
+        return new BigDecimal(BigInteger.valueOf(buffer.getLong()), scale);
+    }
+
+    private static void putInstant(ByteBuffer buffer, Instant value) {
+        if (value == null) {
+            buffer.putLong(Long.MIN_VALUE);
+            buffer.putInt(0);
+            return;
+        }
+        buffer.putLong(value.getEpochSecond());
+        buffer.putInt(value.getNano());
+    }
+
+    private static Instant getInstant(ByteBuffer buffer) {
+        long seconds = buffer.getLong();
+        int nanos = buffer.getInt();
+        return seconds == Long.MIN_VALUE ? null : Instant.ofEpochSecond(seconds, nanos);
+    }
+
+    record Frame(long sequence, JournalEntry entry) {
+    }
+}
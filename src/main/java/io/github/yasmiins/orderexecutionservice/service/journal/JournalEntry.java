@@ -0,0 +1,54 @@
+package io.github.yasmiins.orderexecutionservice.service.journal;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * A committed order command as written to the journal. Fill entries carry the resulting filled
+ * quantity and status rather than a delta, so replaying an entry twice is harmless.
+ */
+public sealed interface JournalEntry {
+
+    UUID orderId();
+
+    record Create(
+        UUID orderId,
+        String symbol,
+        OrderSide side,
+        OrderType orderType,
+        BigDecimal quantity,
+        BigDecimal price,
+        Instant createdAt
+    ) implements JournalEntry {
+
+        public static Create of(Order order) {
+            return new Create(
+                order.getId(),
+                order.getInstrument().getSymbol(),
+                order.getSide(),
+                order.getOrderType(),
+                order.getQuantity(),
+                order.getPrice(),
+                order.getCreatedAt()
+            );
+        }
+    }
+
+    record Cancel(UUID orderId) implements JournalEntry {
+    }
+
+    record Fill(
+        UUID orderId,
+        BigDecimal fillQuantity,
+        BigDecimal fillPrice,
+        BigDecimal filledQuantity,
+        OrderStatus status
+    ) implements JournalEntry {
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.yasmiins.orderexecutionservice.service.journal;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Sequentially reads every valid frame from a journal directory, stopping each segment at its end
+ * marker or at the first frame that fails its CRC.
+ */
+public final class JournalReader {
+
+    private JournalReader() {
+    }
+
+    /**
+     * Visits entries with a sequence greater than {@code afterSequence} and returns the last
+     * sequence seen (or {@code afterSequence} when nothing newer exists).
+     */
+    public static long read(Path directory, long afterSequence, ObjLongConsumer<JournalEntry> consumer)
+        throws IOException {
+        List<Path> segments = JournalSegments.list(directory);
+        long lastSequence = afterSequence;
+        for (int i = 0; i < segments.size(); i++) {
+            // Skip whole segments that end before the requested position.
+            if (i + 1 < segments.size() && JournalSegments.firstSequence(segments.get(i + 1)) <= afterSequence + 1) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                JournalCodec.Frame frame;
+                while ((frame = JournalCodec.decode(buffer)) != null) {
+                    if (frame.sequence() > afterSequence) {
+                        consumer.accept(frame.entry(), frame.sequence());
+                        lastSequence = frame.sequence();
+                    }
+                }
+            }
+        }
+        return lastSequence;
+    }
+}
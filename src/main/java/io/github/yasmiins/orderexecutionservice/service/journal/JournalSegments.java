@@ -0,0 +1,47 @@
+package io.github.yasmiins.orderexecutionservice.service.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Naming of journal segment files: {@code journal-<first sequence, zero padded>.log}, so a plain
+ * lexical sort is also sequence order.
+ */
+final class JournalSegments {
+
+    private static final String PREFIX = "journal-";
+    private static final String SUFFIX = ".log";
+
+    private JournalSegments() {
+    }
+
+    static Path segmentPath(Path directory, long firstSequence) {
+        return directory.resolve(String.format("%s%020d%s", PREFIX, firstSequence, SUFFIX));
+    }
+
+    static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = new ArrayList<>(files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+                })
+                .toList());
+            segments.sort(Comparator.comparing(path -> path.getFileName().toString()));
+            return segments;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.yasmiins.orderexecutionservice.service.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends length-prefixed, CRC-protected frames to memory-mapped segment files of a fixed size,
+ * rolling to a new segment when the current one cannot hold the next frame.
+ * <p>
+ * Appends only copy into the mapping; durability comes from {@link #flush()}, which the owner calls
+ * periodically, and from the implicit flush on roll and close.
+ */
+final class MappedJournalWriter implements Closeable {
+
+    private final Path directory;
+    private final long segmentSize;
+    private final ByteBuffer scratch = ByteBuffer.allocate(JournalCodec.MAX_FRAME_BYTES + JournalCodec.HEADER_BYTES);
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long nextSequence;
+    private boolean dirty;
+
+    MappedJournalWriter(Path directory, long segmentSize) throws IOException {
+        if (segmentSize > Integer.MAX_VALUE || segmentSize < scratch.capacity() * 2L) {
+            throw new IllegalArgumentException("Unsupported journal segment size: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    /**
+     * Appends the entry and returns its sequence number.
+     */
+    synchronized long append(JournalEntry entry) throws IOException {
+        scratch.clear();
+        int frameBytes = JournalCodec.encode(scratch, nextSequence, entry);
+        // Keep room for the zero-length end marker that terminates a segment.
+        if (segment.remaining() < frameBytes + Integer.BYTES) {
+            roll();
+        }
+        scratch.flip();
+        segment.put(scratch);
+        dirty = true;
+        return nextSequence++;
+    }
+
+    synchronized void flush() {
+        if (dirty) {
+            segment.force();
+            dirty = false;
+        }
+    }
+
+    synchronized long nextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel == null) {
+            return;
+        }
+        segment.force();
+        channel.close();
+        channel = null;
+        segment = null;
+    }
+
+    private void recover() throws IOException {
+        List<Path> segments = JournalSegments.list(directory);
+        if (segments.isEmpty()) {
+            nextSequence = 1;
+            open(JournalSegments.segmentPath(directory, nextSequence));
+            return;
+        }
+        Path last = segments.get(segments.size() - 1);
+        nextSequence = JournalSegments.firstSequence(last);
+        open(last);
+        JournalCodec.Frame frame;
+        while ((frame = JournalCodec.decode(segment)) != null) {
+            nextSequence = frame.sequence() + 1;
+        }
+        // Anything after the last valid frame is a torn write; clear it so readers stop here.
+        int position = segment.position();
+        while (segment.hasRemaining() && segment.position() < position + JournalCodec.HEADER_BYTES) {
+            segment.put((byte) 0);
+        }
+        segment.position(position);
+    }
+
+    private void roll() throws IOException {
+        segment.force();
+        channel.close();
+        open(JournalSegments.segmentPath(directory, nextSequence));
+    }
+
+    private void open(Path path) throws IOException {
+        channel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.yasmiins.orderexecutionservice.service.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ObjLongConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.yasmiins.orderexecutionservice.config.OrderJournalProperties;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Write-ahead journal of committed order commands. Entries are appended after the surrounding
+ * transaction commits, mirroring {@code DomainEventPublisher}, so the journal never contains a
+ * command the database rolled back. Writing to disk is disabled unless {@code order.journal.enabled}
+ * is set; subscribers such as the in-memory open-order state receive entries either way.
+ */
+@Component
+public class OrderJournal {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderJournal.class);
+
+    private final MappedJournalWriter writer;
+    private final List<ObjLongConsumer<JournalEntry>> subscribers = new CopyOnWriteArrayList<>();
+
+    public OrderJournal(OrderJournalProperties properties) {
+        if (!properties.isEnabled()) {
+            this.writer = null;
+            return;
+        }
+        try {
+            this.writer = new MappedJournalWriter(properties.getDirectory(), properties.getSegmentSizeBytes());
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Unable to open order journal in " + properties.getDirectory(), ex);
+        }
+    }
+
+    public boolean isEnabled() {
+        return writer != null;
+    }
+
+    /**
+     * Registers a callback that receives each committed entry with its sequence (0 when the journal
+     * file is disabled).
+     */
+    public void subscribe(ObjLongConsumer<JournalEntry> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    public void appendAfterCommit(JournalEntry entry) {
+        if (writer == null && subscribers.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            append(entry);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(entry);
+            }
+        });
+    }
+
+    /**
+     * Batch form of {@link #appendAfterCommit(JournalEntry)} with one synchronization per batch.
+     */
+    public void appendAllAfterCommit(List<? extends JournalEntry> entries) {
+        if (entries.isEmpty() || (writer == null && subscribers.isEmpty())) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            entries.forEach(this::append);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.forEach(OrderJournal.this::append);
+            }
+        });
+    }
+
+    /**
+     * Sequence the next appended entry will receive.
+     */
+    public long nextSequence() {
+        return writer == null ? 0 : writer.nextSequence();
+    }
+
+    @Scheduled(fixedDelayString = "${order.journal.fsync-interval-ms:100}")
+    public void flush() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+    private void append(JournalEntry entry) {
+        long sequence = 0;
+        if (writer != null) {
+            try {
+                sequence = writer.append(entry);
+            } catch (IOException | RuntimeException ex) {
+                // The command is already committed; losing the journal entry must not fail the request.
+                log.error("Failed to journal {} for order {}", entry.getClass().getSimpleName(), entry.orderId(), ex);
+            }
+        }
+        for (ObjLongConsumer<JournalEntry> subscriber : subscribers) {
+            subscriber.accept(entry, sequence);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.yasmiins.orderexecutionservice.service.lifecycle;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Writes a {@link LifecycleRecord} as one JSON object. Null fields are omitted and decimals are
+ * written as plain JSON numbers.
+ */
+final class LifecycleJsonEncoder {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private LifecycleJsonEncoder() {
+    }
+
+    static void encode(LifecycleRecord record, StringBuilder out) {
+        out.append("{\"ts\":\"");
+        timestamp(out, record.timestampMillis);
+        out.append('"');
+        string(out, "event", record.event);
+        if (record.orderId != null) {
+            out.append(",\"orderId\":\"").append(record.orderId).append('"');
+        }
+        string(out, "symbol", record.symbol);
+        string(out, "fromStatus", record.fromStatus == null ? null : record.fromStatus.name());
+        string(out, "toStatus", record.toStatus == null ? null : record.toStatus.name());
+        number(out, "filledQuantity", record.filledQuantity);
+        number(out, "quantity", record.quantity);
+        number(out, "price", record.price);
+        string(out, "idempotencyKey", record.idempotencyKey);
+        out.append('}');
+    }
+
+    /**
+     * ISO-8601 UTC with millisecond precision, e.g. {@code 2025-03-01T10:15:30.123Z}, without going
+     * through a {@code DateTimeFormatter}.
+     */
+    private static void timestamp(StringBuilder out, long epochMillis) {
+        long days = Math.floorDiv(epochMillis, 86_400_000L);
+        int millisOfDay = (int) Math.floorMod(epochMillis, 86_400_000L);
+        LocalDate date = LocalDate.ofEpochDay(days);
+        out.append(date.getYear()).append('-');
+        twoDigits(out, date.getMonthValue());
+        out.append('-');
+        twoDigits(out, date.getDayOfMonth());
+        out.append('T');
+        twoDigits(out, millisOfDay / 3_600_000);
+        out.append(':');
+        twoDigits(out, millisOfDay / 60_000 % 60);
+        out.append(':');
+        twoDigits(out, millisOfDay / 1_000 % 60);
+        out.append('.');
+        int millis = millisOfDay % 1_000;
+        out.append((char) ('0' + millis / 100)).append((char) ('0' + millis / 10 % 10)).append((char) ('0' + millis % 10));
+        out.append('Z');
+    }
+
+    private static void twoDigits(StringBuilder out, int value) {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+
+    private static void string(StringBuilder out, String name, String value) {
+        if (value == null) {
+            return;
+        }
+        out.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private static void number(StringBuilder out, String name, BigDecimal value) {
+        if (value == null) {
+            return;
+        }
+        out.append(",\"").append(name).append("\":").append(value.toPlainString());
+    }
+}
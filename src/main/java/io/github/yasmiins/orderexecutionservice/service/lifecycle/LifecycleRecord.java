@@ -0,0 +1,55 @@
+package io.github.yasmiins.orderexecutionservice.service.lifecycle;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+
+/**
+ * Mutable ring-buffer slot. Producers fill it in place and the writer clears it after encoding, so
+ * recording a transition allocates nothing.
+ */
+final class LifecycleRecord {
+
+    long timestampMillis;
+    boolean warn;
+    String event;
+    UUID orderId;
+    String symbol;
+    OrderStatus fromStatus;
+    OrderStatus toStatus;
+    BigDecimal filledQuantity;
+    BigDecimal quantity;
+    BigDecimal price;
+    String idempotencyKey;
+
+    void set(
+        long timestampMillis,
+        boolean warn,
+        String event,
+        UUID orderId,
+        String symbol,
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        BigDecimal filledQuantity,
+        BigDecimal quantity,
+        BigDecimal price,
+        String idempotencyKey
+    ) {
+        this.timestampMillis = timestampMillis;
+        this.warn = warn;
+        this.event = event;
+        this.orderId = orderId;
+        this.symbol = symbol;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.filledQuantity = filledQuantity;
+        this.quantity = quantity;
+        this.price = price;
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    void clear() {
+        set(0, false, null, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.yasmiins.orderexecutionservice.service.lifecycle;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded multi-producer, single-consumer ring of preallocated {@link LifecycleRecord} slots. Each
+ * slot carries a sequence: producers claim position {@code p} when the slot's sequence equals
+ * {@code p}, publish by setting it to {@code p + 1}, and the consumer hands the slot back by
+ * setting it to {@code p + capacity}.
+ */
+final class LifecycleRingBuffer {
+
+    static final long FULL = -1;
+
+    private final LifecycleRecord[] records;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;
+
+    LifecycleRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) * 2 - 1);
+        this.records = new LifecycleRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            records[i] = new LifecycleRecord();
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return records.length;
+    }
+
+    /**
+     * Claims the next slot, or returns {@link #FULL} when the consumer has not freed it yet.
+     */
+    long tryClaim() {
+        long position = tail.get();
+        while (true) {
+            long sequence = sequences.get((int) (position & mask));
+            long difference = sequence - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    return position;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return FULL;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    LifecycleRecord slot(long position) {
+        return records[(int) (position & mask)];
+    }
+
+    void publish(long position) {
+        sequences.lazySet((int) (position & mask), position + 1);
+    }
+
+    /**
+     * Consumer side: hands up to {@code max} published records to {@code handler} in order.
+     *
+     * @return the number of records drained
+     */
+    int drain(Consumer<LifecycleRecord> handler, int max) {
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (head & mask);
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            LifecycleRecord record = records[index];
+            try {
+                handler.accept(record);
+            } finally {
+                record.clear();
+                sequences.lazySet(index, head + records.length);
+                head++;
+                drained++;
+            }
+        }
+        return drained;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+}
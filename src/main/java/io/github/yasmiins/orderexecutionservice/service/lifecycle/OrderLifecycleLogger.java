@@ -0,0 +1,202 @@
+package io.github.yasmiins.orderexecutionservice.service.lifecycle;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.LifecycleLogProperties;
+import io.github.yasmiins.orderexecutionservice.config.LifecycleLogProperties.OverflowPolicy;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+
+/**
+ * Order lifecycle events (accepted, filled, canceled, rejected) as one JSON object per line. The
+ * calling thread only copies the fields into a preallocated ring slot; a single writer thread
+ * wakes every millisecond, or as soon as a batch is waiting, and hands the batch to the appender.
+ * When the ring is full the record is dropped and counted, or the caller waits, depending on
+ * {@code order.lifecycle-log.overflow-policy}. With {@code order.lifecycle-log.async: false}
+ * records are encoded and logged on the calling thread.
+ * <p>
+ * The writer runs in the earliest lifecycle phase, so it starts before and stops after the web
+ * server and fill schedulers that produce records. Records published before {@link #start()}
+ * wait in the ring.
+ */
+@Component
+public class OrderLifecycleLogger implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderLifecycleLogger.class);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCKED_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final ThreadLocal<StringBuilder> SYNC_BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final OrderMetrics orderMetrics;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final LifecycleRingBuffer ring;
+    private final StringBuilder writerBuffer = new StringBuilder(256);
+    private volatile Thread writer;
+    private volatile boolean running;
+
+    public OrderLifecycleLogger(LifecycleLogProperties properties, OrderMetrics orderMetrics) {
+        this.orderMetrics = orderMetrics;
+        this.overflowPolicy = properties.getOverflowPolicy();
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.ring = properties.isAsync() ? new LifecycleRingBuffer(properties.getCapacity()) : null;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (ring == null || running) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("order-lifecycle-log").daemon().start(this::runWriter);
+    }
+
+    /**
+     * Writes every record published so far and stops the writer thread.
+     */
+    @Override
+    public synchronized void stop() {
+        Thread current = writer;
+        if (current == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(current);
+        try {
+            current.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    public void info(
+        String event,
+        UUID orderId,
+        String symbol,
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        BigDecimal filledQuantity,
+        BigDecimal quantity,
+        BigDecimal price,
+        String idempotencyKey
+    ) {
+        if (log.isInfoEnabled()) {
+            record(false, event, orderId, symbol, fromStatus, toStatus, filledQuantity, quantity, price, idempotencyKey);
+        }
+    }
+
+    public void warn(
+        String event,
+        UUID orderId,
+        String symbol,
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        BigDecimal filledQuantity,
+        BigDecimal quantity,
+        BigDecimal price,
+        String idempotencyKey
+    ) {
+        if (log.isWarnEnabled()) {
+            record(true, event, orderId, symbol, fromStatus, toStatus, filledQuantity, quantity, price, idempotencyKey);
+        }
+    }
+
+    private void record(
+        boolean warn,
+        String event,
+        UUID orderId,
+        String symbol,
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        BigDecimal filledQuantity,
+        BigDecimal quantity,
+        BigDecimal price,
+        String idempotencyKey
+    ) {
+        long now = System.currentTimeMillis();
+        if (ring == null) {
+            LifecycleRecord record = new LifecycleRecord();
+            record.set(now, warn, event, orderId, symbol, fromStatus, toStatus, filledQuantity, quantity, price, idempotencyKey);
+            StringBuilder buffer = SYNC_BUFFER.get();
+            write(record, buffer);
+            return;
+        }
+        long position = claim();
+        if (position == LifecycleRingBuffer.FULL) {
+            orderMetrics.incrementLifecycleLogDropped();
+            return;
+        }
+        ring.slot(position)
+            .set(now, warn, event, orderId, symbol, fromStatus, toStatus, filledQuantity, quantity, price, idempotencyKey);
+        ring.publish(position);
+        // Waking the writer per record costs a context switch each; it polls every millisecond and
+        // is only woken early once a full batch is waiting.
+        if (position % batchSize == batchSize - 1) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    private long claim() {
+        long position = ring.tryClaim();
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            return position;
+        }
+        while (position == LifecycleRingBuffer.FULL && running) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(BLOCKED_PARK_NANOS);
+            position = ring.tryClaim();
+        }
+        return position;
+    }
+
+    private void runWriter() {
+        while (running) {
+            if (ring.drain(this::writeFromRing, batchSize) > 0) {
+                continue;
+            }
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+        }
+        while (ring.drain(this::writeFromRing, batchSize) > 0) {
+            // Flush what producers published before shutdown.
+        }
+    }
+
+    private void writeFromRing(LifecycleRecord record) {
+        try {
+            write(record, writerBuffer);
+        } catch (RuntimeException ex) {
+            // A broken appender must not stop the writer thread.
+            orderMetrics.incrementLifecycleLogDropped();
+        }
+    }
+
+    private static void write(LifecycleRecord record, StringBuilder buffer) {
+        buffer.setLength(0);
+        LifecycleJsonEncoder.encode(record, buffer);
+        String line = buffer.toString();
+        if (record.warn) {
+            log.warn(line);
+        } else {
+            log.info(line);
+        }
+    }
+}
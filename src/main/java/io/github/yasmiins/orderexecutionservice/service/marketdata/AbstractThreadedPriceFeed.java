@@ -0,0 +1,73 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * Base for producers that block on I/O and therefore own a dedicated daemon thread.
+ */
+abstract class AbstractThreadedPriceFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AbstractThreadedPriceFeed.class);
+
+    protected final LatestPriceCache cache;
+    private volatile boolean running;
+    private Thread thread;
+
+    protected AbstractThreadedPriceFeed(LatestPriceCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::runSafely, getClass().getSimpleName());
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            onStop();
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    protected boolean shouldRun() {
+        return running && !Thread.currentThread().isInterrupted();
+    }
+
+    /**
+     * Releases blocking resources so {@link #produce()} can return.
+     */
+    protected void onStop() {
+    }
+
+    protected abstract void produce() throws Exception;
+
+    private void runSafely() {
+        try {
+            produce();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (Exception ex) {
+            if (running) {
+                log.error("Price feed {} stopped unexpectedly", getClass().getSimpleName(), ex);
+            }
+        } finally {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.service.event.PriceChanged;
+
+/**
+ * Lock-free latest-price cache. Each symbol owns a single {@link AtomicReference} slot, so readers
+ * never block and producers swap prices with one atomic exchange.
+ */
+@Component
+public class LatestPriceCache implements PriceSource {
+
+    private final Map<String, AtomicReference<BigDecimal>> prices = new ConcurrentHashMap<>();
+    private final BigDecimal defaultPrice;
+    private final ApplicationEventPublisher publisher;
+
+    public LatestPriceCache(SimulatedFillProperties properties, ApplicationEventPublisher publisher) {
+        this.defaultPrice = properties.getDefaultPrice();
+        this.publisher = publisher;
+        Map<String, BigDecimal> configured = properties.getPrices();
+        if (configured != null) {
+            configured.forEach((symbol, price) -> prices.put(symbol, new AtomicReference<>(price)));
+        }
+    }
+
+    @Override
+    public BigDecimal latestPrice(String symbol) {
+        AtomicReference<BigDecimal> slot = prices.get(symbol);
+        if (slot == null) {
+            return defaultPrice;
+        }
+        return slot.get();
+    }
+
+    /**
+     * Stores a new price for the symbol and publishes {@link PriceChanged} when it differs from the
+     * previous value.
+     */
+    public void update(String symbol, BigDecimal price) {
+        if (symbol == null || price == null || price.signum() <= 0) {
+            return;
+        }
+        AtomicReference<BigDecimal> slot = prices.get(symbol);
+        if (slot == null) {
+            slot = prices.computeIfAbsent(symbol, key -> new AtomicReference<>(defaultPrice));
+        }
+        BigDecimal previous = slot.getAndSet(price);
+        if (previous == null || previous.compareTo(price) != 0) {
+            publisher.publishEvent(new PriceChanged(symbol, previous, price));
+        }
+    }
+
+    /**
+     * Symbols that currently have a price slot, including the configured seed prices.
+     */
+    public Iterable<String> symbols() {
+        return prices.keySet();
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import java.math.BigDecimal;
+
+/**
+ * Read side of the simulator market data: the most recent price known for a symbol.
+ */
+public interface PriceSource {
+
+    BigDecimal latestPrice(String symbol);
+}
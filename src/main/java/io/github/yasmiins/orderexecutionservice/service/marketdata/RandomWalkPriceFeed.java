@@ -0,0 +1,50 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+
+/**
+ * Moves every cached price by a gaussian step scaled by {@code simulator.price-feed.volatility},
+ * rounded to the configured tick size.
+ */
+@Component
+@ConditionalOnProperty(name = "simulator.price-feed.type", havingValue = "random-walk")
+public class RandomWalkPriceFeed {
+
+    private final LatestPriceCache cache;
+    private final double volatility;
+    private final BigDecimal tickSize;
+    private final SplittableRandom random;
+
+    public RandomWalkPriceFeed(LatestPriceCache cache, SimulatedFillProperties properties) {
+        SimulatedFillProperties.PriceFeed feed = properties.getPriceFeed();
+        this.cache = cache;
+        this.volatility = feed.getVolatility().doubleValue();
+        this.tickSize = feed.getTickSize();
+        this.random = feed.getSeed() == null ? new SplittableRandom() : new SplittableRandom(feed.getSeed());
+    }
+
+    @Scheduled(fixedDelayString = "${simulator.price-feed.interval-ms:250}")
+    public synchronized void step() {
+        for (String symbol : cache.symbols()) {
+            BigDecimal current = cache.latestPrice(symbol);
+            double factor = 1.0 + volatility * random.nextGaussian();
+            cache.update(symbol, roundToTick(current.multiply(BigDecimal.valueOf(factor))));
+        }
+    }
+
+    private BigDecimal roundToTick(BigDecimal price) {
+        BigDecimal ticks = price.divide(tickSize, 0, RoundingMode.HALF_UP);
+        if (ticks.signum() <= 0) {
+            return tickSize;
+        }
+        return ticks.multiply(tickSize);
+    }
+}
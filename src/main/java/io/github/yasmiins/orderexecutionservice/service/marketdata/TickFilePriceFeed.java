@@ -0,0 +1,131 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+
+/**
+ * Replays a recorded tick file at its original pace (scaled by {@code speed}).
+ * <p>
+ * Files ending in {@code .csv} hold {@code timestampMillis,symbol,price} lines; blank lines and
+ * lines starting with {@code #} are skipped, as are lines whose timestamp or price does not parse.
+ * Any other file is read as binary records of
+ * {@code long timestampMillis, UTF symbol, long unscaledPrice, byte scale}.
+ */
+@Component
+@ConditionalOnProperty(name = "simulator.price-feed.type", havingValue = "tick-file")
+public class TickFilePriceFeed extends AbstractThreadedPriceFeed {
+
+    private final Path file;
+    private final double speed;
+    private final boolean loop;
+
+    public TickFilePriceFeed(LatestPriceCache cache, SimulatedFillProperties properties) {
+        super(cache);
+        SimulatedFillProperties.PriceFeed feed = properties.getPriceFeed();
+        if (feed.getFile() == null) {
+            throw new IllegalStateException("simulator.price-feed.file is required for the tick-file feed");
+        }
+        this.file = feed.getFile();
+        this.speed = feed.getSpeed() > 0 ? feed.getSpeed() : 1.0;
+        this.loop = feed.isLoop();
+    }
+
+    @Override
+    protected void produce() throws IOException, InterruptedException {
+        do {
+            if (file.getFileName().toString().endsWith(".csv")) {
+                replayCsv();
+            } else {
+                replayBinary();
+            }
+        } while (loop && shouldRun());
+    }
+
+    private void replayCsv() throws IOException, InterruptedException {
+        Pacer pacer = new Pacer(speed);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while (shouldRun() && (line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = trimmed.split(",");
+                if (parts.length != 3) {
+                    continue;
+                }
+                long timestamp;
+                BigDecimal price;
+                try {
+                    timestamp = Long.parseLong(parts[0].trim());
+                    price = new BigDecimal(parts[2].trim());
+                } catch (NumberFormatException ex) {
+                    // Header row, or a malformed timestamp or price.
+                    continue;
+                }
+                pacer.awaitTick(timestamp);
+                cache.update(parts[1].trim(), price);
+            }
+        }
+    }
+
+    private void replayBinary() throws IOException, InterruptedException {
+        Pacer pacer = new Pacer(speed);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (shouldRun()) {
+                long timestamp;
+                String symbol;
+                long unscaled;
+                int scale;
+                try {
+                    timestamp = in.readLong();
+                    symbol = in.readUTF();
+                    unscaled = in.readLong();
+                    scale = in.readByte();
+                } catch (EOFException ex) {
+                    // End of file, or a record cut short by a recorder that stopped mid-write.
+                    return;
+                }
+                pacer.awaitTick(timestamp);
+                cache.update(symbol, new BigDecimal(BigInteger.valueOf(unscaled), scale));
+            }
+        }
+    }
+
+    private static final class Pacer {
+
+        private final double speed;
+        private long firstTimestamp = Long.MIN_VALUE;
+        private long startNanos;
+
+        private Pacer(double speed) {
+            this.speed = speed;
+        }
+
+        void awaitTick(long timestamp) throws InterruptedException {
+            if (firstTimestamp == Long.MIN_VALUE) {
+                firstTimestamp = timestamp;
+                startNanos = System.nanoTime();
+                return;
+            }
+            long dueNanos = startNanos + (long) ((timestamp - firstTimestamp) * 1_000_000L / speed);
+            long waitMillis = (dueNanos - System.nanoTime()) / 1_000_000L;
+            if (waitMillis > 0) {
+                Thread.sleep(waitMillis);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+
+/**
+ * Local stand-in for a market-data feed: listens on the loopback interface for datagrams holding
+ * one {@code SYMBOL,PRICE} (or {@code SYMBOL PRICE}) quote per line.
+ */
+@Component
+@ConditionalOnProperty(name = "simulator.price-feed.type", havingValue = "udp")
+public class UdpPriceFeed extends AbstractThreadedPriceFeed {
+
+    private static final int MAX_DATAGRAM = 1500;
+
+    private final int port;
+    private volatile DatagramSocket socket;
+
+    public UdpPriceFeed(LatestPriceCache cache, SimulatedFillProperties properties) {
+        super(cache);
+        this.port = properties.getPriceFeed().getPort();
+    }
+
+    @Override
+    protected void produce() throws IOException {
+        try (DatagramSocket datagramSocket = new DatagramSocket(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+        )) {
+            socket = datagramSocket;
+            byte[] buffer = new byte[MAX_DATAGRAM];
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            while (shouldRun()) {
+                packet.setLength(buffer.length);
+                datagramSocket.receive(packet);
+                handle(new String(buffer, 0, packet.getLength(), StandardCharsets.US_ASCII));
+            }
+        }
+    }
+
+    @Override
+    protected void onStop() {
+        DatagramSocket current = socket;
+        if (current != null) {
+            current.close();
+        }
+    }
+
+    private void handle(String payload) {
+        for (String line : payload.split("\\R")) {
+            String[] parts = line.trim().split("[,\\s]+");
+            if (parts.length != 2) {
+                continue;
+            }
+            try {
+                cache.update(parts[0], new BigDecimal(parts[1]));
+            } catch (NumberFormatException ex) {
+                // Ignore malformed quotes; the feed is best-effort.
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.yasmiins.orderexecutionservice.service.position;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionHistoryRepository;
+import io.github.yasmiins.orderexecutionservice.service.event.ExecutionCreated;
+import io.github.yasmiins.orderexecutionservice.service.marketdata.PriceSource;
+
+/**
+ * Net position and P&amp;L per symbol, kept in memory from committed executions so a read is a few
+ * field loads instead of an aggregate over {@code executions} joined to {@code orders}.
+ * <p>
+ * Quantities and amounts are held as {@code long} counts of millionths. Buys add to the position
+ * and sells subtract; fills that reduce the position realize P&amp;L against its average cost, and a
+ * fill that crosses zero opens the remainder at the fill price. Unrealized P&amp;L is computed on
+ * read against the latest simulator price.
+ * <p>
+ * Positions are rebuilt at startup by streaming the execution history, before the web server and
+ * schedulers start, and then follow {@link ExecutionCreated} events. Each instance only sees its
+ * own fills after startup, so with several fill-engine instances a keeper tracks the symbols its
+ * instance fills.
+ */
+@Component
+@ConditionalOnProperty(name = "order.positions.enabled", havingValue = "true", matchIfMissing = true)
+public class PositionKeeper implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(PositionKeeper.class);
+    private static final int SCALE = 6;
+
+    private final ExecutionHistoryRepository executionHistoryRepository;
+    private final PriceSource priceSource;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Map<String, Position> positions = new ConcurrentHashMap<>();
+
+    public PositionKeeper(
+        ExecutionHistoryRepository executionHistoryRepository,
+        PriceSource priceSource,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.executionHistoryRepository = executionHistoryRepository;
+        this.priceSource = priceSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Replaces every position with one replayed from the execution history. The read runs in a
+     * read-write transaction so that it goes to the primary: a replica could still miss recent
+     * fills, and nothing would add them later.
+     */
+    void rebuild() {
+        long started = System.nanoTime();
+        Map<String, Position> rebuilt = new ConcurrentHashMap<>();
+        Long executions = transactionTemplate.execute(status -> executionHistoryRepository.forEachFill(
+            fill -> position(rebuilt, fill.symbol()).apply(fill.side(), fill.quantity(), fill.price())
+        ));
+        positions = rebuilt;
+        log.info(
+            "event=positions_rebuilt executions={} symbols={} elapsedMs={}",
+            executions,
+            rebuilt.size(),
+            (System.nanoTime() - started) / 1_000_000
+        );
+    }
+
+    @EventListener
+    public void onExecutionCreated(ExecutionCreated event) {
+        position(positions, event.symbol()).apply(event.side(), event.quantity(), event.price());
+    }
+
+    /**
+     * Positions of every symbol that has traded, sorted by symbol.
+     */
+    public List<PositionSnapshot> positions() {
+        return positions.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> entry.getValue().snapshot(entry.getKey(), priceSource.latestPrice(entry.getKey())))
+            .toList();
+    }
+
+    /**
+     * The position of {@code symbol}, flat if it has not traded.
+     */
+    public PositionSnapshot position(String symbol) {
+        Position position = positions.get(symbol);
+        if (position == null) {
+            position = new Position();
+        }
+        return position.snapshot(symbol, priceSource.latestPrice(symbol));
+    }
+
+    private static Position position(Map<String, Position> positions, String symbol) {
+        Position position = positions.get(symbol);
+        if (position == null) {
+            position = positions.computeIfAbsent(symbol, key -> new Position());
+        }
+        return position;
+    }
+
+    private static long units(BigDecimal value) {
+        return value.setScale(SCALE, RoundingMode.HALF_EVEN).unscaledValue().longValueExact();
+    }
+
+    private static long notional(long quantityUnits, BigDecimal price) {
+        return units(BigDecimal.valueOf(quantityUnits, SCALE).multiply(price));
+    }
+
+    private static BigDecimal decimal(long units) {
+        return BigDecimal.valueOf(units, SCALE);
+    }
+
+    /**
+     * One symbol's accumulators, all in millionths. {@code costBasis} is the signed cost of the
+     * open quantity: positive while long, negative while short.
+     */
+    static final class Position {
+
+        private long quantity;
+        private long costBasis;
+        private long realizedPnl;
+        private long boughtQuantity;
+        private long soldQuantity;
+        private long tradeCount;
+
+        synchronized void apply(OrderSide side, BigDecimal fillQuantity, BigDecimal price) {
+            long fill = units(fillQuantity);
+            long delta = side == OrderSide.BUY ? fill : -fill;
+            if (side == OrderSide.BUY) {
+                boughtQuantity += fill;
+            } else {
+                soldQuantity += fill;
+            }
+            tradeCount++;
+
+            if (quantity == 0 || Long.signum(quantity) == Long.signum(delta)) {
+                quantity += delta;
+                costBasis += notional(delta, price);
+                return;
+            }
+            // Reducing: close up to the whole position at its average cost, open any remainder.
+            long closing = Math.abs(delta) <= Math.abs(quantity) ? delta : -quantity;
+            long closedCost = closing == -quantity
+                ? costBasis
+                : units(decimal(costBasis).multiply(BigDecimal.valueOf(-closing)).divide(
+                    BigDecimal.valueOf(quantity), SCALE, RoundingMode.HALF_EVEN
+                ));
+            realizedPnl += notional(-closing, price) - closedCost;
+            costBasis -= closedCost;
+            quantity += closing;
+
+            long opening = delta - closing;
+            if (opening != 0) {
+                quantity += opening;
+                costBasis += notional(opening, price);
+            }
+        }
+
+        synchronized PositionSnapshot snapshot(String symbol, BigDecimal markPrice) {
+            BigDecimal unrealized = markPrice == null
+                ? null
+                : decimal(notional(quantity, markPrice) - costBasis);
+            BigDecimal realized = decimal(realizedPnl);
+            return new PositionSnapshot(
+                symbol,
+                decimal(quantity),
+                quantity == 0
+                    ? null
+                    : decimal(costBasis).divide(decimal(quantity), SCALE, RoundingMode.HALF_EVEN),
+                markPrice,
+                realized,
+                unrealized,
+                unrealized == null ? null : realized.add(unrealized),
+                decimal(boughtQuantity),
+                decimal(soldQuantity),
+                tradeCount
+            );
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.yasmiins.orderexecutionservice.service.position;
+
+import java.math.BigDecimal;
+
+/**
+ * A symbol's position as of one read. {@code quantity} is signed, negative when short, and
+ * {@code averagePrice} is null while flat. Unrealized P&amp;L marks the open quantity to
+ * {@code markPrice}, the latest simulator price.
+ */
+public record PositionSnapshot(
+    String symbol,
+    BigDecimal quantity,
+    BigDecimal averagePrice,
+    BigDecimal markPrice,
+    BigDecimal realizedPnl,
+    BigDecimal unrealizedPnl,
+    BigDecimal totalPnl,
+    BigDecimal boughtQuantity,
+    BigDecimal soldQuantity,
+    long tradeCount
+) {
+}
@@ -0,0 +1,78 @@
+package io.github.yasmiins.orderexecutionservice.service.profiling;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/filltick}: the fill passes kept by {@link FillTickProfiler}. Each pass lists
+ * its self time per phase (the last frame of each stack) and its folded stacks as
+ * {@code "stack microseconds"} lines; {@code folded} sums all retained passes and can be fed to
+ * {@code flamegraph.pl} as is.
+ */
+@Component
+@Endpoint(id = "filltick")
+public class FillTickEndpoint {
+
+    private final FillTickProfiler profiler;
+
+    public FillTickEndpoint(FillTickProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public FillTickReport fillTicks() {
+        List<FillTickProfile> profiles = profiler.recentProfiles();
+        List<Pass> passes = new ArrayList<>(profiles.size());
+        Map<String, Long> totals = new TreeMap<>();
+        for (FillTickProfile profile : profiles) {
+            Map<String, Long> phases = new TreeMap<>();
+            for (FillTickProfile.FrameTime frame : profile.frames()) {
+                String phase = frame.stack().substring(frame.stack().lastIndexOf(';') + 1);
+                phases.merge(phase, frame.selfNanos(), Long::sum);
+                totals.merge(frame.stack(), frame.selfNanos(), Long::sum);
+            }
+            passes.add(new Pass(
+                profile.kind(),
+                profile.startedAt(),
+                millis(profile.durationNanos()),
+                byDescendingTime(phases),
+                folded(profile.frames().stream()
+                    .collect(TreeMap::new, (map, frame) -> map.put(frame.stack(), frame.selfNanos()), Map::putAll))
+            ));
+        }
+        return new FillTickReport(profiler.isEnabled(), passes, folded(totals));
+    }
+
+    private static Map<String, Double> byDescendingTime(Map<String, Long> phases) {
+        Map<String, Double> sorted = new LinkedHashMap<>();
+        phases.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+            .forEach(entry -> sorted.put(entry.getKey(), millis(entry.getValue())));
+        return sorted;
+    }
+
+    private static List<String> folded(Map<String, Long> selfNanosByStack) {
+        List<String> lines = new ArrayList<>(selfNanosByStack.size());
+        selfNanosByStack.forEach((stack, nanos) -> lines.add(stack + " " + nanos / 1_000));
+        return lines;
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    public record FillTickReport(boolean enabled, List<Pass> passes, List<String> folded) {
+    }
+
+    public record Pass(String kind, Instant startedAt, double durationMs, Map<String, Double> phasesMs, List<String> folded) {
+    }
+}
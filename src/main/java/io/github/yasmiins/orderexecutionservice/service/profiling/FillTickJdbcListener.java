@@ -0,0 +1,51 @@
+package io.github.yasmiins.orderexecutionservice.service.profiling;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Adds JDBC and flush frames to the fill pass being recorded on the current thread. Hibernate
+ * creates one per session from {@code hibernate.session.events.auto}, which is only set while
+ * profiling is enabled; on threads without a recording every callback is a thread-local miss.
+ */
+public class FillTickJdbcListener implements SessionEventListener {
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        FillTickProfiler.enterCurrent("connection_acquire");
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        FillTickProfiler.exitCurrent("connection_acquire");
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        FillTickProfiler.enterCurrent("jdbc_execute");
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        FillTickProfiler.exitCurrent("jdbc_execute");
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        FillTickProfiler.enterCurrent("jdbc_batch");
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        FillTickProfiler.exitCurrent("jdbc_batch");
+    }
+
+    @Override
+    public void flushStart() {
+        FillTickProfiler.enterCurrent("flush");
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        FillTickProfiler.exitCurrent("flush");
+    }
+}
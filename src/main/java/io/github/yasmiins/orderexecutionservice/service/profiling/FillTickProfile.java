@@ -0,0 +1,15 @@
+package io.github.yasmiins.orderexecutionservice.service.profiling;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One recorded fill pass. Each {@link FrameTime} is a semicolon-separated frame stack, e.g.
+ * {@code tick;AAPL;process_order;reread}, with the time spent in that frame but not in its
+ * children, and how often the frame was entered.
+ */
+public record FillTickProfile(String kind, Instant startedAt, long durationNanos, List<FrameTime> frames) {
+
+    public record FrameTime(String stack, long selfNanos, long calls) {
+    }
+}
@@ -0,0 +1,186 @@
+package io.github.yasmiins.orderexecutionservice.service.profiling;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+
+/**
+ * Opt-in per-phase timing of fill passes ({@code simulator.profiling.enabled}). A pass opens a
+ * recording on the calling thread; the engine, the fill processor and {@link FillTickJdbcListener}
+ * then push and pop named frames on it, and the finished pass is kept as a {@link FillTickProfile}
+ * of self times per frame stack, the "folded" format flame graph tools read. The last
+ * {@code simulator.profiling.history} passes are served by {@link FillTickEndpoint}.
+ *
+ * <p>When disabled every method returns after one field read, and the JDBC listener is not
+ * registered with Hibernate at all.
+ */
+@Component
+public class FillTickProfiler {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final int history;
+    private final ArrayDeque<FillTickProfile> profiles;
+
+    public FillTickProfiler(SimulatedFillProperties properties) {
+        this.enabled = properties.getProfiling().isEnabled();
+        this.history = Math.max(1, properties.getProfiling().getHistory());
+        this.profiles = new ArrayDeque<>(history);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts recording a pass of the given kind on this thread. Returns false, and records nothing,
+     * when profiling is disabled or a pass is already being recorded here; only a caller that got
+     * true may call {@link #endPass()}.
+     */
+    public boolean beginPass(String kind) {
+        if (!enabled || CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(new Recording(this, kind));
+        return true;
+    }
+
+    public void endPass() {
+        if (!enabled) {
+            return;
+        }
+        Recording recording = CURRENT.get();
+        if (recording == null) {
+            return;
+        }
+        CURRENT.remove();
+        recording.profiler.publish(recording.finish());
+    }
+
+    /**
+     * Opens a frame below the innermost open frame of this thread's pass; every call must be
+     * paired with {@link #exit(String)}, normally in a {@code finally} block.
+     */
+    public void enter(String frame) {
+        if (enabled) {
+            enterCurrent(frame);
+        }
+    }
+
+    /**
+     * Closes the innermost open frame with this name, and any frames left open inside it.
+     */
+    public void exit(String frame) {
+        if (enabled) {
+            exitCurrent(frame);
+        }
+    }
+
+    /**
+     * The retained passes, oldest first.
+     */
+    public List<FillTickProfile> recentProfiles() {
+        synchronized (profiles) {
+            return List.copyOf(profiles);
+        }
+    }
+
+    static void enterCurrent(String frame) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.enter(frame, System.nanoTime());
+        }
+    }
+
+    static void exitCurrent(String frame) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.exit(frame, System.nanoTime());
+        }
+    }
+
+    private void publish(FillTickProfile profile) {
+        synchronized (profiles) {
+            if (profiles.size() == history) {
+                profiles.pollFirst();
+            }
+            profiles.addLast(profile);
+        }
+    }
+
+    private static final class Recording {
+
+        private final FillTickProfiler profiler;
+        private final Instant startedAt = Instant.now();
+        private final ArrayDeque<Frame> stack = new ArrayDeque<>();
+        private final Map<String, long[]> selfTimes = new LinkedHashMap<>();
+
+        Recording(FillTickProfiler profiler, String kind) {
+            this.profiler = profiler;
+            stack.push(new Frame(kind, kind, System.nanoTime()));
+        }
+
+        void enter(String name, long now) {
+            stack.push(new Frame(name, stack.peek().stack + ";" + name, now));
+        }
+
+        void exit(String name, long now) {
+            // An unmatched exit is ignored; the root frame is only closed by finish().
+            if (stack.stream().limit(stack.size() - 1).noneMatch(frame -> frame.name.equals(name))) {
+                return;
+            }
+            Frame closed;
+            do {
+                closed = stack.pop();
+                close(closed, now);
+            } while (!closed.name.equals(name));
+        }
+
+        FillTickProfile finish() {
+            long now = System.nanoTime();
+            // Frames left open by an exception are closed at the end of the pass.
+            while (stack.size() > 1) {
+                close(stack.pop(), now);
+            }
+            Frame root = stack.pop();
+            long duration = close(root, now);
+            List<FillTickProfile.FrameTime> frames = new ArrayList<>(selfTimes.size());
+            selfTimes.forEach((stack, times) -> frames.add(new FillTickProfile.FrameTime(stack, times[0], times[1])));
+            return new FillTickProfile(root.stack, startedAt, duration, frames);
+        }
+
+        private long close(Frame frame, long now) {
+            long elapsed = now - frame.startedAt;
+            long[] times = selfTimes.computeIfAbsent(frame.stack, key -> new long[2]);
+            times[0] += elapsed - frame.childNanos;
+            times[1]++;
+            Frame parent = stack.peek();
+            if (parent != null) {
+                parent.childNanos += elapsed;
+            }
+            return elapsed;
+        }
+    }
+
+    private static final class Frame {
+
+        private final String name;
+        private final String stack;
+        private final long startedAt;
+        private long childNanos;
+
+        Frame(String name, String stack, long startedAt) {
+            this.name = name;
+            this.stack = stack;
+            this.startedAt = startedAt;
+        }
+    }
+}
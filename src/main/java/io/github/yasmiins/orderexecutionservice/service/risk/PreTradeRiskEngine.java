@@ -0,0 +1,412 @@
+package io.github.yasmiins.orderexecutionservice.service.risk;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.yasmiins.orderexecutionservice.config.PreTradeRiskProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.OpenExposure;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.OrderRiskException;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+import io.github.yasmiins.orderexecutionservice.service.marketdata.PriceSource;
+
+/**
+ * In-memory pre-trade risk checks for the accept path. Open exposure is kept in {@link AtomicLong}
+ * counters per account (notional), per symbol (notional) and per account and symbol (open
+ * quantity), so a check is a few CAS operations instead of an aggregate query.
+ * <p>
+ * An order's exposure is reserved inside the accepting transaction and released again if that
+ * transaction rolls back. Afterwards it shrinks with the committed fills and cancels that flow
+ * through {@link OrderJournal}. On boot the counters are rebuilt from the open orders in the
+ * database, and every {@code rebuild-interval-ms} they are reconciled with them again, which picks
+ * up orders accepted, filled or canceled by other instances. Limit orders count at their limit
+ * price and market orders at the latest price.
+ * <p>
+ * With no limit configured there is nothing to enforce, so the engine stays idle: it neither
+ * reserves exposure nor reads open orders.
+ */
+@Component
+public class PreTradeRiskEngine implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(PreTradeRiskEngine.class);
+    private static final int QUANTITY_SCALE = 6;
+    private static final int NOTIONAL_SCALE = 2;
+    private static final List<OrderStatus> OPEN_STATUSES = List.of(
+        OrderStatus.NEW,
+        OrderStatus.PARTIALLY_FILLED
+    );
+
+    private final OrderRepository orderRepository;
+    private final OrderJournal orderJournal;
+    private final PriceSource priceSource;
+    private final boolean enabled;
+    private final long maxAccountNotional;
+    private final long maxSymbolNotional;
+    private final long maxOpenQuantity;
+    private final BigDecimal priceBand;
+
+    private final Map<String, AtomicLong> accountNotional = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> symbolNotional = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, AtomicLong>> openQuantity = new ConcurrentHashMap<>();
+    private final Map<UUID, Reservation> reservations = new ConcurrentHashMap<>();
+    // Release time per order since the last rebuild; a rebuild must not re-reserve these orders.
+    private final Map<UUID, Long> releasedAt = new ConcurrentHashMap<>();
+
+    public PreTradeRiskEngine(
+        OrderRepository orderRepository,
+        OrderJournal orderJournal,
+        PriceSource priceSource,
+        PreTradeRiskProperties properties
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderJournal = orderJournal;
+        this.priceSource = priceSource;
+        this.enabled = properties.isEnabled() && hasLimit(properties);
+        this.maxAccountNotional = toLimit(properties.getMaxAccountNotional(), NOTIONAL_SCALE);
+        this.maxSymbolNotional = toLimit(properties.getMaxSymbolNotional(), NOTIONAL_SCALE);
+        this.maxOpenQuantity = toLimit(properties.getMaxOpenQuantity(), QUANTITY_SCALE);
+        this.priceBand = properties.getPriceBandPercent() == null
+            ? null
+            : properties.getPriceBandPercent().movePointLeft(2);
+    }
+
+    /**
+     * Rebuilds exposure before the web server and schedulers start, then follows committed
+     * commands.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        rebuild();
+        orderJournal.subscribe((entry, sequence) -> apply(entry));
+    }
+
+    /**
+     * Reconciles reservations with the open orders in the database. Orders this instance has not
+     * seen are reserved, reservations shrink to the remaining quantity read back, and committed
+     * reservations whose order is no longer open are released. Reservations committed after the
+     * read started are left alone, since the read may not include them yet. Orders released while
+     * the read ran are not reserved again, since the read may still show them as open.
+     */
+    @Scheduled(
+        fixedDelayString = "${order.risk.rebuild-interval-ms:60000}",
+        initialDelayString = "${order.risk.rebuild-interval-ms:60000}"
+    )
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.nanoTime();
+        List<OpenExposure> open = orderRepository.findOpenExposures(OPEN_STATUSES);
+        Set<UUID> openIds = new HashSet<>();
+        int added = 0;
+        int skipped = 0;
+        for (OpenExposure exposure : open) {
+            openIds.add(exposure.id());
+            BigDecimal remaining = exposure.quantity().subtract(exposure.filledQuantity());
+            Reservation existing = reservations.get(exposure.id());
+            if (existing != null) {
+                existing.reduceTo(remaining);
+                continue;
+            }
+            if (releasedAt.containsKey(exposure.id())) {
+                continue;
+            }
+            BigDecimal unitPrice = exposure.orderType() == OrderType.LIMIT
+                ? exposure.price()
+                : priceSource.latestPrice(exposure.symbol());
+            if (unitPrice == null) {
+                // Retried on the next rebuild, once the feed has a price.
+                skipped++;
+                continue;
+            }
+            Reservation reservation =
+                new Reservation(exposure.account(), exposure.symbol(), unitPrice, exposure.quantity());
+            reservation.add(remaining);
+            reservation.markCommitted();
+            if (reservations.putIfAbsent(exposure.id(), reservation) != null) {
+                reservation.reduceTo(BigDecimal.ZERO);
+            } else if (releasedAt.containsKey(exposure.id())) {
+                // Released between the check above and the put; release() may have missed it.
+                if (reservations.remove(exposure.id(), reservation)) {
+                    reservation.reduceTo(BigDecimal.ZERO);
+                }
+            } else {
+                added++;
+            }
+        }
+        // Orders released before the read started are already closed in it.
+        releasedAt.values().removeIf(at -> at - started < 0);
+        int released = 0;
+        for (Map.Entry<UUID, Reservation> entry : reservations.entrySet()) {
+            Reservation reservation = entry.getValue();
+            if (!openIds.contains(entry.getKey())
+                && reservation.committedBefore(started)
+                && reservations.remove(entry.getKey(), reservation)) {
+                reservation.reduceTo(BigDecimal.ZERO);
+                released++;
+            }
+        }
+        log.info(
+            "event=risk_exposure_rebuilt openOrders={} added={} released={} skippedNoPrice={} elapsedMs={}",
+            open.size(),
+            added,
+            released,
+            skipped,
+            (System.nanoTime() - started) / 1_000_000
+        );
+    }
+
+    /**
+     * Checks the order against the price band and exposure limits and reserves its exposure, or
+     * throws {@link OrderRiskException} without reserving anything.
+     */
+    public void reserve(
+        UUID orderId,
+        String account,
+        String symbol,
+        OrderType orderType,
+        BigDecimal quantity,
+        BigDecimal price
+    ) {
+        if (!enabled) {
+            return;
+        }
+        BigDecimal referencePrice = priceSource.latestPrice(symbol);
+        if (orderType == OrderType.LIMIT) {
+            checkPriceBand(symbol, price, referencePrice);
+        }
+        BigDecimal unitPrice = orderType == OrderType.LIMIT ? price : referencePrice;
+        if (unitPrice == null) {
+            throw new OrderRiskException("No reference price for " + symbol);
+        }
+        Reservation reservation = new Reservation(account, symbol, unitPrice, quantity);
+        reservation.reserve();
+        reservations.put(orderId, reservation);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reservation.markCommitted();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    reservation.markCommitted();
+                } else {
+                    release(orderId);
+                }
+            }
+        });
+    }
+
+    void apply(JournalEntry entry) {
+        switch (entry) {
+            case JournalEntry.Create create -> {
+                // Reserved on the accept path.
+            }
+            case JournalEntry.Cancel cancel -> release(cancel.orderId());
+            case JournalEntry.Fill fill -> {
+                if (fill.status() == OrderStatus.FILLED) {
+                    release(fill.orderId());
+                    return;
+                }
+                Reservation reservation = reservations.get(fill.orderId());
+                if (reservation != null) {
+                    reservation.reduceTo(reservation.quantity.subtract(fill.filledQuantity()));
+                }
+            }
+        }
+    }
+
+    BigDecimal accountNotional(String account) {
+        return BigDecimal.valueOf(counter(accountNotional, account).get(), NOTIONAL_SCALE);
+    }
+
+    BigDecimal symbolNotional(String symbol) {
+        return BigDecimal.valueOf(counter(symbolNotional, symbol).get(), NOTIONAL_SCALE);
+    }
+
+    BigDecimal openQuantity(String account, String symbol) {
+        return BigDecimal.valueOf(openQuantityCounter(account, symbol).get(), QUANTITY_SCALE);
+    }
+
+    private void release(UUID orderId) {
+        releasedAt.put(orderId, System.nanoTime());
+        Reservation reservation = reservations.remove(orderId);
+        if (reservation != null) {
+            reservation.reduceTo(BigDecimal.ZERO);
+        }
+    }
+
+    private void checkPriceBand(String symbol, BigDecimal price, BigDecimal referencePrice) {
+        if (priceBand == null || referencePrice == null || referencePrice.signum() <= 0) {
+            return;
+        }
+        BigDecimal allowed = referencePrice.multiply(priceBand);
+        if (price.subtract(referencePrice).abs().compareTo(allowed) > 0) {
+            throw new OrderRiskException(
+                "Limit price " + price.toPlainString() + " is outside the "
+                    + priceBand.movePointRight(2).stripTrailingZeros().toPlainString()
+                    + "% band around " + referencePrice.toPlainString() + " for " + symbol
+            );
+        }
+    }
+
+    private AtomicLong openQuantityCounter(String account, String symbol) {
+        Map<String, AtomicLong> bySymbol = openQuantity.get(account);
+        if (bySymbol == null) {
+            bySymbol = openQuantity.computeIfAbsent(account, key -> new ConcurrentHashMap<>());
+        }
+        return counter(bySymbol, symbol);
+    }
+
+    private static AtomicLong counter(Map<String, AtomicLong> counters, String key) {
+        AtomicLong counter = counters.get(key);
+        if (counter == null) {
+            counter = counters.computeIfAbsent(key, ignored -> new AtomicLong());
+        }
+        return counter;
+    }
+
+    private static boolean tryAdd(AtomicLong counter, long delta, long limit) {
+        while (true) {
+            long current = counter.get();
+            long next = current + delta;
+            if (next < current || next > limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    private static boolean hasLimit(PreTradeRiskProperties properties) {
+        return properties.getMaxAccountNotional() != null
+            || properties.getMaxSymbolNotional() != null
+            || properties.getMaxOpenQuantity() != null
+            || properties.getPriceBandPercent() != null;
+    }
+
+    private static long toLimit(BigDecimal limit, int scale) {
+        if (limit == null) {
+            return Long.MAX_VALUE;
+        }
+        return limit.setScale(scale, RoundingMode.DOWN).unscaledValue().longValueExact();
+    }
+
+    private static long scaled(BigDecimal value, int scale) {
+        try {
+            return value.setScale(scale, RoundingMode.UP).unscaledValue().longValueExact();
+        } catch (ArithmeticException ex) {
+            throw new OrderRiskException("Order is too large to evaluate");
+        }
+    }
+
+    /**
+     * Exposure held by one order. Remaining quantity only ever shrinks, so fill and cancel
+     * entries arriving out of order on different threads converge on the same result.
+     */
+    private final class Reservation {
+
+        private final AtomicLong accountNotionalCounter;
+        private final AtomicLong symbolNotionalCounter;
+        private final AtomicLong openQuantityCounter;
+        private final BigDecimal unitPrice;
+        private final String account;
+        private final String symbol;
+        private final BigDecimal quantity;
+        private long remainingQuantity;
+        private long remainingNotional;
+        private volatile boolean committed;
+        private volatile long committedAtNanos;
+
+        Reservation(String account, String symbol, BigDecimal unitPrice, BigDecimal quantity) {
+            this.account = account;
+            this.symbol = symbol;
+            this.unitPrice = unitPrice;
+            this.quantity = quantity;
+            this.accountNotionalCounter = counter(accountNotional, account);
+            this.symbolNotionalCounter = counter(symbolNotional, symbol);
+            this.openQuantityCounter = openQuantityCounter(account, symbol);
+        }
+
+        /**
+         * Takes exposure for a new order, checking every limit.
+         */
+        synchronized void reserve() {
+            long quantityUnits = scaled(quantity, QUANTITY_SCALE);
+            long notionalUnits = scaled(quantity.multiply(unitPrice), NOTIONAL_SCALE);
+            if (!tryAdd(openQuantityCounter, quantityUnits, maxOpenQuantity)) {
+                throw new OrderRiskException(
+                    "Open quantity in " + symbol + " would exceed the limit for account " + account
+                );
+            }
+            if (!tryAdd(accountNotionalCounter, notionalUnits, maxAccountNotional)) {
+                openQuantityCounter.addAndGet(-quantityUnits);
+                throw new OrderRiskException("Open notional would exceed the limit for account " + account);
+            }
+            if (!tryAdd(symbolNotionalCounter, notionalUnits, maxSymbolNotional)) {
+                openQuantityCounter.addAndGet(-quantityUnits);
+                accountNotionalCounter.addAndGet(-notionalUnits);
+                throw new OrderRiskException("Open notional in " + symbol + " would exceed the symbol limit");
+            }
+            remainingQuantity = quantityUnits;
+            remainingNotional = notionalUnits;
+        }
+
+        /**
+         * Takes exposure for an order that is already open, without checking limits.
+         */
+        synchronized void add(BigDecimal remaining) {
+            remainingQuantity = scaled(remaining, QUANTITY_SCALE);
+            remainingNotional = scaled(remaining.multiply(unitPrice), NOTIONAL_SCALE);
+            openQuantityCounter.addAndGet(remainingQuantity);
+            accountNotionalCounter.addAndGet(remainingNotional);
+            symbolNotionalCounter.addAndGet(remainingNotional);
+        }
+
+        void markCommitted() {
+            committedAtNanos = System.nanoTime();
+            committed = true;
+        }
+
+        boolean committedBefore(long nanos) {
+            return committed && committedAtNanos - nanos < 0;
+        }
+
+        synchronized void reduceTo(BigDecimal remaining) {
+            BigDecimal clamped = remaining.signum() < 0 ? BigDecimal.ZERO : remaining;
+            long quantityUnits = scaled(clamped, QUANTITY_SCALE);
+            if (quantityUnits >= remainingQuantity) {
+                return;
+            }
+            long notionalUnits = scaled(clamped.multiply(unitPrice), NOTIONAL_SCALE);
+            openQuantityCounter.addAndGet(quantityUnits - remainingQuantity);
+            accountNotionalCounter.addAndGet(notionalUnits - remainingNotional);
+            symbolNotionalCounter.addAndGet(notionalUnits - remainingNotional);
+            remainingQuantity = quantityUnits;
+            remainingNotional = notionalUnits;
+        }
+    }
+}
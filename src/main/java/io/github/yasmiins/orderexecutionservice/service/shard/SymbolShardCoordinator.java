@@ -0,0 +1,204 @@
+package io.github.yasmiins.orderexecutionservice.service.shard;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.repository.SymbolLeaseRepository;
+import io.github.yasmiins.orderexecutionservice.service.SymbolRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Decides which symbols this instance's fill engine processes when {@code simulator.sharding.enabled}
+ * is set, so several instances sharing one database split the work instead of all scanning every
+ * open order.
+ * <p>
+ * Every heartbeat the node records itself in {@code fill_nodes}, reads the live nodes, and computes
+ * the same balanced assignment all other nodes compute from that list: each symbol goes to the
+ * highest-scoring node by rendezvous hashing that still has room under {@code ceil(symbols / nodes)}.
+ * It then releases the leases it should no longer hold and claims or renews the ones it should. A
+ * lease that another node still holds is not taken, so a moved symbol changes hands only after the
+ * old owner has released it or its lease has expired. If heartbeats stop succeeding, ownership
+ * lapses locally when the lease would have expired, before any other node can claim the symbol.
+ * <p>
+ * The symbols are the supported symbols, or, when every symbol is accepted, those with open orders.
+ * With sharding disabled this node owns every symbol.
+ */
+@Component
+public class SymbolShardCoordinator {
+
+    private static final Logger log = LoggerFactory.getLogger(SymbolShardCoordinator.class);
+    private static final List<OrderStatus> OPEN_STATUSES = List.of(
+        OrderStatus.NEW,
+        OrderStatus.PARTIALLY_FILLED
+    );
+
+    private final SymbolLeaseRepository leaseRepository;
+    private final OrderRepository orderRepository;
+    private final SymbolRegistry symbolRegistry;
+    private final boolean enabled;
+    private final String nodeId;
+    private final Duration leaseDuration;
+
+    private volatile Set<String> ownedSymbols = Set.of();
+    private volatile long ownedUntilNanos = System.nanoTime();
+
+    public SymbolShardCoordinator(
+        SymbolLeaseRepository leaseRepository,
+        OrderRepository orderRepository,
+        SymbolRegistry symbolRegistry,
+        SimulatedFillProperties properties
+    ) {
+        SimulatedFillProperties.Sharding sharding = properties.getSharding();
+        this.leaseRepository = leaseRepository;
+        this.orderRepository = orderRepository;
+        this.symbolRegistry = symbolRegistry;
+        this.enabled = properties.isEnabled() && sharding.isEnabled();
+        this.nodeId = sharding.getNodeId() == null ? UUID.randomUUID().toString() : sharding.getNodeId();
+        this.leaseDuration = Duration.ofMillis(sharding.getLeaseMs());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public boolean owns(String symbol) {
+        return !enabled || ownedSymbols().contains(symbol);
+    }
+
+    /**
+     * Symbols this node currently holds a lease on; empty once the leases may have expired.
+     */
+    public Set<String> ownedSymbols() {
+        return System.nanoTime() - ownedUntilNanos < 0 ? ownedSymbols : Set.of();
+    }
+
+    @Scheduled(fixedDelayString = "${simulator.sharding.heartbeat-ms:5000}")
+    public synchronized void rebalance() {
+        if (!enabled) {
+            return;
+        }
+        // Leases are stamped by the database after this point, so they outlive the local deadline.
+        long startedNanos = System.nanoTime();
+        try {
+            leaseRepository.heartbeat(nodeId);
+            List<String> nodes = leaseRepository.findLiveNodes(leaseDuration);
+            if (!nodes.contains(nodeId)) {
+                nodes = new ArrayList<>(nodes);
+                nodes.add(nodeId);
+            }
+            Set<String> target = new HashSet<>();
+            assign(symbols(), nodes).forEach((symbol, owner) -> {
+                if (owner.equals(nodeId)) {
+                    target.add(symbol);
+                }
+            });
+
+            Set<String> previous = ownedSymbols;
+            Set<String> dropped = new HashSet<>(previous);
+            dropped.removeAll(target);
+            if (!dropped.isEmpty()) {
+                // Stop processing before the lease becomes claimable by the new owner.
+                Set<String> kept = new HashSet<>(previous);
+                kept.retainAll(target);
+                ownedSymbols = Set.copyOf(kept);
+                leaseRepository.release(nodeId, dropped);
+            }
+
+            Set<String> claimed = new HashSet<>();
+            for (String symbol : target) {
+                if (leaseRepository.claim(symbol, nodeId, leaseDuration)) {
+                    claimed.add(symbol);
+                }
+            }
+            ownedSymbols = Set.copyOf(claimed);
+            ownedUntilNanos = startedNanos + leaseDuration.toNanos();
+            if (!claimed.equals(previous)) {
+                log.info(
+                    "event=fill_shard_rebalanced node={} liveNodes={} owned={} pending={}",
+                    nodeId,
+                    nodes.size(),
+                    new TreeSet<>(claimed),
+                    target.size() - claimed.size()
+                );
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Symbol lease heartbeat failed for node {}; owned symbols lapse with their leases", nodeId, ex);
+        }
+    }
+
+    @PreDestroy
+    void leave() {
+        if (!enabled) {
+            return;
+        }
+        ownedSymbols = Set.of();
+        try {
+            leaseRepository.leave(nodeId);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to release symbol leases of node {}; they expire on their own", nodeId, ex);
+        }
+    }
+
+    private List<String> symbols() {
+        if (symbolRegistry.isRestricted()) {
+            return symbolRegistry.symbols().stream().map(SymbolRegistry.RegisteredSymbol::symbol).toList();
+        }
+        return orderRepository.findSymbolsWithStatusIn(OPEN_STATUSES);
+    }
+
+    /**
+     * Balanced rendezvous assignment of {@code symbols} to {@code nodes}. Depends only on its
+     * inputs, so every node derives the same owners from the same membership list, and a node
+     * joining or leaving moves roughly its own share of symbols.
+     */
+    static Map<String, String> assign(List<String> symbols, List<String> nodes) {
+        Map<String, String> owners = new HashMap<>();
+        if (nodes.isEmpty()) {
+            return owners;
+        }
+        List<String> sortedSymbols = new ArrayList<>(new TreeSet<>(symbols));
+        int capacity = (sortedSymbols.size() + nodes.size() - 1) / nodes.size();
+        Map<String, Integer> load = new HashMap<>();
+        for (String symbol : sortedSymbols) {
+            String owner = nodes.stream()
+                .filter(node -> load.getOrDefault(node, 0) < capacity)
+                .max(Comparator.<String>comparingLong(node -> score(node, symbol)).thenComparing(Comparator.reverseOrder()))
+                .orElseThrow();
+            load.merge(owner, 1, Integer::sum);
+            owners.put(symbol, owner);
+        }
+        return owners;
+    }
+
+    private static long score(String node, String symbol) {
+        // MurmurHash3 finalizer over both string hashes; String.hashCode is specified, so every JVM agrees.
+        long h = ((long) node.hashCode() << 32) ^ (symbol.hashCode() & 0xFFFFFFFFL);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * Immutable view of a resting order held by {@link OpenOrderState}.
+ */
+public record OpenOrder(
+    UUID id,
+    String symbol,
+    OrderSide side,
+    OrderType orderType,
+    BigDecimal quantity,
+    BigDecimal price,
+    BigDecimal filledQuantity,
+    OrderStatus status,
+    Instant createdAt
+) {
+
+    public static OpenOrder from(Order order) {
+        return new OpenOrder(
+            order.getId(),
+            order.getInstrument().getSymbol(),
+            order.getSide(),
+            order.getOrderType(),
+            order.getQuantity(),
+            order.getPrice(),
+            order.getFilledQuantity(),
+            order.getStatus(),
+            order.getCreatedAt()
+        );
+    }
+
+    public boolean isOpen() {
+        return status == OrderStatus.NEW || status == OrderStatus.PARTIALLY_FILLED;
+    }
+
+    public OpenOrder withFill(BigDecimal newFilledQuantity, OrderStatus newStatus) {
+        return new OpenOrder(id, symbol, side, orderType, quantity, price, newFilledQuantity, newStatus, createdAt);
+    }
+}
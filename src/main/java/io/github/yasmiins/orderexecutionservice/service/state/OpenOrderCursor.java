@@ -0,0 +1,106 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+
+/**
+ * Open-order cache for the fill engine when {@code simulator.open-order-cursor.enabled} is set and
+ * warm start is not.
+ * <p>
+ * The first {@link #refresh()} loads every open order. Later refreshes read only the orders whose
+ * {@code updated_at} is newer than the start of the previous read minus the overlap, so a pass
+ * costs O(changed orders) instead of O(open orders). Fills, cancels and creates all bump
+ * {@code updated_at}; rows that come back terminal are evicted. The overlap covers transactions
+ * that stamped {@code updated_at} before the previous read but committed after it, and clock skew
+ * between the application and the database. Deleted rows never show up in a delta, so the cache
+ * is rebuilt from a full load every {@code full-reload-interval-ms}.
+ */
+@Component
+public class OpenOrderCursor {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenOrderCursor.class);
+    private static final List<OrderStatus> OPEN_STATUSES = List.of(
+        OrderStatus.NEW,
+        OrderStatus.PARTIALLY_FILLED
+    );
+
+    private final OrderRepository orderRepository;
+    private final OrderMetrics orderMetrics;
+    private final boolean enabled;
+    private final Duration overlap;
+    private final Duration fullReloadInterval;
+
+    private volatile OpenOrderState state = new OpenOrderState();
+    private Instant watermark;
+    private Instant lastFullReload;
+
+    public OpenOrderCursor(
+        OrderRepository orderRepository,
+        OrderMetrics orderMetrics,
+        SimulatedFillProperties properties
+    ) {
+        SimulatedFillProperties.OpenOrderCursor cursor = properties.getOpenOrderCursor();
+        this.orderRepository = orderRepository;
+        this.orderMetrics = orderMetrics;
+        this.enabled = properties.isEnabled() && cursor.isEnabled();
+        this.overlap = Duration.ofMillis(cursor.getOverlapMs());
+        this.fullReloadInterval = Duration.ofMillis(cursor.getFullReloadIntervalMs());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Brings the cache up to date with the database. Serialized, so concurrent passes share one
+     * read per refresh instead of racing on the watermark.
+     */
+    public synchronized void refresh() {
+        // Stamp before reading: a row updated while the read runs is newer than the watermark and
+        // is read again next time.
+        Instant startedAt = Instant.now();
+        if (watermark == null || !startedAt.isBefore(lastFullReload.plus(fullReloadInterval))) {
+            OpenOrderState loaded = new OpenOrderState();
+            List<OpenOrder> open = orderRepository.findOpenOrderState(OPEN_STATUSES);
+            open.forEach(loaded::put);
+            state = loaded;
+            lastFullReload = startedAt;
+            orderMetrics.incrementCursorRowsRead(true, open.size());
+            log.debug("event=open_order_cursor_refresh read=full rows={} openOrders={}", open.size(), loaded.size());
+        } else {
+            List<OpenOrder> changed = orderRepository.findOrderStateUpdatedAfter(watermark.minus(overlap));
+            changed.forEach(state::put);
+            orderMetrics.incrementCursorRowsRead(false, changed.size());
+            log.debug(
+                "event=open_order_cursor_refresh read=incremental rows={} openOrders={}",
+                changed.size(),
+                state.size()
+            );
+        }
+        watermark = startedAt;
+    }
+
+    public Set<String> symbols() {
+        return state.symbols();
+    }
+
+    public Collection<OpenOrder> ordersFor(String symbol) {
+        return state.ordersFor(symbol);
+    }
+
+    public int size() {
+        return state.size();
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * Compact binary snapshot of {@link OpenOrderState}, grouped by symbol:
+ * <pre>
+ * int    magic 'OOSN'
+ * short  format version
+ * long   journal sequence covered
+ * long   takenAt epoch seconds, int nanos
+ * int    symbol count, then per symbol: UTF symbol, int order count, orders
+ * int    CRC32C of everything above
+ * </pre>
+ * Snapshots are written to a temporary file and atomically moved into place, so a crash while
+ * writing leaves the previous snapshot intact.
+ */
+public final class OpenOrderSnapshots {
+
+    static final int MAGIC = 0x4F4F534E;
+    static final short VERSION = 1;
+
+    private static final byte ABSENT = Byte.MIN_VALUE;
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OpenOrderSnapshots() {
+    }
+
+    public static void write(Path file, OpenOrderState state, Instant takenAt) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream raw = new BufferedOutputStream(Files.newOutputStream(temp))) {
+                CheckedOutputStream checked = new CheckedOutputStream(raw, new CRC32C());
+                DataOutputStream out = new DataOutputStream(checked);
+                out.writeInt(MAGIC);
+                out.writeShort(VERSION);
+                out.writeLong(state.lastSequence());
+                out.writeLong(takenAt.getEpochSecond());
+                out.writeInt(takenAt.getNano());
+                List<String> symbols = new ArrayList<>(state.symbols());
+                out.writeInt(symbols.size());
+                for (String symbol : symbols) {
+                    List<OpenOrder> orders = List.copyOf(state.ordersFor(symbol));
+                    out.writeUTF(symbol);
+                    out.writeInt(orders.size());
+                    for (OpenOrder order : orders) {
+                        writeOrder(out, order);
+                    }
+                }
+                out.flush();
+                new DataOutputStream(raw).writeInt((int) checked.getChecksum().getValue());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Reads a snapshot, or returns {@code null} when the file is missing, fails its checksum, or is
+     * of another version; callers then fall back to a full load. The checksum is verified over the
+     * raw bytes before anything is decoded, so a corrupt ordinal or length never reaches the decoder.
+     */
+    public static Snapshot read(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        int bodyLength = bytes.length - Integer.BYTES;
+        if (bodyLength < 0) {
+            return null;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, 0, bodyLength);
+        if (ByteBuffer.wrap(bytes, bodyLength, Integer.BYTES).getInt() != (int) crc.getValue()) {
+            return null;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, bodyLength));
+        if (in.readInt() != MAGIC || in.readShort() != VERSION) {
+            return null;
+        }
+        OpenOrderState state = new OpenOrderState();
+        state.setLastSequence(in.readLong());
+        Instant takenAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        int symbols = in.readInt();
+        for (int i = 0; i < symbols; i++) {
+            String symbol = in.readUTF();
+            int orders = in.readInt();
+            for (int j = 0; j < orders; j++) {
+                state.put(readOrder(in, symbol));
+            }
+        }
+        return new Snapshot(state, takenAt);
+    }
+
+    private static void writeOrder(DataOutputStream out, OpenOrder order) throws IOException {
+        out.writeLong(order.id().getMostSignificantBits());
+        out.writeLong(order.id().getLeastSignificantBits());
+        out.writeByte(order.side().ordinal());
+        out.writeByte(order.orderType().ordinal());
+        out.writeByte(order.status().ordinal());
+        writeDecimal(out, order.quantity());
+        writeDecimal(out, order.price());
+        writeDecimal(out, order.filledQuantity());
+        Instant createdAt = order.createdAt() == null ? Instant.EPOCH : order.createdAt();
+        out.writeLong(createdAt.getEpochSecond());
+        out.writeInt(createdAt.getNano());
+    }
+
+    private static OpenOrder readOrder(DataInputStream in, String symbol) throws IOException {
+        UUID id = new UUID(in.readLong(), in.readLong());
+        OrderSide side = SIDES[in.readByte()];
+        OrderType type = TYPES[in.readByte()];
+        OrderStatus status = STATUSES[in.readByte()];
+        BigDecimal quantity = readDecimal(in);
+        BigDecimal price = readDecimal(in);
+        BigDecimal filled = readDecimal(in);
+        Instant createdAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        return new OpenOrder(id, symbol, side, type, quantity, price, filled, status, createdAt);
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        if (value == null) {
+            out.writeByte(ABSENT);
+            return;
+        }
+        out.writeByte(value.scale());
+        out.writeLong(value.unscaledValue().longValueExact());
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        byte scale = in.readByte();
+        if (scale == ABSENT) {
+            return null;
+        }
+        return new BigDecimal(BigInteger.valueOf(in.readLong()), scale);
+    }
+
+    public record Snapshot(OpenOrderState state, Instant takenAt) {
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+
+/**
+ * In-memory set of open orders indexed by id and by symbol. Orders leave the state as soon as they
+ * reach a terminal status, so its size tracks the open book rather than order history.
+ */
+public class OpenOrderState {
+
+    private final Map<UUID, OpenOrder> orders = new ConcurrentHashMap<>();
+    private final Map<String, Map<UUID, OpenOrder>> ordersBySymbol = new ConcurrentHashMap<>();
+    private volatile long lastSequence;
+
+    /**
+     * Applies a journal entry. Fills and cancels for unknown orders are ignored: the order was
+     * either already closed or predates the snapshot this state was built from.
+     */
+    public void apply(JournalEntry entry, long sequence) {
+        switch (entry) {
+            case JournalEntry.Create create -> put(new OpenOrder(
+                create.orderId(),
+                create.symbol(),
+                create.side(),
+                create.orderType(),
+                create.quantity(),
+                create.price(),
+                BigDecimal.ZERO,
+                OrderStatus.NEW,
+                create.createdAt()
+            ));
+            case JournalEntry.Cancel cancel -> remove(cancel.orderId());
+            case JournalEntry.Fill fill -> {
+                OpenOrder current = orders.get(fill.orderId());
+                if (current != null) {
+                    put(current.withFill(fill.filledQuantity(), fill.status()));
+                }
+            }
+        }
+        if (sequence > lastSequence) {
+            lastSequence = sequence;
+        }
+    }
+
+    public void put(OpenOrder order) {
+        if (!order.isOpen()) {
+            remove(order.id());
+            return;
+        }
+        orders.put(order.id(), order);
+        ordersBySymbol.computeIfAbsent(order.symbol(), key -> new ConcurrentHashMap<>()).put(order.id(), order);
+    }
+
+    public void remove(UUID orderId) {
+        OpenOrder removed = orders.remove(orderId);
+        if (removed == null) {
+            return;
+        }
+        Map<UUID, OpenOrder> symbolOrders = ordersBySymbol.get(removed.symbol());
+        if (symbolOrders != null) {
+            symbolOrders.remove(orderId);
+        }
+    }
+
+    public OpenOrder get(UUID orderId) {
+        return orders.get(orderId);
+    }
+
+    public Collection<OpenOrder> ordersFor(String symbol) {
+        Map<UUID, OpenOrder> symbolOrders = ordersBySymbol.get(symbol);
+        return symbolOrders == null ? List.of() : symbolOrders.values();
+    }
+
+    public Set<String> symbols() {
+        return ordersBySymbol.keySet();
+    }
+
+    public int size() {
+        return orders.size();
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+}
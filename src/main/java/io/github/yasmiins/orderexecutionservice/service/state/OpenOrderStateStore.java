@@ -0,0 +1,212 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Owns the engine's in-memory open-order state when {@code simulator.warm-start.enabled} is set.
+ * <p>
+ * On boot the state is restored from the last snapshot, then caught up with only the orders whose
+ * {@code updated_at} is newer than the snapshot (minus a clock-skew margin). Afterwards it is kept
+ * current by the committed commands flowing through {@link OrderJournal}, and written back to a
+ * snapshot periodically and on shutdown. Without a usable snapshot it falls back to one full load
+ * of open orders.
+ * <p>
+ * The journal only carries this instance's commands, so the state can drift from {@code orders}
+ * when another writer touches a row. Orders whose conditional fill write did not apply are
+ * reloaded at once, and the whole state is reconciled against {@code orders} every
+ * {@code reconcile-interval-ms}.
+ */
+@Component
+public class OpenOrderStateStore implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(OpenOrderStateStore.class);
+    private static final List<OrderStatus> OPEN_STATUSES = List.of(
+        OrderStatus.NEW,
+        OrderStatus.PARTIALLY_FILLED
+    );
+
+    private final OrderRepository orderRepository;
+    private final OrderJournal orderJournal;
+    private final boolean enabled;
+    private final Path snapshotFile;
+    private final Duration catchUpSkew;
+
+    private volatile OpenOrderState state = new OpenOrderState();
+    private volatile boolean ready;
+
+    public OpenOrderStateStore(
+        OrderRepository orderRepository,
+        OrderJournal orderJournal,
+        SimulatedFillProperties properties
+    ) {
+        SimulatedFillProperties.WarmStart warmStart = properties.getWarmStart();
+        if (warmStart.isEnabled() && properties.getSharding().isEnabled()) {
+            // Each node's journal only sees its own commands, so a warm state would miss the orders
+            // that other nodes accept and fill.
+            throw new IllegalStateException(
+                "simulator.warm-start.enabled cannot be combined with simulator.sharding.enabled"
+            );
+        }
+        this.orderRepository = orderRepository;
+        this.orderJournal = orderJournal;
+        this.enabled = properties.isEnabled() && warmStart.isEnabled();
+        this.snapshotFile = warmStart.getSnapshotFile();
+        this.catchUpSkew = Duration.ofMillis(warmStart.getCatchUpSkewMs());
+    }
+
+    /**
+     * Runs before scheduled tasks start, so the first fill tick already sees warm state.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        warmStart();
+        // Nothing commits before the web server and schedulers start, which happens after this
+        // callback, so subscribing once the state is built does not miss any command.
+        orderJournal.subscribe((entry, sequence) -> state.apply(entry, sequence));
+    }
+
+    void warmStart() {
+        long started = System.nanoTime();
+        OpenOrderSnapshots.Snapshot snapshot = readSnapshot();
+        if (snapshot == null) {
+            OpenOrderState loaded = new OpenOrderState();
+            orderRepository.findOpenOrderState(OPEN_STATUSES).forEach(loaded::put);
+            state = loaded;
+            log.info("event=warm_start mode=full openOrders={} elapsedMs={}", loaded.size(), elapsedMs(started));
+        } else {
+            OpenOrderState restored = snapshot.state();
+            List<OpenOrder> changed = orderRepository.findOrderStateUpdatedAfter(
+                snapshot.takenAt().minus(catchUpSkew)
+            );
+            changed.forEach(restored::put);
+            state = restored;
+            log.info(
+                "event=warm_start mode=snapshot openOrders={} caughtUp={} snapshotTakenAt={} elapsedMs={}",
+                restored.size(),
+                changed.size(),
+                snapshot.takenAt(),
+                elapsedMs(started)
+            );
+        }
+        ready = true;
+    }
+
+    /**
+     * Replaces the given orders with their current rows, dropping those that are closed or gone.
+     * Used for orders whose state turned out to be stale, e.g. a fill write that did not apply.
+     */
+    public void reload(Collection<UUID> orderIds) {
+        if (!ready || orderIds.isEmpty()) {
+            return;
+        }
+        Set<UUID> missing = new HashSet<>(orderIds);
+        OpenOrderState current = state;
+        for (OpenOrder order : orderRepository.findOrderStateByIdIn(orderIds)) {
+            missing.remove(order.id());
+            current.put(order);
+        }
+        missing.forEach(current::remove);
+    }
+
+    /**
+     * Rebuilds the state from the open rows in {@code orders}, then re-reads the rows that changed
+     * while the load ran, since their journal entries may have gone to the replaced state.
+     */
+    @Scheduled(
+        fixedDelayString = "${simulator.warm-start.reconcile-interval-ms:300000}",
+        initialDelayString = "${simulator.warm-start.reconcile-interval-ms:300000}"
+    )
+    public void reconcile() {
+        if (!ready) {
+            return;
+        }
+        long started = System.nanoTime();
+        Instant since = Instant.now().minus(catchUpSkew);
+        OpenOrderState previous = state;
+        OpenOrderState loaded = new OpenOrderState();
+        orderRepository.findOpenOrderState(OPEN_STATUSES).forEach(loaded::put);
+        loaded.setLastSequence(previous.lastSequence());
+        state = loaded;
+        List<OpenOrder> changed = orderRepository.findOrderStateUpdatedAfter(since);
+        changed.forEach(loaded::put);
+        log.info(
+            "event=open_orders_reconciled previousOpenOrders={} openOrders={} caughtUp={} elapsedMs={}",
+            previous.size(),
+            loaded.size(),
+            changed.size(),
+            elapsedMs(started)
+        );
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public Set<String> symbols() {
+        return state.symbols();
+    }
+
+    public Collection<OpenOrder> ordersFor(String symbol) {
+        return state.ordersFor(symbol);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${simulator.warm-start.snapshot-interval-ms:60000}",
+        initialDelayString = "${simulator.warm-start.snapshot-interval-ms:60000}"
+    )
+    public void writeSnapshot() {
+        if (!ready) {
+            return;
+        }
+        // Stamp before copying: anything that changes mid-copy is newer than takenAt and will be
+        // picked up again by the next boot's catch-up.
+        Instant takenAt = Instant.now();
+        try {
+            OpenOrderSnapshots.write(snapshotFile, state, takenAt);
+        } catch (IOException | RuntimeException ex) {
+            // E.g. a quantity too large for the format; the previous snapshot stays in place.
+            log.warn("Failed to write open-order snapshot to {}", snapshotFile, ex);
+        }
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() {
+        writeSnapshot();
+    }
+
+    private OpenOrderSnapshots.Snapshot readSnapshot() {
+        try {
+            return OpenOrderSnapshots.read(snapshotFile);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable open-order snapshot {}", snapshotFile, ex);
+            return null;
+        }
+    }
+
+    private long elapsedMs(long startedNanos) {
+        return Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.yasmiins.orderexecutionservice.service.stats;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.yasmiins.orderexecutionservice.repository.SymbolMinuteStats;
+import io.github.yasmiins.orderexecutionservice.repository.SymbolStatsRepository;
+import io.github.yasmiins.orderexecutionservice.service.event.ExecutionCreated;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Sums committed executions per symbol and minute in memory and adds the sums to
+ * {@code symbol_minute_stats} in a transaction of its own every {@code order.stats.flush-interval-ms},
+ * so fill transactions never write or lock a statistics row.
+ * <p>
+ * An execution counts towards the minute of its stored {@code executed_at}, the same bucket the
+ * V8 backfill uses. Statistics lag the executions by up to one flush interval, and sums not yet
+ * flushed are lost if the process dies.
+ */
+@Component
+public class SymbolStatsRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(SymbolStatsRecorder.class);
+
+    private final SymbolStatsRepository symbolStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private Map<String, Map<Instant, Bucket>> pending = new HashMap<>();
+
+    public SymbolStatsRecorder(
+        SymbolStatsRepository symbolStatsRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.symbolStatsRepository = symbolStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener
+    public void onExecutionCreated(ExecutionCreated event) {
+        Instant minute = event.executedAt().truncatedTo(ChronoUnit.MINUTES);
+        synchronized (this) {
+            pending.computeIfAbsent(event.symbol(), symbol -> new TreeMap<>())
+                .computeIfAbsent(minute, key -> new Bucket())
+                .add(event.quantity(), event.price());
+        }
+    }
+
+    /**
+     * Writes the sums collected since the last flush. Rows are written in symbol and minute order,
+     * so concurrent flushes from several instances lock the rows they share in the same order. Sums
+     * that fail to write are kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${order.stats.flush-interval-ms:1000}")
+    public void flush() {
+        Map<String, Map<Instant, Bucket>> drained;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new HashMap<>();
+        }
+        SortedMap<String, List<SymbolMinuteStats>> buckets = new TreeMap<>();
+        drained.forEach((symbol, minutes) -> {
+            List<SymbolMinuteStats> rows = new ArrayList<>(minutes.size());
+            minutes.forEach((minute, bucket) -> rows.add(bucket.toStats(minute)));
+            buckets.put(symbol, rows);
+        });
+        try {
+            transactionTemplate.executeWithoutResult(status -> symbolStatsRepository.add(buckets));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush symbol statistics for {} symbols; retrying on the next flush", buckets.size(), ex);
+            synchronized (this) {
+                drained.forEach((symbol, minutes) -> minutes.forEach((minute, bucket) ->
+                    pending.computeIfAbsent(symbol, key -> new TreeMap<>()).merge(minute, bucket, Bucket::merge)
+                ));
+            }
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private static final class Bucket {
+
+        private BigDecimal volume = BigDecimal.ZERO;
+        private BigDecimal notional = BigDecimal.ZERO;
+        private long tradeCount;
+        private BigDecimal high;
+        private BigDecimal low;
+
+        private void add(BigDecimal quantity, BigDecimal price) {
+            volume = volume.add(quantity);
+            notional = notional.add(quantity.multiply(price));
+            tradeCount++;
+            high = high == null ? price : high.max(price);
+            low = low == null ? price : low.min(price);
+        }
+
+        private Bucket merge(Bucket other) {
+            volume = volume.add(other.volume);
+            notional = notional.add(other.notional);
+            tradeCount += other.tradeCount;
+            high = high.max(other.high);
+            low = low.min(other.low);
+            return this;
+        }
+
+        private SymbolMinuteStats toStats(Instant minute) {
+            return new SymbolMinuteStats(minute, volume, notional, tradeCount, high, low);
+        }
+    }
+}
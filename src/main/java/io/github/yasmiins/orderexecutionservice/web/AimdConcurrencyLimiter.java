@@ -0,0 +1,204 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to observed latency: additive increase while requests complete
+ * within {@code latencyTolerance} times the baseline latency and the limit is actually binding,
+ * multiplicative decrease when a request is slower or fails. The baseline tracks the fastest request
+ * of each sampling window: it drops to a lower minimum at once and drifts up slowly, so it follows
+ * the database rather than a fixed constant. The limit shrinks at most once per window, so a burst
+ * of slow requests that all started under the old limit counts as one congestion signal. Callers
+ * over the limit wait in a bounded queue for a short time before being shed.
+ */
+public class AimdConcurrencyLimiter {
+
+    public enum Outcome {
+        ACCEPTED,
+        QUEUED,
+        SHED
+    }
+
+    // Weight of a window minimum that is above the baseline; a lower minimum replaces it outright.
+    private static final double BASELINE_SMOOTHING = 0.1;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitReleased = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final long sampleWindowNanos;
+    private final double backoffRatio;
+    private final int maxQueued;
+    private final LongSupplier nanoClock;
+
+    private int limit;
+    private int inFlight;
+    private int queued;
+    private long baselineNanos = -1;
+    private long windowStartNanos;
+    private long windowMinNanos = Long.MAX_VALUE;
+    private boolean decreasedInWindow;
+
+    public AimdConcurrencyLimiter(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double latencyTolerance,
+        long sampleWindowNanos,
+        double backoffRatio,
+        int maxQueued
+    ) {
+        this(
+            initialLimit,
+            minLimit,
+            maxLimit,
+            latencyTolerance,
+            sampleWindowNanos,
+            backoffRatio,
+            maxQueued,
+            System::nanoTime
+        );
+    }
+
+    AimdConcurrencyLimiter(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double latencyTolerance,
+        long sampleWindowNanos,
+        double backoffRatio,
+        int maxQueued,
+        LongSupplier nanoClock
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        if (latencyTolerance <= 1) {
+            throw new IllegalArgumentException("Latency tolerance must be greater than 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTolerance = latencyTolerance;
+        this.sampleWindowNanos = sampleWindowNanos;
+        this.backoffRatio = backoffRatio;
+        this.maxQueued = maxQueued;
+        this.nanoClock = nanoClock;
+        this.limit = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes a permit, waiting up to {@code maxWaitNanos} if the limit is reached and the queue has
+     * room. A caller that gets {@link Outcome#ACCEPTED} or {@link Outcome#QUEUED} must call
+     * {@link #release} exactly once.
+     */
+    public Outcome acquire(long maxWaitNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight < limit) {
+                inFlight++;
+                return Outcome.ACCEPTED;
+            }
+            if (queued >= maxQueued || maxWaitNanos <= 0) {
+                return Outcome.SHED;
+            }
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= limit) {
+                    if (remaining <= 0) {
+                        return Outcome.SHED;
+                    }
+                    remaining = permitReleased.awaitNanos(remaining);
+                }
+                inFlight++;
+                return Outcome.QUEUED;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit and feeds the sample into the limit.
+     *
+     * @param latencyNanos time the request held its permit
+     * @param failed whether the request failed in a way that indicates overload
+     */
+    public void release(long latencyNanos, boolean failed) {
+        lock.lock();
+        try {
+            boolean saturated = inFlight >= limit || queued > 0;
+            inFlight--;
+            rollWindow();
+            if (baselineNanos < 0) {
+                baselineNanos = latencyNanos;
+            }
+            windowMinNanos = Math.min(windowMinNanos, latencyNanos);
+            if (failed || latencyNanos > baselineNanos * latencyTolerance) {
+                if (!decreasedInWindow) {
+                    limit = Math.max(minLimit, (int) (limit * backoffRatio));
+                    decreasedInWindow = true;
+                }
+            } else if (saturated && limit < maxLimit) {
+                limit++;
+            }
+            if (inFlight < limit) {
+                permitReleased.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rollWindow() {
+        long now = nanoClock.getAsLong();
+        if (now - windowStartNanos < sampleWindowNanos) {
+            return;
+        }
+        if (windowMinNanos != Long.MAX_VALUE) {
+            baselineNanos = windowMinNanos < baselineNanos
+                ? windowMinNanos
+                : baselineNanos + (long) ((windowMinNanos - baselineNanos) * BASELINE_SMOOTHING);
+        }
+        windowStartNanos = now;
+        windowMinNanos = Long.MAX_VALUE;
+        decreasedInWindow = false;
+    }
+
+    public int limit() {
+        lock.lock();
+        try {
+            return limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Baseline latency in nanoseconds, or -1 before the first sample. */
+    public long baselineNanos() {
+        lock.lock();
+        try {
+            return baselineNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -4,8 +4,7 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -18,29 +17,28 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import io.github.yasmiins.orderexecutionservice.service.IdempotencyConflictException;
 import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
 import io.github.yasmiins.orderexecutionservice.service.OrderNotFoundException;
+import io.github.yasmiins.orderexecutionservice.service.OrderRiskException;
 import io.github.yasmiins.orderexecutionservice.service.OrderStateException;
 import io.github.yasmiins.orderexecutionservice.service.OrderValidationException;
+import io.github.yasmiins.orderexecutionservice.service.lifecycle.OrderLifecycleLogger;
 import jakarta.servlet.http.HttpServletRequest;
 
 @RestControllerAdvice
 public class ApiExceptionHandler {
 
-    private static final String LIFECYCLE_LOG_TEMPLATE =
-        "event={} orderId={} symbol={} fromStatus={} toStatus={} filledQuantity={} quantity={} price={} idempotencyKey={}";
-    private static final Logger log = LoggerFactory.getLogger(ApiExceptionHandler.class);
-
     private final OrderMetrics orderMetrics;
+    private final OrderLifecycleLogger lifecycleLog;
 
-    public ApiExceptionHandler(OrderMetrics orderMetrics) {
+    public ApiExceptionHandler(OrderMetrics orderMetrics, OrderLifecycleLogger lifecycleLog) {
         this.orderMetrics = orderMetrics;
+        this.lifecycleLog = lifecycleLog;
     }
 
     @ExceptionHandler(OrderValidationException.class)
     public ResponseEntity<ApiError> handleOrderValidation(OrderValidationException ex, HttpServletRequest request) {
         if (isCreateOrderRequest(request)) {
             orderMetrics.incrementRejectedValidation();
-            log.warn(
-                LIFECYCLE_LOG_TEMPLATE,
+            lifecycleLog.warn(
                 "order_rejected_validation",
                 null,
                 null,
@@ -56,6 +54,24 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+    @ExceptionHandler(OrderRiskException.class)
+    public ResponseEntity<ApiError> handleOrderRisk(OrderRiskException ex, HttpServletRequest request) {
+        orderMetrics.incrementRejectedRisk();
+        lifecycleLog.warn(
+            "order_rejected_risk",
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            null,
+            resolveIdempotencyKey(request)
+        );
+        ApiError error = new ApiError(ex.getMessage(), Collections.emptyMap());
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ApiError> handleMethodArgumentNotValid(
         MethodArgumentNotValidException ex,
@@ -63,8 +79,7 @@ public class ApiExceptionHandler {
     ) {
         if (isCreateOrderRequest(request)) {
             orderMetrics.incrementRejectedValidation();
-            log.warn(
-                LIFECYCLE_LOG_TEMPLATE,
+            lifecycleLog.warn(
                 "order_rejected_validation",
                 null,
                 null,
@@ -92,8 +107,7 @@ public class ApiExceptionHandler {
     ) {
         if (isCreateOrderRequest(request)) {
             orderMetrics.incrementRejectedValidation();
-            log.warn(
-                LIFECYCLE_LOG_TEMPLATE,
+            lifecycleLog.warn(
                 "order_rejected_validation",
                 null,
                 null,
@@ -121,8 +135,7 @@ public class ApiExceptionHandler {
     ) {
         if (isCreateOrderRequest(request)) {
             orderMetrics.incrementRejectedValidation();
-            log.warn(
-                LIFECYCLE_LOG_TEMPLATE,
+            lifecycleLog.warn(
                 "order_rejected_validation",
                 null,
                 null,
@@ -162,6 +175,22 @@ public class ApiExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(OrderIntakeOverloadedException.class)
+    public ResponseEntity<ApiError> handleOrderIntakeOverloaded(OrderIntakeOverloadedException ex) {
+        ApiError error = new ApiError(ex.getMessage(), Collections.emptyMap());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+
+    @ExceptionHandler(ClientRateLimitedException.class)
+    public ResponseEntity<ApiError> handleClientRateLimited(ClientRateLimitedException ex) {
+        ApiError error = new ApiError(ex.getMessage(), Collections.emptyMap());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(error);
+    }
+
     private boolean isCreateOrderRequest(HttpServletRequest request) {
         if (request == null) {
             return false;
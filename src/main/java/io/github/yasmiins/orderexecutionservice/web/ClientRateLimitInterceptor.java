@@ -0,0 +1,62 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-client rate limits in front of {@link OrderController}. Clients are identified by the
+ * configured API-key header, falling back to the remote address. {@code POST} requests count
+ * against the order-entry limit and everything else against the order-query limit.
+ */
+public class ClientRateLimitInterceptor implements HandlerInterceptor {
+
+    private final ClientRateLimiter orderEntryLimiter;
+    private final ClientRateLimiter orderQueryLimiter;
+    private final OrderMetrics orderMetrics;
+    private final String clientHeader;
+
+    public ClientRateLimitInterceptor(
+        ClientRateLimiter orderEntryLimiter,
+        ClientRateLimiter orderQueryLimiter,
+        OrderMetrics orderMetrics,
+        String clientHeader
+    ) {
+        this.orderEntryLimiter = orderEntryLimiter;
+        this.orderQueryLimiter = orderQueryLimiter;
+        this.orderMetrics = orderMetrics;
+        this.clientHeader = clientHeader;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        boolean orderEntry = "POST".equalsIgnoreCase(request.getMethod());
+        ClientRateLimiter limiter = orderEntry ? orderEntryLimiter : orderQueryLimiter;
+        long waitNanos = limiter.tryAcquire(resolveClientId(request));
+        if (waitNanos == 0) {
+            return true;
+        }
+        if (orderEntry) {
+            orderMetrics.incrementRateLimitedOrderEntry();
+        } else {
+            orderMetrics.incrementRateLimitedOrderQuery();
+        }
+        throw new ClientRateLimitedException(Math.max(1, ceilSeconds(waitNanos)));
+    }
+
+    private String resolveClientId(HttpServletRequest request) {
+        String value = request.getHeader(clientHeader);
+        if (value != null && !value.isBlank()) {
+            return value.trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static long ceilSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
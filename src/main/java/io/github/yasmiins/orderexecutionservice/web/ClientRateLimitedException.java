@@ -0,0 +1,15 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+public class ClientRateLimitedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ClientRateLimitedException(long retryAfterSeconds) {
+        super("Rate limit exceeded. Please retry later.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,85 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token buckets for one endpoint class. Each bucket is a single {@link AtomicLong}
+ * holding the time at which it will be full again (the virtual-scheduling form of a token bucket),
+ * so taking a token is one read and one CAS with no locks or allocation.
+ *
+ * <p>The map is bounded by {@code maxClients}. When a new client would exceed it, buckets that have
+ * refilled completely are dropped first, which loses no state. If every bucket is still draining,
+ * arbitrary entries are dropped; those clients get a fresh bucket on their next request.
+ */
+public class ClientRateLimiter {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxClients;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    public ClientRateLimiter(double requestsPerSecond, int burst, int maxClients) {
+        this(requestsPerSecond, burst, maxClients, System::nanoTime);
+    }
+
+    ClientRateLimiter(double requestsPerSecond, int burst, int maxClients, LongSupplier clock) {
+        if (requestsPerSecond <= 0 || burst < 1 || maxClients < 1) {
+            throw new IllegalArgumentException("Rate, burst and max clients must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / requestsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxClients = maxClients;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes one token for {@code clientId}.
+     *
+     * @return {@code 0} if the request may proceed, otherwise the nanoseconds until a token is
+     *     available
+     */
+    public long tryAcquire(String clientId) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = buckets.get(clientId);
+        if (bucket == null) {
+            bucket = newBucket(clientId, now);
+        }
+        while (true) {
+            long fullAt = bucket.get();
+            long start = Math.max(fullAt, now);
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(fullAt, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private AtomicLong newBucket(String clientId, long now) {
+        if (buckets.size() >= maxClients) {
+            evict(now);
+        }
+        AtomicLong bucket = new AtomicLong(now);
+        AtomicLong existing = buckets.putIfAbsent(clientId, bucket);
+        return existing != null ? existing : bucket;
+    }
+
+    private void evict(long now) {
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        Iterator<AtomicLong> it = buckets.values().iterator();
+        while (buckets.size() >= maxClients && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRow;
+
+public record ExecutionResponse(
+    UUID id,
+    BigDecimal quantity,
+    BigDecimal price,
+    Instant executedAt
+) {
+
+    public static ExecutionResponse from(ExecutionRow row) {
+        return new ExecutionResponse(
+            row.getExecutionId(),
+            row.getQuantity(),
+            row.getPrice(),
+            row.getExecutedAt()
+        );
+    }
+}
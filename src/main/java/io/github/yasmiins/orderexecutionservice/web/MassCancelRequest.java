@@ -0,0 +1,16 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+
+/**
+ * Filters for a mass cancel; every given filter must match. At least one is required.
+ */
+public record MassCancelRequest(
+    String symbol,
+    OrderSide side,
+    List<UUID> orderIds
+) {
+}
@@ -0,0 +1,10 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.List;
+import java.util.UUID;
+
+public record MassCancelResponse(
+    int canceledCount,
+    List<UUID> orderIds
+) {
+}
@@ -0,0 +1,77 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.github.yasmiins.orderexecutionservice.config.OrderAdmissionProperties;
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control for {@code POST /orders}. Requests take a permit from the
+ * {@link AimdConcurrencyLimiter} before they reach the controller, so a burst is shed with 503 and
+ * {@code Retry-After} instead of piling up on connection-pool acquisition. The time each request
+ * holds its permit (dominated by the database round trips) drives the limit.
+ */
+public class OrderAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ACQUIRED_AT = OrderAdmissionInterceptor.class.getName() + ".acquiredAt";
+
+    private final AimdConcurrencyLimiter limiter;
+    private final OrderMetrics orderMetrics;
+    private final long maxQueueWaitNanos;
+    private final long retryAfterSeconds;
+
+    public OrderAdmissionInterceptor(
+        AimdConcurrencyLimiter limiter,
+        OrderMetrics orderMetrics,
+        OrderAdmissionProperties properties
+    ) {
+        this.limiter = limiter;
+        this.orderMetrics = orderMetrics;
+        this.maxQueueWaitNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxQueueWaitMs());
+        this.retryAfterSeconds = properties.getRetryAfterSeconds();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"POST".equalsIgnoreCase(request.getMethod())) {
+            return true;
+        }
+        AimdConcurrencyLimiter.Outcome outcome;
+        try {
+            outcome = limiter.acquire(maxQueueWaitNanos);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            outcome = AimdConcurrencyLimiter.Outcome.SHED;
+        }
+        switch (outcome) {
+            case ACCEPTED -> orderMetrics.incrementAdmissionAccepted();
+            case QUEUED -> orderMetrics.incrementAdmissionQueued();
+            case SHED -> {
+                orderMetrics.incrementAdmissionShed();
+                throw new OrderIntakeOverloadedException(retryAfterSeconds);
+            }
+        }
+        request.setAttribute(PERMIT_ACQUIRED_AT, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        Object handler,
+        Exception ex
+    ) {
+        Object acquiredAt = request.getAttribute(PERMIT_ACQUIRED_AT);
+        if (acquiredAt == null) {
+            return;
+        }
+        request.removeAttribute(PERMIT_ACQUIRED_AT);
+        boolean failed = ex != null || response.getStatus() >= 500;
+        limiter.release(System.nanoTime() - (Long) acquiredAt, failed);
+    }
+}
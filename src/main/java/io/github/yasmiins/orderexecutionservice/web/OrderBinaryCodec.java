@@ -0,0 +1,273 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+/**
+ * Fixed-layout binary encoding of {@link CreateOrderRequest} and {@link OrderResponse}, the same
+ * records the JSON API uses. All integers are big-endian.
+ *
+ * <pre>
+ * message   = version:u8 type:u8 body
+ * create    = symbol side:u8 orderType:u8 quantity:decimal price:decimal
+ * order     = id:u64 u64 symbol side:u8 orderType:u8 status:u8 quantity:decimal
+ *             filledQuantity:decimal price:decimal createdAt:i64 updatedAt:i64
+ * orders    = count:i32 order*            (orders without their own header)
+ * symbol    = length:u8 ascii-bytes
+ * decimal   = scale:i8 unscaled:i64       (scale -128 means null)
+ * enum      = ordinal + 1                 (0 means null)
+ * instant   = epoch micros                (Long.MIN_VALUE means null)
+ * </pre>
+ *
+ * Enum codes are ordinals, so enum constants may only ever be appended.
+ */
+public final class OrderBinaryCodec {
+
+    public static final byte VERSION = 1;
+    static final byte TYPE_CREATE_ORDER = 1;
+    static final byte TYPE_ORDER = 2;
+    static final byte TYPE_ORDER_LIST = 3;
+
+    private static final int HEADER_SIZE = 2;
+    private static final int DECIMAL_SIZE = 9;
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+    private static final long NULL_INSTANT = Long.MIN_VALUE;
+    private static final int MAX_SYMBOL_LENGTH = 255;
+    private static final int ORDER_FIXED_SIZE = 16 + 1 + 3 + 3 * DECIMAL_SIZE + 2 * Long.BYTES;
+    private static final int CREATE_FIXED_SIZE = 1 + 2 + 2 * DECIMAL_SIZE;
+
+    private static final OrderSide[] SIDES = OrderSide.values();
+    private static final OrderType[] ORDER_TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderBinaryCodec() {
+    }
+
+    public static byte[] encodeCreateOrder(CreateOrderRequest request) {
+        byte[] symbol = symbolBytes(request.symbol());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + CREATE_FIXED_SIZE + symbol.length);
+        header(buffer, TYPE_CREATE_ORDER);
+        putSymbol(buffer, symbol);
+        putEnum(buffer, request.side());
+        putEnum(buffer, request.orderType());
+        putDecimal(buffer, request.quantity());
+        putDecimal(buffer, request.price());
+        return buffer.array();
+    }
+
+    public static CreateOrderRequest decodeCreateOrder(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            expectHeader(buffer, TYPE_CREATE_ORDER);
+            CreateOrderRequest request = new CreateOrderRequest(
+                getSymbol(buffer),
+                getEnum(buffer, SIDES),
+                getEnum(buffer, ORDER_TYPES),
+                getDecimal(buffer),
+                getDecimal(buffer)
+            );
+            expectEnd(buffer);
+            return request;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated create-order message", ex);
+        }
+    }
+
+    public static byte[] encodeOrder(OrderResponse order) {
+        byte[] symbol = symbolBytes(order.symbol());
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + ORDER_FIXED_SIZE + symbol.length);
+        header(buffer, TYPE_ORDER);
+        putOrder(buffer, order, symbol);
+        return buffer.array();
+    }
+
+    public static OrderResponse decodeOrder(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            expectHeader(buffer, TYPE_ORDER);
+            OrderResponse order = getOrder(buffer);
+            expectEnd(buffer);
+            return order;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated order message", ex);
+        }
+    }
+
+    public static byte[] encodeOrders(List<OrderResponse> orders) {
+        int size = HEADER_SIZE + Integer.BYTES;
+        byte[][] symbols = new byte[orders.size()][];
+        for (int i = 0; i < symbols.length; i++) {
+            symbols[i] = symbolBytes(orders.get(i).symbol());
+            size += ORDER_FIXED_SIZE + symbols[i].length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        header(buffer, TYPE_ORDER_LIST);
+        buffer.putInt(orders.size());
+        for (int i = 0; i < symbols.length; i++) {
+            putOrder(buffer, orders.get(i), symbols[i]);
+        }
+        return buffer.array();
+    }
+
+    public static List<OrderResponse> decodeOrders(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            expectHeader(buffer, TYPE_ORDER_LIST);
+            int count = buffer.getInt();
+            if (count < 0 || (long) count * ORDER_FIXED_SIZE > buffer.remaining()) {
+                throw new IllegalArgumentException("Invalid order count " + count);
+            }
+            List<OrderResponse> orders = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                orders.add(getOrder(buffer));
+            }
+            expectEnd(buffer);
+            return orders;
+        } catch (BufferUnderflowException ex) {
+            throw new IllegalArgumentException("Truncated order list message", ex);
+        }
+    }
+
+    private static void putOrder(ByteBuffer buffer, OrderResponse order, byte[] symbol) {
+        buffer.putLong(order.id().getMostSignificantBits());
+        buffer.putLong(order.id().getLeastSignificantBits());
+        putSymbol(buffer, symbol);
+        putEnum(buffer, order.side());
+        putEnum(buffer, order.orderType());
+        putEnum(buffer, order.status());
+        putDecimal(buffer, order.quantity());
+        putDecimal(buffer, order.filledQuantity());
+        putDecimal(buffer, order.price());
+        putInstant(buffer, order.createdAt());
+        putInstant(buffer, order.updatedAt());
+    }
+
+    private static OrderResponse getOrder(ByteBuffer buffer) {
+        UUID id = new UUID(buffer.getLong(), buffer.getLong());
+        String symbol = getSymbol(buffer);
+        OrderSide side = getEnum(buffer, SIDES);
+        OrderType orderType = getEnum(buffer, ORDER_TYPES);
+        OrderStatus status = getEnum(buffer, STATUSES);
+        BigDecimal quantity = getDecimal(buffer);
+        BigDecimal filledQuantity = getDecimal(buffer);
+        BigDecimal price = getDecimal(buffer);
+        Instant createdAt = getInstant(buffer);
+        Instant updatedAt = getInstant(buffer);
+        return new OrderResponse(id, symbol, side, orderType, quantity, filledQuantity, price, status, createdAt, updatedAt);
+    }
+
+    private static void header(ByteBuffer buffer, byte type) {
+        buffer.put(VERSION);
+        buffer.put(type);
+    }
+
+    private static void expectHeader(ByteBuffer buffer, byte type) {
+        byte version = buffer.get();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary version " + version);
+        }
+        byte actual = buffer.get();
+        if (actual != type) {
+            throw new IllegalArgumentException("Unexpected message type " + actual);
+        }
+    }
+
+    private static void expectEnd(ByteBuffer buffer) {
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException(buffer.remaining() + " trailing bytes");
+        }
+    }
+
+    private static byte[] symbolBytes(String symbol) {
+        if (symbol == null) {
+            return new byte[0];
+        }
+        byte[] bytes = symbol.getBytes(StandardCharsets.US_ASCII);
+        if (bytes.length > MAX_SYMBOL_LENGTH) {
+            throw new IllegalArgumentException("Symbol longer than " + MAX_SYMBOL_LENGTH + " bytes");
+        }
+        return bytes;
+    }
+
+    private static void putSymbol(ByteBuffer buffer, byte[] symbol) {
+        buffer.put((byte) symbol.length);
+        buffer.put(symbol);
+    }
+
+    private static String getSymbol(ByteBuffer buffer) {
+        int length = Byte.toUnsignedInt(buffer.get());
+        if (length == 0) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String symbol = new String(buffer.array(), buffer.position(), length, StandardCharsets.US_ASCII);
+        buffer.position(buffer.position() + length);
+        return symbol;
+    }
+
+    private static void putEnum(ByteBuffer buffer, Enum<?> value) {
+        buffer.put(value == null ? 0 : (byte) (value.ordinal() + 1));
+    }
+
+    private static <E extends Enum<E>> E getEnum(ByteBuffer buffer, E[] values) {
+        int code = Byte.toUnsignedInt(buffer.get());
+        if (code == 0) {
+            return null;
+        }
+        if (code > values.length) {
+            throw new IllegalArgumentException("Unknown " + values[0].getDeclaringClass().getSimpleName() + " code " + code);
+        }
+        return values[code - 1];
+    }
+
+    private static void putDecimal(ByteBuffer buffer, BigDecimal value) {
+        if (value == null) {
+            buffer.put(NULL_SCALE);
+            buffer.putLong(0);
+            return;
+        }
+        int scale = value.scale();
+        if (scale <= NULL_SCALE || scale > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Decimal scale out of range: " + value);
+        }
+        buffer.put((byte) scale);
+        buffer.putLong(value.unscaledValue().longValueExact());
+    }
+
+    private static BigDecimal getDecimal(ByteBuffer buffer) {
+        byte scale = buffer.get();
+        long unscaled = buffer.getLong();
+        if (scale == NULL_SCALE) {
+            return null;
+        }
+        return BigDecimal.valueOf(unscaled, scale);
+    }
+
+    private static void putInstant(ByteBuffer buffer, Instant value) {
+        if (value == null) {
+            buffer.putLong(NULL_INSTANT);
+            return;
+        }
+        buffer.putLong(Math.addExact(Math.multiplyExact(value.getEpochSecond(), 1_000_000L), value.getNano() / 1_000));
+    }
+
+    private static Instant getInstant(ByteBuffer buffer) {
+        long micros = buffer.getLong();
+        if (micros == NULL_INSTANT) {
+            return null;
+        }
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+}
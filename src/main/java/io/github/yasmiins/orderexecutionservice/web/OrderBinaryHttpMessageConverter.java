@@ -0,0 +1,93 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractSmartHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Reads and writes the order DTOs as {@link #MEDIA_TYPE} using {@link OrderBinaryCodec}. Handles
+ * {@link CreateOrderRequest} bodies and {@link OrderResponse} or {@code List<OrderResponse>}
+ * responses; everything else, including {@link ApiError}, stays JSON-only.
+ */
+public class OrderBinaryHttpMessageConverter extends AbstractSmartHttpMessageConverter<Object> {
+
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.order-execution.v1+binary";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+
+    public OrderBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    public boolean canRead(ResolvableType type, MediaType mediaType) {
+        return type.toClass() == CreateOrderRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(ResolvableType type, Class<?> valueClass, MediaType mediaType) {
+        return isResponseType(type, valueClass) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(ResolvableType type, HttpInputMessage inputMessage, Map<String, Object> hints)
+        throws IOException {
+        byte[] body = inputMessage.getBody().readAllBytes();
+        try {
+            return OrderBinaryCodec.decodeCreateOrder(body);
+        } catch (IllegalArgumentException ex) {
+            throw new HttpMessageNotReadableException("Malformed binary order: " + ex.getMessage(), ex, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, ResolvableType type, HttpOutputMessage outputMessage, Map<String, Object> hints)
+        throws IOException {
+        byte[] body;
+        try {
+            body = value instanceof OrderResponse order
+                ? OrderBinaryCodec.encodeOrder(order)
+                : OrderBinaryCodec.encodeOrders((List<OrderResponse>) value);
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            throw new HttpMessageNotWritableException("Order cannot be encoded as binary: " + ex.getMessage(), ex);
+        }
+        outputMessage.getHeaders().setContentLength(body.length);
+        outputMessage.getBody().write(body);
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        // Called with the raw value class after canWrite has already checked the generic type,
+        // so a bare List has to count as supported here.
+        return supports(clazz) || List.class.isAssignableFrom(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == CreateOrderRequest.class || clazz == OrderResponse.class;
+    }
+
+    @Override
+    protected boolean supportsRepeatableWrites(Object value) {
+        return true;
+    }
+
+    private static boolean isResponseType(ResolvableType type, Class<?> valueClass) {
+        if (valueClass == OrderResponse.class) {
+            return true;
+        }
+        if (!List.class.isAssignableFrom(valueClass)) {
+            return false;
+        }
+        // The element type is only known from the declared return type, e.g. ResponseEntity<List<OrderResponse>>.
+        return type.asCollection().getGeneric().toClass() == OrderResponse.class;
+    }
+}
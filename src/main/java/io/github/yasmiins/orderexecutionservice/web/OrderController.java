@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import io.github.yasmiins.orderexecutionservice.domain.Order;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.service.MassCancelService;
 import io.github.yasmiins.orderexecutionservice.service.OrderService;
 import jakarta.validation.Valid;
 
@@ -26,18 +27,22 @@ import jakarta.validation.Valid;
 public class OrderController {
 
     private final OrderService orderService;
+    private final MassCancelService massCancelService;
 
-    public OrderController(OrderService orderService) {
+    public OrderController(OrderService orderService, MassCancelService massCancelService) {
         this.orderService = orderService;
+        this.massCancelService = massCancelService;
     }
 
     @PostMapping
     public ResponseEntity<OrderResponse> createOrder(
         @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+        @RequestHeader(value = "X-Account-Id", required = false) String account,
         @Valid @RequestBody CreateOrderRequest request
     ) {
         Order order = orderService.createOrderWithIdempotency(
             idempotencyKey,
+            account,
             request.symbol(),
             request.side(),
             request.quantity(),
@@ -53,20 +58,35 @@ public class OrderController {
         return ResponseEntity.ok(OrderResponse.from(order));
     }
 
+    @GetMapping("/{id}/executions")
+    public ResponseEntity<OrderExecutionsResponse> getExecutions(@PathVariable UUID id) {
+        return ResponseEntity.ok(OrderExecutionsResponse.from(id, orderService.getExecutions(id)));
+    }
+
     @GetMapping
     public ResponseEntity<List<OrderResponse>> getOrders(
+        @RequestHeader(value = "X-Account-Id", required = false) String account,
         @RequestParam(required = false) String symbol,
         @RequestParam(required = false) OrderStatus status
     ) {
-        List<OrderResponse> orders = orderService.getOrders(symbol, status).stream()
+        List<OrderResponse> orders = orderService.getOrders(account, symbol, status).stream()
             .map(OrderResponse::from)
             .toList();
         return ResponseEntity.ok(orders);
     }
 
+    @PostMapping("/mass-cancel")
+    public ResponseEntity<MassCancelResponse> massCancel(@RequestBody MassCancelRequest request) {
+        List<UUID> canceled = massCancelService.cancelOpenOrders(
+            request.symbol(),
+            request.side(),
+            request.orderIds()
+        );
+        return ResponseEntity.ok(new MassCancelResponse(canceled.size(), canceled));
+    }
+
     @PostMapping("/{id}/cancel")
     public ResponseEntity<OrderResponse> cancelOrder(@PathVariable UUID id) {
-        Order order = orderService.cancelOrder(id);
-        return ResponseEntity.ok(OrderResponse.from(order));
+        return ResponseEntity.ok(OrderResponse.from(orderService.cancelOrder(id)));
     }
 }
@@ -0,0 +1,34 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRow;
+
+public record OrderExecutionsResponse(
+    UUID orderId,
+    long fillCount,
+    BigDecimal filledQuantity,
+    BigDecimal averageFillPrice,
+    Instant lastFillAt,
+    List<ExecutionResponse> executions
+) {
+
+    public static OrderExecutionsResponse from(UUID orderId, List<ExecutionRow> rows) {
+        ExecutionRow first = rows.getFirst();
+        List<ExecutionResponse> executions = rows.stream()
+            .filter(row -> row.getExecutionId() != null)
+            .map(ExecutionResponse::from)
+            .toList();
+        return new OrderExecutionsResponse(
+            orderId,
+            first.getFillCount(),
+            first.getFilledQuantity(),
+            first.getAverageFillPrice(),
+            first.getLastFillAt(),
+            executions
+        );
+    }
+}
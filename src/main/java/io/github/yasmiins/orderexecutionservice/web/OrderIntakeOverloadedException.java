@@ -0,0 +1,15 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+public class OrderIntakeOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public OrderIntakeOverloadedException(long retryAfterSeconds) {
+        super("Order intake is overloaded. Please retry later.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -8,6 +8,7 @@ import io.github.yasmiins.orderexecutionservice.domain.Order;
 import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
 import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.OrderView;
 
 public record OrderResponse(
     UUID id,
@@ -36,4 +37,19 @@ public record OrderResponse(
             order.getUpdatedAt()
         );
     }
+
+    public static OrderResponse from(OrderView view) {
+        return new OrderResponse(
+            view.id(),
+            view.symbol(),
+            view.side(),
+            view.orderType(),
+            view.quantity(),
+            view.filledQuantity(),
+            view.price(),
+            view.status(),
+            view.createdAt(),
+            view.updatedAt()
+        );
+    }
 }
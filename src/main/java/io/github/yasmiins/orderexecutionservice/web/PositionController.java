@@ -0,0 +1,43 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.yasmiins.orderexecutionservice.service.OrderValidationException;
+import io.github.yasmiins.orderexecutionservice.service.SymbolRegistry;
+import io.github.yasmiins.orderexecutionservice.service.position.PositionKeeper;
+import io.github.yasmiins.orderexecutionservice.service.position.PositionSnapshot;
+
+@RestController
+@RequestMapping("/positions")
+@ConditionalOnProperty(name = "order.positions.enabled", havingValue = "true", matchIfMissing = true)
+public class PositionController {
+
+    private final PositionKeeper positionKeeper;
+    private final SymbolRegistry symbolRegistry;
+
+    public PositionController(PositionKeeper positionKeeper, SymbolRegistry symbolRegistry) {
+        this.positionKeeper = positionKeeper;
+        this.symbolRegistry = symbolRegistry;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<PositionSnapshot>> getPositions() {
+        return ResponseEntity.ok(positionKeeper.positions());
+    }
+
+    @GetMapping("/{symbol}")
+    public ResponseEntity<PositionSnapshot> getPosition(@PathVariable String symbol) {
+        String normalized = symbolRegistry.normalize(symbol);
+        if (normalized == null) {
+            throw new OrderValidationException("Symbol must be provided");
+        }
+        return ResponseEntity.ok(positionKeeper.position(normalized));
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.github.yasmiins.orderexecutionservice.service.SymbolStatsService;
+
+@RestController
+@RequestMapping("/symbols")
+public class SymbolController {
+
+    private final SymbolStatsService symbolStatsService;
+
+    public SymbolController(SymbolStatsService symbolStatsService) {
+        this.symbolStatsService = symbolStatsService;
+    }
+
+    @GetMapping("/{symbol}/stats")
+    public ResponseEntity<SymbolStatsResponse> getStats(
+        @PathVariable String symbol,
+        @RequestParam(defaultValue = "60") int minutes
+    ) {
+        String normalized = symbolStatsService.normalizeSymbol(symbol);
+        return ResponseEntity.ok(SymbolStatsResponse.from(
+            normalized,
+            minutes,
+            symbolStatsService.getRecentStats(normalized, minutes)
+        ));
+    }
+}
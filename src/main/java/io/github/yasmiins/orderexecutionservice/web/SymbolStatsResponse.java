@@ -0,0 +1,76 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+
+import io.github.yasmiins.orderexecutionservice.repository.SymbolMinuteStats;
+
+/**
+ * Totals over the requested window plus its per-minute buckets, newest first. Price fields are
+ * null when the window has no executions.
+ */
+public record SymbolStatsResponse(
+    String symbol,
+    int minutes,
+    BigDecimal volume,
+    long tradeCount,
+    BigDecimal vwap,
+    BigDecimal high,
+    BigDecimal low,
+    List<MinuteStats> perMinute
+) {
+
+    private static final int PRICE_SCALE = 6;
+
+    public static SymbolStatsResponse from(String symbol, int minutes, List<SymbolMinuteStats> buckets) {
+        BigDecimal volume = BigDecimal.ZERO;
+        BigDecimal notional = BigDecimal.ZERO;
+        long tradeCount = 0;
+        BigDecimal high = null;
+        BigDecimal low = null;
+        for (SymbolMinuteStats bucket : buckets) {
+            volume = volume.add(bucket.volume());
+            notional = notional.add(bucket.notional());
+            tradeCount += bucket.tradeCount();
+            high = high == null ? bucket.high() : high.max(bucket.high());
+            low = low == null ? bucket.low() : low.min(bucket.low());
+        }
+        return new SymbolStatsResponse(
+            symbol,
+            minutes,
+            volume,
+            tradeCount,
+            averagePrice(notional, volume),
+            high,
+            low,
+            buckets.stream().map(MinuteStats::from).toList()
+        );
+    }
+
+    private static BigDecimal averagePrice(BigDecimal notional, BigDecimal volume) {
+        return volume.signum() == 0 ? null : notional.divide(volume, PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    public record MinuteStats(
+        Instant minute,
+        BigDecimal volume,
+        long tradeCount,
+        BigDecimal vwap,
+        BigDecimal high,
+        BigDecimal low
+    ) {
+
+        static MinuteStats from(SymbolMinuteStats bucket) {
+            return new MinuteStats(
+                bucket.minute(),
+                bucket.volume(),
+                bucket.tradeCount(),
+                averagePrice(bucket.notional(), bucket.volume()),
+                bucket.high(),
+                bucket.low()
+            );
+        }
+    }
+}
@@ -0,0 +1,2 @@
+ALTER TABLE orders
+    ADD COLUMN account VARCHAR(64) NOT NULL DEFAULT 'default';
@@ -0,0 +1,12 @@
+CREATE TABLE fill_nodes (
+    node_id VARCHAR(64) PRIMARY KEY,
+    heartbeat_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+
+CREATE TABLE symbol_leases (
+    symbol VARCHAR(20) PRIMARY KEY,
+    owner VARCHAR(64) NOT NULL,
+    expires_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_symbol_leases_owner ON symbol_leases (owner);
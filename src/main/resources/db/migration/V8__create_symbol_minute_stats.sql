@@ -0,0 +1,15 @@
+CREATE TABLE symbol_minute_stats (
+    symbol VARCHAR(20) NOT NULL,
+    minute_start TIMESTAMPTZ NOT NULL,
+    volume NUMERIC(24, 6) NOT NULL,
+    notional NUMERIC(36, 12) NOT NULL,
+    trade_count BIGINT NOT NULL,
+    high_price NUMERIC(18, 6) NOT NULL,
+    low_price NUMERIC(18, 6) NOT NULL,
+    PRIMARY KEY (symbol, minute_start)
+);
+
+INSERT INTO symbol_minute_stats (symbol, minute_start, volume, notional, trade_count, high_price, low_price)
+SELECT symbol, date_trunc('minute', executed_at), SUM(quantity), SUM(quantity * price), COUNT(*), MAX(price), MIN(price)
+FROM executions
+GROUP BY symbol, date_trunc('minute', executed_at);
@@ -0,0 +1,84 @@
+package io.github.yasmiins.orderexecutionservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.web.OrderResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "simulator.enabled=false",
+        "order.rate-limit.order-query.requests-per-second=0.1",
+        "order.rate-limit.order-query.burst=2"
+    }
+)
+class ClientRateLimitIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void getOrders_overClientLimit_returnsTooManyRequestsWithRetryAfter() {
+        assertThat(getOrders("client-a").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(getOrders("client-a").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThatThrownBy(() -> getOrders("client-a"))
+            .isInstanceOfSatisfying(HttpClientErrorException.class, ex -> {
+                assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                assertThat(ex.getResponseHeaders()).isNotNull();
+                assertThat(Long.parseLong(ex.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER)))
+                    .isBetween(1L, 10L);
+            });
+        assertThat(meterRegistry.counter("orders.rate_limited", "endpoint", "order_query").count())
+            .isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    void getOrders_otherClient_isNotAffected() {
+        assertThat(getOrders("client-b").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(getOrders("client-b").getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThatThrownBy(() -> getOrders("client-b")).isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+
+        assertThat(getOrders("client-c").getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private ResponseEntity<OrderResponse[]> getOrders(String apiKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Api-Key", apiKey);
+        return restTemplate.exchange(
+            "http://localhost:" + port + "/orders",
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            OrderResponse[].class
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.yasmiins.orderexecutionservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+import io.github.yasmiins.orderexecutionservice.service.position.PositionKeeper;
+import io.github.yasmiins.orderexecutionservice.service.risk.PreTradeRiskEngine;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderStateStore;
+
+/**
+ * Runs with lazy initialization on, as the production image does, and checks that the beans which
+ * rebuild in-memory state at startup were created eagerly rather than on first use.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "spring.main.lazy-initialization=true",
+        "simulator.scheduling.enabled=false"
+    }
+)
+class LazyInitializationIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Test
+    void statefulHotPathBeans_areCreatedAtStartup() {
+        for (Class<?> type : List.of(
+            OrderService.class,
+            SimulatedFillEngine.class,
+            OpenOrderStateStore.class,
+            PreTradeRiskEngine.class,
+            PositionKeeper.class
+        )) {
+            String[] names = context.getBeanNamesForType(type, false, false);
+            assertThat(names).as(type.getSimpleName()).hasSize(1);
+            assertThat(context.getBeanFactory().containsSingleton(names[0]))
+                .as("%s created at startup", type.getSimpleName())
+                .isTrue();
+        }
+    }
+}
@@ -24,22 +24,31 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import io.github.yasmiins.orderexecutionservice.domain.Execution;
 import io.github.yasmiins.orderexecutionservice.domain.Order;
 import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
 import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
 import io.github.yasmiins.orderexecutionservice.repository.IdempotencyRecordRepository;
 import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.web.AimdConcurrencyLimiter;
 import io.github.yasmiins.orderexecutionservice.web.ApiError;
 import io.github.yasmiins.orderexecutionservice.web.CreateOrderRequest;
+import io.github.yasmiins.orderexecutionservice.web.MassCancelRequest;
+import io.github.yasmiins.orderexecutionservice.web.MassCancelResponse;
+import io.github.yasmiins.orderexecutionservice.web.OrderBinaryCodec;
+import io.github.yasmiins.orderexecutionservice.web.OrderBinaryHttpMessageConverter;
+import io.github.yasmiins.orderexecutionservice.web.OrderExecutionsResponse;
 import io.github.yasmiins.orderexecutionservice.web.OrderResponse;
 
 @Testcontainers
 @SpringBootTest(
     webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
-    properties = "simulator.enabled=false"
+    properties = {"simulator.enabled=false", "order.admission.enabled=true"}
 )
 class OrderControllerIntegrationTest {
 
@@ -59,11 +68,18 @@ class OrderControllerIntegrationTest {
     @Autowired
     private IdempotencyRecordRepository idempotencyRecordRepository;
 
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private AimdConcurrencyLimiter admissionLimiter;
+
     private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     @BeforeEach
     void cleanDatabase() {
         idempotencyRecordRepository.deleteAll();
+        executionRepository.deleteAll();
         orderRepository.deleteAll();
     }
 
@@ -279,6 +295,118 @@ class OrderControllerIntegrationTest {
         assertThat(aaplCanceled.get(0).id()).isEqualTo(aapl.id());
     }
 
+    @Test
+    void getExecutions_returnsFillsWithAggregates() {
+        OrderResponse created = createLimitOrder("AAPL");
+        Order order = orderRepository.findById(created.id()).orElseThrow();
+        executionRepository.save(new Execution(order, order.getInstrument(), new BigDecimal("2"), new BigDecimal("100")));
+        executionRepository.save(new Execution(order, order.getInstrument(), new BigDecimal("3"), new BigDecimal("101")));
+
+        ResponseEntity<OrderExecutionsResponse> response = restTemplate.getForEntity(
+            ordersUrl() + "/" + created.id() + "/executions",
+            OrderExecutionsResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        OrderExecutionsResponse body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body.orderId()).isEqualTo(created.id());
+        assertThat(body.fillCount()).isEqualTo(2);
+        assertThat(body.filledQuantity()).isEqualByComparingTo("5");
+        assertThat(body.averageFillPrice()).isEqualByComparingTo("100.6");
+        assertThat(body.executions()).hasSize(2);
+        assertThat(body.executions().get(0).quantity()).isEqualByComparingTo("2");
+        assertThat(body.lastFillAt()).isEqualTo(body.executions().get(1).executedAt());
+    }
+
+    @Test
+    void getExecutions_noFills_returnsEmptyAggregates() {
+        OrderResponse created = createLimitOrder("AAPL");
+
+        ResponseEntity<OrderExecutionsResponse> response = restTemplate.getForEntity(
+            ordersUrl() + "/" + created.id() + "/executions",
+            OrderExecutionsResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        OrderExecutionsResponse body = response.getBody();
+        assertThat(body).isNotNull();
+        assertThat(body.fillCount()).isZero();
+        assertThat(body.filledQuantity()).isEqualByComparingTo("0");
+        assertThat(body.averageFillPrice()).isNull();
+        assertThat(body.lastFillAt()).isNull();
+        assertThat(body.executions()).isEmpty();
+    }
+
+    @Test
+    void getExecutions_unknownOrder_returnsNotFound() {
+        try {
+            restTemplate.getForEntity(ordersUrl() + "/" + UUID.randomUUID() + "/executions", ApiError.class);
+        } catch (HttpClientErrorException ex) {
+            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            return;
+        }
+        throw new AssertionError("Expected 404 Not Found");
+    }
+
+    @Test
+    void massCancel_bySymbolAndSide_cancelsOnlyMatchingOpenOrders() {
+        OrderResponse aaplBuy = createLimitOrder("AAPL");
+        OrderResponse msftBuy = createLimitOrder("MSFT");
+        OrderResponse aaplSell = restTemplate.postForEntity(
+            ordersUrl(),
+            new CreateOrderRequest("AAPL", OrderSide.SELL, null, new BigDecimal("1"), new BigDecimal("101")),
+            OrderResponse.class
+        ).getBody();
+        assertThat(aaplSell).isNotNull();
+
+        ResponseEntity<MassCancelResponse> response = restTemplate.postForEntity(
+            ordersUrl() + "/mass-cancel",
+            new MassCancelRequest("aapl", OrderSide.BUY, null),
+            MassCancelResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().canceledCount()).isEqualTo(1);
+        assertThat(response.getBody().orderIds()).containsExactly(aaplBuy.id());
+        assertThat(orderRepository.findById(aaplBuy.id()).orElseThrow().getStatus()).isEqualTo(OrderStatus.CANCELED);
+        assertThat(orderRepository.findById(msftBuy.id()).orElseThrow().getStatus()).isEqualTo(OrderStatus.NEW);
+        assertThat(orderRepository.findById(aaplSell.id()).orElseThrow().getStatus()).isEqualTo(OrderStatus.NEW);
+    }
+
+    @Test
+    void massCancel_byIds_skipsOrdersThatAreNotOpen() {
+        OrderResponse first = createLimitOrder("AAPL");
+        OrderResponse second = createLimitOrder("MSFT");
+        restTemplate.postForEntity(ordersUrl() + "/" + second.id() + "/cancel", null, OrderResponse.class);
+
+        ResponseEntity<MassCancelResponse> response = restTemplate.postForEntity(
+            ordersUrl() + "/mass-cancel",
+            new MassCancelRequest(null, null, List.of(first.id(), second.id(), UUID.randomUUID())),
+            MassCancelResponse.class
+        );
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().orderIds()).containsExactly(first.id());
+    }
+
+    @Test
+    void massCancel_withoutFilters_returnsBadRequest() {
+        try {
+            restTemplate.postForEntity(
+                ordersUrl() + "/mass-cancel",
+                new MassCancelRequest(null, null, List.of()),
+                ApiError.class
+            );
+        } catch (HttpClientErrorException ex) {
+            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            return;
+        }
+        throw new AssertionError("Expected 400 Bad Request");
+    }
+
     @Test
     void createOrder_idempotencyKey_reusesOrder() {
         CreateOrderRequest request = new CreateOrderRequest(
@@ -357,6 +485,115 @@ class OrderControllerIntegrationTest {
         throw new AssertionError("Expected 409 Conflict");
     }
 
+    @Test
+    void createOrder_idempotencyKey_fromOtherAccount_returnsConflict() throws Exception {
+        CreateOrderRequest request = new CreateOrderRequest(
+            "AAPL",
+            OrderSide.BUY,
+            null,
+            new BigDecimal("10"),
+            new BigDecimal("100.50")
+        );
+
+        String url = ordersUrl();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Idempotency-Key", "order-789");
+        headers.set("X-Account-Id", "acct-1");
+        HttpHeaders otherHeaders = new HttpHeaders();
+        otherHeaders.set("Idempotency-Key", "order-789");
+        otherHeaders.set("X-Account-Id", "acct-2");
+
+        ResponseEntity<OrderResponse> first = restTemplate.exchange(
+            url,
+            HttpMethod.POST,
+            new HttpEntity<>(request, headers),
+            OrderResponse.class
+        );
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+        try {
+            restTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(request, otherHeaders), ApiError.class);
+        } catch (HttpClientErrorException ex) {
+            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            ApiError error = objectMapper.readValue(ex.getResponseBodyAsByteArray(), ApiError.class);
+            assertThat(error.message()).contains("Idempotency");
+            assertThat(orderRepository.count()).isEqualTo(1);
+            return;
+        }
+        throw new AssertionError("Expected 409 Conflict");
+    }
+
+    @Test
+    void createOrder_overAdmissionLimit_returnsServiceUnavailableWithRetryAfter() throws Exception {
+        int held = 0;
+        while (admissionLimiter.acquire(0) != AimdConcurrencyLimiter.Outcome.SHED) {
+            held++;
+        }
+        try {
+            CreateOrderRequest request = new CreateOrderRequest(
+                "AAPL",
+                OrderSide.BUY,
+                OrderType.MARKET,
+                new BigDecimal("1"),
+                null
+            );
+            restTemplate.postForEntity(ordersUrl(), request, OrderResponse.class);
+            throw new AssertionError("Expected 503 Service Unavailable");
+        } catch (HttpServerErrorException ex) {
+            assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+            assertThat(ex.getResponseHeaders()).isNotNull();
+            assertThat(ex.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        } finally {
+            for (int i = 0; i < held; i++) {
+                admissionLimiter.release(0, false);
+            }
+        }
+        assertThat(orderRepository.count()).isZero();
+
+        createLimitOrder("AAPL");
+    }
+
+    @Test
+    void binaryWireFormat_createGetAndList_roundTripsWhenRequested() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(OrderBinaryHttpMessageConverter.MEDIA_TYPE);
+        headers.setAccept(List.of(OrderBinaryHttpMessageConverter.MEDIA_TYPE));
+        byte[] request = OrderBinaryCodec.encodeCreateOrder(new CreateOrderRequest(
+            "AAPL",
+            OrderSide.BUY,
+            OrderType.LIMIT,
+            new BigDecimal("10"),
+            new BigDecimal("100.50")
+        ));
+
+        ResponseEntity<byte[]> created = restTemplate.exchange(
+            ordersUrl(), HttpMethod.POST, new HttpEntity<>(request, headers), byte[].class
+        );
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(created.getHeaders().getContentType()).isEqualTo(OrderBinaryHttpMessageConverter.MEDIA_TYPE);
+        OrderResponse order = OrderBinaryCodec.decodeOrder(created.getBody());
+        assertThat(order.symbol()).isEqualTo("AAPL");
+        assertThat(order.price()).isEqualByComparingTo("100.50");
+        assertThat(order.status()).isEqualTo(OrderStatus.NEW);
+
+        HttpEntity<Void> binaryAccept = new HttpEntity<>(headers);
+        byte[] fetched = restTemplate.exchange(
+            ordersUrl() + "/" + order.id(), HttpMethod.GET, binaryAccept, byte[].class
+        ).getBody();
+        assertThat(OrderBinaryCodec.decodeOrder(fetched))
+            .usingRecursiveComparison()
+            .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+            .isEqualTo(order);
+
+        byte[] listed = restTemplate.exchange(
+            ordersUrl() + "?symbol=AAPL", HttpMethod.GET, binaryAccept, byte[].class
+        ).getBody();
+        assertThat(OrderBinaryCodec.decodeOrders(listed)).extracting(OrderResponse::id).containsExactly(order.id());
+
+        // Without an explicit Accept the same endpoint stays JSON.
+        assertThat(fetchOrders("?symbol=AAPL")).extracting(OrderResponse::id).containsExactly(order.id());
+    }
+
     private OrderResponse createLimitOrder(String symbol) {
         CreateOrderRequest request = new CreateOrderRequest(
             symbol,
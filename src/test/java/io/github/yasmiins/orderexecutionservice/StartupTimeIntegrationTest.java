@@ -0,0 +1,80 @@
+package io.github.yasmiins.orderexecutionservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.web.CreateOrderRequest;
+import io.github.yasmiins.orderexecutionservice.web.OrderResponse;
+
+/**
+ * Boots the application with lazy initialization on, as the production image does, and fails if
+ * the time from launch to the first accepted order exceeds {@code startup.max-millis}. AOT and CDS
+ * are not applied here. A useful budget depends on the machine, so the test only runs when the
+ * property is set: measure both boots on the target machine and pick a value below the eager one.
+ */
+@Testcontainers
+@EnabledIfSystemProperty(named = "startup.max-millis", matches = "\\d+")
+class StartupTimeIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeIntegrationTest.class);
+    private static final long MAX_MILLIS = Long.getLong("startup.max-millis");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Test
+    void firstAcceptedOrder_withinStartupBudget() {
+        long startedAt = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderExecutionServiceApplication.class)
+            .properties(
+                "server.port=0",
+                "spring.main.lazy-initialization=true",
+                "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "spring.datasource.username=" + POSTGRES.getUsername(),
+                "spring.datasource.password=" + POSTGRES.getPassword()
+            )
+            .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            CreateOrderRequest request = new CreateOrderRequest(
+                "AAPL",
+                OrderSide.BUY,
+                OrderType.MARKET,
+                new BigDecimal("1"),
+                null
+            );
+
+            ResponseEntity<OrderResponse> response = new RestTemplate()
+                .postForEntity("http://localhost:" + port + "/orders", request, OrderResponse.class);
+            Duration timeToFirstOrder = Duration.ofNanos(System.nanoTime() - startedAt);
+            log.info(
+                "event=startup_time timeToFirstOrderMs={} maxMs={}",
+                timeToFirstOrder.toMillis(),
+                MAX_MILLIS
+            );
+
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(timeToFirstOrder.toMillis())
+                .as("time to first accepted order")
+                .isLessThan(MAX_MILLIS);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.yasmiins.orderexecutionservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+import io.github.yasmiins.orderexecutionservice.service.stats.SymbolStatsRecorder;
+import io.github.yasmiins.orderexecutionservice.web.SymbolStatsResponse;
+
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "simulator.scheduling.enabled=false",
+        // The test flushes itself, so a scheduled flush cannot still be in flight when it reads.
+        "order.stats.flush-interval-ms=3600000"
+    }
+)
+class SymbolStatsIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SimulatedFillEngine engine;
+
+    @Autowired
+    private SymbolStatsRecorder statsRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM symbol_minute_stats");
+        jdbcTemplate.update("DELETE FROM executions");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @Test
+    void stats_matchAggregateOverExecutions() {
+        for (int i = 0; i < 5; i++) {
+            orderService.createOrder("AAPL", OrderSide.BUY, new BigDecimal("10"), new BigDecimal("150"), OrderType.LIMIT);
+            orderService.createOrder("MSFT", OrderSide.SELL, new BigDecimal("4"), new BigDecimal("50"), OrderType.LIMIT);
+        }
+        for (int pass = 0; pass < 3; pass++) {
+            engine.processOpenOrders();
+        }
+        statsRecorder.flush();
+
+        Map<String, Object> expected = jdbcTemplate.queryForMap(
+            """
+                SELECT SUM(quantity) AS volume, COUNT(*) AS trades, SUM(quantity * price) / SUM(quantity) AS vwap,
+                       MAX(price) AS high, MIN(price) AS low
+                FROM executions WHERE symbol = 'AAPL'
+                """
+        );
+        ResponseEntity<SymbolStatsResponse> response =
+            restTemplate.getForEntity(url("/symbols/aapl/stats?minutes=5"), SymbolStatsResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        SymbolStatsResponse stats = response.getBody();
+        assertThat(stats).isNotNull();
+        assertThat(stats.symbol()).isEqualTo("AAPL");
+        assertThat(stats.tradeCount()).isEqualTo(((Number) expected.get("trades")).longValue()).isPositive();
+        assertThat(stats.volume()).isEqualByComparingTo((BigDecimal) expected.get("volume"));
+        assertThat(stats.vwap()).isEqualByComparingTo(
+            ((BigDecimal) expected.get("vwap")).setScale(6, RoundingMode.HALF_UP)
+        );
+        assertThat(stats.high()).isEqualByComparingTo((BigDecimal) expected.get("high"));
+        assertThat(stats.low()).isEqualByComparingTo((BigDecimal) expected.get("low"));
+        assertThat(stats.perMinute()).isNotEmpty()
+            .allSatisfy(minute -> assertThat(minute.tradeCount()).isPositive());
+    }
+
+    @Test
+    void stats_symbolWithoutExecutionsIsEmptyAndWindowIsValidated() {
+        SymbolStatsResponse stats = restTemplate.getForObject(url("/symbols/MSFT/stats"), SymbolStatsResponse.class);
+
+        assertThat(stats).isNotNull();
+        assertThat(stats.tradeCount()).isZero();
+        assertThat(stats.vwap()).isNull();
+        assertThat(stats.perMinute()).isEmpty();
+
+        assertThatThrownBy(() -> restTemplate.getForEntity(url("/symbols/MSFT/stats?minutes=0"), String.class))
+            .isInstanceOfSatisfying(
+                HttpClientErrorException.class,
+                ex -> assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST)
+            );
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,170 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+
+/**
+ * Cancels orders while a fill loop keeps executing against the same orders, once through the old
+ * load-check-save path and once through {@link OrderService#cancelOrder}. The conditional update
+ * never loses the race to an optimistic-lock failure; latencies are logged for comparison.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "simulator.enabled=false"
+)
+class CancelContentionIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CancelContentionIntegrationTest.class);
+    private static final int ORDERS = 200;
+    private static final BigDecimal PRICE = new BigDecimal("100");
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private MassCancelService massCancelService;
+
+    @Autowired
+    private SimulatedFillProcessor fillProcessor;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void cleanDatabase() {
+        executionRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void conditionalCancel_underFillContention_neverFailsOptimisticCheck() throws Exception {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        Result readModifyWrite = cancelUnderContention(orderId -> transaction.executeWithoutResult(status -> {
+            Order order = orderRepository.findById(orderId).orElseThrow();
+            if (order.getStatus() == OrderStatus.NEW || order.getStatus() == OrderStatus.PARTIALLY_FILLED) {
+                order.setStatus(OrderStatus.CANCELED);
+                orderRepository.save(order);
+            }
+        }));
+        // Cancels that lost the race left orders open; close them before the next round.
+        massCancelService.cancelOpenOrders(null, null, readModifyWrite.orderIds());
+
+        Result conditional = cancelUnderContention(orderId -> {
+            try {
+                orderService.cancelOrder(orderId);
+            } catch (OrderStateException ex) {
+                // Filled before the cancel arrived; a legitimate outcome, not a lost race.
+            }
+        });
+
+        log.info(
+            "event=cancel_contention_benchmark orders={} rmwP50Micros={} rmwP99Micros={} rmwLockFailures={} "
+                + "conditionalP50Micros={} conditionalP99Micros={} conditionalLockFailures={}",
+            ORDERS,
+            readModifyWrite.percentileMicros(50),
+            readModifyWrite.percentileMicros(99),
+            readModifyWrite.lockFailures(),
+            conditional.percentileMicros(50),
+            conditional.percentileMicros(99),
+            conditional.lockFailures()
+        );
+
+        assertThat(conditional.lockFailures()).isZero();
+        assertThat(orderRepository.findAllById(conditional.orderIds()))
+            .allMatch(order -> order.getStatus() == OrderStatus.CANCELED || order.getStatus() == OrderStatus.FILLED);
+    }
+
+    private Result cancelUnderContention(Consumer<UUID> cancel) throws InterruptedException {
+        List<UUID> orderIds = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            orderIds.add(orderService.createOrder(
+                "AAPL",
+                OrderSide.BUY,
+                new BigDecimal("1000000"),
+                null,
+                OrderType.MARKET
+            ).getId());
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread filler = Thread.ofPlatform().name("contention-filler").start(() -> {
+            while (running.get()) {
+                for (UUID orderId : orderIds) {
+                    try {
+                        fillProcessor.processOrder(orderId, PRICE);
+                    } catch (ObjectOptimisticLockingFailureException ex) {
+                        // The cancel won; move on.
+                    }
+                }
+            }
+        });
+
+        List<Long> latencies = new ArrayList<>();
+        int lockFailures = 0;
+        try {
+            for (UUID orderId : orderIds) {
+                long startedAt = System.nanoTime();
+                try {
+                    cancel.accept(orderId);
+                } catch (ObjectOptimisticLockingFailureException ex) {
+                    lockFailures++;
+                }
+                latencies.add(System.nanoTime() - startedAt);
+            }
+        } finally {
+            running.set(false);
+            filler.join();
+        }
+        Collections.sort(latencies);
+        return new Result(orderIds, latencies, lockFailures);
+    }
+
+    private record Result(List<UUID> orderIds, List<Long> sortedNanos, int lockFailures) {
+
+        long percentileMicros(int percentile) {
+            int index = Math.min(sortedNanos.size() - 1, sortedNanos.size() * percentile / 100);
+            return TimeUnit.NANOSECONDS.toMicros(sortedNanos.get(index));
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.Execution;
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+
+/**
+ * Counts JDBC statements and commits of one fill pass over {@value #ORDERS} marketable orders:
+ * the former path, which re-read and saved each order in its own transaction, against the
+ * engine's batched write from the loaded state. Counts are asserted because they do not depend on
+ * the machine; wall time is logged only.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "simulator.scheduling.enabled=false",
+        // Keep the statistics flush out of the counted window.
+        "order.stats.flush-interval-ms=3600000"
+    }
+)
+class FillPassQueryCountBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(FillPassQueryCountBenchmarkIntegrationTest.class);
+    private static final int ORDERS = 1_000;
+    private static final List<String> SYMBOLS = List.of("AAPL", "MSFT");
+    private static final BigDecimal PRICE = new BigDecimal("100");
+    private static final LongAdder STATEMENTS = new LongAdder();
+    private static final LongAdder COMMITS = new LongAdder();
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private SimulatedFillEngine engine;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void cleanDatabase() {
+        executionRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void batchedFillPass_issuesConstantStatementsPerSymbol() {
+        seedMarketableOrders();
+        Result reRead = measure(this::reReadEachOrder);
+
+        cleanDatabase();
+        seedMarketableOrders();
+        Result batched = measure(engine::processOpenOrders);
+
+        log.info(
+            "event=fill_pass_query_count_benchmark orders={} reReadStatements={} reReadCommits={} reReadMillis={} "
+                + "batchedStatements={} batchedCommits={} batchedMillis={}",
+            ORDERS,
+            reRead.statements(),
+            reRead.commits(),
+            reRead.millis(),
+            batched.statements(),
+            batched.commits(),
+            batched.millis()
+        );
+
+        assertThat(executionRepository.count()).isEqualTo(ORDERS);
+        assertThat(orderRepository.findAll()).allMatch(order -> order.getFilledQuantity().signum() > 0);
+        // Select, then per order: select, execution insert, order update.
+        assertThat(reRead.statements()).isEqualTo(1 + 3L * ORDERS);
+        // Select, then one batched write per symbol.
+        assertThat(batched.statements()).isEqualTo(1 + SYMBOLS.size());
+        assertThat(batched.commits()).isEqualTo(1 + SYMBOLS.size());
+    }
+
+    /**
+     * The fill path as it was before fills were written from the loaded state.
+     */
+    private void reReadEachOrder() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        List<Order> open = orderRepository.findByStatusIn(
+            List.of(OrderStatus.NEW, OrderStatus.PARTIALLY_FILLED),
+            Sort.by("createdAt")
+        );
+        for (Order loaded : open) {
+            transaction.executeWithoutResult(status -> {
+                Order order = orderRepository.findById(loaded.getId()).orElseThrow();
+                BigDecimal fill = order.getQuantity().subtract(order.getFilledQuantity())
+                    .multiply(new BigDecimal("0.25"))
+                    .setScale(6, RoundingMode.DOWN);
+                executionRepository.save(new Execution(order, order.getInstrument(), fill, PRICE));
+                order.setFilledQuantity(order.getFilledQuantity().add(fill));
+                order.setStatus(OrderStatus.PARTIALLY_FILLED);
+                orderRepository.save(order);
+            });
+        }
+    }
+
+    private void seedMarketableOrders() {
+        Instant now = Instant.now();
+        jdbcTemplate.batchUpdate(
+            """
+                INSERT INTO orders (id, symbol, side, order_type, quantity, filled_quantity, price, status, created_at, updated_at)
+                VALUES (?, ?, 'BUY', 'LIMIT', 10, 0, 150, 'NEW', ?, ?)
+                """,
+            IntStream.range(0, ORDERS)
+                .mapToObj(i -> new Object[] {
+                    UUID.randomUUID(),
+                    SYMBOLS.get(i % SYMBOLS.size()),
+                    Timestamp.from(now.minusMillis(ORDERS - i)),
+                    Timestamp.from(now)
+                })
+                .toList()
+        );
+    }
+
+    private static Result measure(Runnable pass) {
+        STATEMENTS.reset();
+        COMMITS.reset();
+        long startedAt = System.nanoTime();
+        pass.run();
+        long elapsed = System.nanoTime() - startedAt;
+        return new Result(STATEMENTS.sum(), COMMITS.sum(), elapsed / 1_000_000.0);
+    }
+
+    private record Result(long statements, long commits, double millis) {
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class StatementCounting {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? counting(DataSource.class, dataSource) : bean;
+                }
+            };
+        }
+
+        /**
+         * Wraps a JDBC object so that connections and statements it hands out are wrapped too, and
+         * counts each statement execution (a batch counts once) and each commit.
+         */
+        @SuppressWarnings("unchecked")
+        private static <T> T counting(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+                if (Statement.class.isAssignableFrom(type) && method.getName().startsWith("execute")) {
+                    STATEMENTS.increment();
+                } else if (type == Connection.class && method.getName().equals("commit")) {
+                    COMMITS.increment();
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+                Class<?> returned = method.getReturnType();
+                if (result != null && (returned == Connection.class || Statement.class.isAssignableFrom(returned))) {
+                    return counting((Class<Object>) returned, result);
+                }
+                return result;
+            });
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.web.OrderResponse;
+
+/**
+ * Compares the projection read path behind {@code GET /orders} with loading managed entities and
+ * mapping them, per 10k-row response. Latency is logged only; allocation is asserted because it is
+ * stable across machines.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "simulator.enabled=false"
+)
+class OrderReadPathBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderReadPathBenchmarkIntegrationTest.class);
+    private static final int ROWS = 10_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 10;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void seedOrders() {
+        executionRepository.deleteAll();
+        orderRepository.deleteAll();
+        Instant now = Instant.now();
+        jdbcTemplate.batchUpdate(
+            """
+                INSERT INTO orders (id, symbol, side, order_type, quantity, filled_quantity, price, status, created_at, updated_at)
+                VALUES (?, ?, 'BUY', 'LIMIT', 10, 0, 100.50, 'NEW', ?, ?)
+                """,
+            IntStream.range(0, ROWS)
+                .mapToObj(i -> new Object[] {
+                    UUID.randomUUID(),
+                    i % 2 == 0 ? "AAPL" : "MSFT",
+                    Timestamp.from(now.minusMillis(i)),
+                    Timestamp.from(now)
+                })
+                .toList()
+        );
+    }
+
+    @Test
+    void projectionPath_allocatesLessThanEntityPath() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Sort sort = Sort.by(Sort.Direction.DESC, "createdAt");
+
+        Supplier<List<OrderResponse>> entityPath = () -> readOnly.execute(status ->
+            orderRepository.findAll(sort).stream().map(OrderResponse::from).toList()
+        );
+        Supplier<List<OrderResponse>> projectionPath = () ->
+            orderService.getOrders(null, null, null).stream().map(OrderResponse::from).toList();
+
+        Result entity = measure(entityPath);
+        Result projection = measure(projectionPath);
+        log.info(
+            "event=read_path_benchmark rows={} entityMillis={} entityBytes={} projectionMillis={} projectionBytes={}",
+            ROWS,
+            entity.millis(),
+            entity.bytes(),
+            projection.millis(),
+            projection.bytes()
+        );
+
+        assertThat(projectionPath.get()).isEqualTo(entityPath.get());
+        assertThat(projection.bytes()).isLessThan(entity.bytes());
+    }
+
+    private Result measure(Supplier<List<OrderResponse>> path) {
+        for (int i = 0; i < WARMUP; i++) {
+            assertThat(path.get()).hasSize(ROWS);
+        }
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            path.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        long bytes = threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        return new Result(elapsed / ITERATIONS / 1_000_000.0, bytes / ITERATIONS);
+    }
+
+    private record Result(double millis, long bytes) {
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.OrderView;
+import io.github.yasmiins.orderexecutionservice.service.position.PositionKeeper;
+
+/**
+ * Runs against two unrelated databases so routing is observable: a row that exists only on the
+ * replica is visible to read-only queries, and an order created on the primary is only readable
+ * while it, or the account's order list, is inside the read-your-writes window. An execution that exists only on the replica
+ * shows whether the startup position rebuild read from it.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = "simulator.enabled=false"
+)
+class ReplicaRoutingIntegrationTest {
+
+    private static final long WINDOW_MS = 500;
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        registry.add("order.datasource.replica.enabled", () -> "true");
+        registry.add("order.datasource.replica.url", REPLICA::getJdbcUrl);
+        registry.add("order.datasource.replica.username", REPLICA::getUsername);
+        registry.add("order.datasource.replica.password", REPLICA::getPassword);
+        registry.add("order.datasource.replica.read-your-writes-window-ms", () -> WINDOW_MS);
+    }
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+            .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(
+            REPLICA.getJdbcUrl(),
+            REPLICA.getUsername(),
+            REPLICA.getPassword()
+        ));
+        UUID orderId = UUID.randomUUID();
+        replica.update(
+            """
+                INSERT INTO orders (id, symbol, side, order_type, quantity, filled_quantity, price, status, created_at, updated_at)
+                VALUES (?, 'MSFT', 'BUY', 'MARKET', 10, 10, NULL, 'FILLED', now(), now())
+                """,
+            orderId
+        );
+        replica.update(
+            "INSERT INTO executions (id, order_id, symbol, quantity, price) VALUES (?, ?, 'MSFT', 10, 200)",
+            UUID.randomUUID(),
+            orderId
+        );
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PositionKeeper positionKeeper;
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(
+        REPLICA.getJdbcUrl(),
+        REPLICA.getUsername(),
+        REPLICA.getPassword()
+    ));
+
+    @BeforeEach
+    void cleanReplica() {
+        replica.update("DELETE FROM executions");
+        replica.update("DELETE FROM orders");
+    }
+
+    @Test
+    void orderList_afterOwnWrite_showsCreatedOrder() {
+        UUID replicaOnly = insertReplicaOnlyOrder();
+        Order created = createOrder();
+
+        assertThat(orderService.getOrders(Order.DEFAULT_ACCOUNT, null, null))
+            .extracting(OrderView::id)
+            .contains(created.getId())
+            .doesNotContain(replicaOnly);
+    }
+
+    @Test
+    void orderList_forOtherAccount_isServedFromReplica() {
+        UUID replicaOnly = insertReplicaOnlyOrder();
+        Order created = createOrder();
+
+        assertThat(orderService.getOrders("other", null, null))
+            .extracting(OrderView::id)
+            .containsExactly(replicaOnly)
+            .doesNotContain(created.getId());
+    }
+
+    @Test
+    void recentlyWrittenOrder_isReadFromPrimary() {
+        Order created = createOrder();
+
+        assertThat(orderService.getOrder(created.getId()).getId()).isEqualTo(created.getId());
+    }
+
+    @Test
+    void orderOutsideWindow_isReadFromReplica() throws InterruptedException {
+        Order created = createOrder();
+
+        Thread.sleep(WINDOW_MS * 2);
+
+        // Never replicated in this setup, so the replica read cannot find it.
+        assertThatThrownBy(() -> orderService.getOrder(created.getId()))
+            .isInstanceOf(OrderNotFoundException.class);
+    }
+
+    @Test
+    void positionRebuild_readsFromPrimary() {
+        assertThat(positionKeeper.position("MSFT").quantity()).isEqualByComparingTo("0");
+    }
+
+    private UUID insertReplicaOnlyOrder() {
+        UUID orderId = UUID.randomUUID();
+        replica.update(
+            """
+                INSERT INTO orders (id, symbol, side, order_type, quantity, filled_quantity, price, status, created_at, updated_at)
+                VALUES (?, 'AAPL', 'BUY', 'MARKET', 10, 0, NULL, 'NEW', now(), now())
+                """,
+            orderId
+        );
+        return orderId;
+    }
+
+    private Order createOrder() {
+        return orderService.createOrder("AAPL", OrderSide.BUY, new BigDecimal("10"), null, OrderType.MARKET);
+    }
+}
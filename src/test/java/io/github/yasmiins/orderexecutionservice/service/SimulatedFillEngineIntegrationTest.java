@@ -21,6 +21,7 @@ import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
 import io.github.yasmiins.orderexecutionservice.domain.OrderType;
 import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
 import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderView;
 
 @Testcontainers
 @SpringBootTest(
@@ -76,8 +77,8 @@ class SimulatedFillEngineIntegrationTest {
         List<Execution> executions = executionRepository.findByOrderId(order.getId());
         assertThat(executions).hasSize(1);
 
-        Order canceled = orderService.cancelOrder(order.getId());
-        assertThat(canceled.getStatus()).isEqualTo(OrderStatus.CANCELED);
+        OrderView canceled = orderService.cancelOrder(order.getId());
+        assertThat(canceled.status()).isEqualTo(OrderStatus.CANCELED);
 
         List<Execution> stillThere = executionRepository.findByOrderId(order.getId());
         assertThat(stillThere).hasSize(1);
@@ -0,0 +1,154 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.domain.Instrument;
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.fill.SkipLockedFillDrainer;
+import io.github.yasmiins.orderexecutionservice.service.marketdata.PriceSource;
+import io.github.yasmiins.orderexecutionservice.service.profiling.FillTickProfiler;
+import io.github.yasmiins.orderexecutionservice.service.shard.SymbolShardCoordinator;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrder;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderCursor;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderStateStore;
+
+@ExtendWith(MockitoExtension.class)
+class SimulatedFillEngineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private PriceSource priceSource;
+
+    @Mock
+    private SimulatedFillProcessor processor;
+
+    @Mock
+    private OpenOrderStateStore stateStore;
+
+    @Mock
+    private OpenOrderCursor openOrderCursor;
+
+    @Mock
+    private SymbolShardCoordinator shardCoordinator;
+
+    @Mock
+    private SkipLockedFillDrainer drainer;
+
+    private SimulatedFillEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(shardCoordinator.owns(anyString())).thenReturn(true);
+        engine = new SimulatedFillEngine(
+            orderRepository,
+            priceSource,
+            processor,
+            stateStore,
+            openOrderCursor,
+            shardCoordinator,
+            drainer,
+            new FillTickProfiler(new SimulatedFillProperties())
+        );
+    }
+
+    @Test
+    void crossesRestingLimit_tracksBestRestingBidAndAsk() {
+        when(priceSource.latestPrice("AAPL")).thenReturn(new BigDecimal("100"));
+        when(orderRepository.findByInstrumentSymbolAndStatusIn(eq("AAPL"), anyList(), any(Sort.class)))
+            .thenReturn(List.of(
+                limitOrder(OrderSide.BUY, "98"),
+                limitOrder(OrderSide.BUY, "99"),
+                limitOrder(OrderSide.SELL, "102")
+            ));
+
+        engine.processSymbol("AAPL");
+
+        assertThat(engine.crossesRestingLimit("AAPL", new BigDecimal("99.50"))).isFalse();
+        assertThat(engine.crossesRestingLimit("AAPL", new BigDecimal("99"))).isTrue();
+        assertThat(engine.crossesRestingLimit("AAPL", new BigDecimal("101.99"))).isFalse();
+        assertThat(engine.crossesRestingLimit("AAPL", new BigDecimal("102"))).isTrue();
+    }
+
+    @Test
+    void crossesRestingLimit_unknownSymbol_isFalse() {
+        assertThat(engine.crossesRestingLimit("MSFT", new BigDecimal("1"))).isFalse();
+    }
+
+    @Test
+    void processOrders_processesGivenIdsAndInvalidatesRestingLimits() {
+        BigDecimal price = new BigDecimal("100");
+        UUID orderId = UUID.randomUUID();
+        when(priceSource.latestPrice("AAPL")).thenReturn(price);
+        when(orderRepository.findByInstrumentSymbolAndStatusIn(eq("AAPL"), anyList(), any(Sort.class)))
+            .thenReturn(List.of(limitOrder(OrderSide.BUY, "98")));
+        engine.processSymbol("AAPL");
+        assertThat(engine.crossesRestingLimit("AAPL", new BigDecimal("99"))).isFalse();
+
+        OpenOrder accepted = new OpenOrder(
+            orderId, "AAPL", OrderSide.BUY, OrderType.MARKET, BigDecimal.ONE, null, BigDecimal.ZERO, OrderStatus.NEW, null
+        );
+        when(orderRepository.findOrderStateByIdIn(List.of(orderId))).thenReturn(List.of(accepted));
+        engine.processOrders("AAPL", List.of(orderId));
+
+        verify(processor).processOrders(List.of(accepted), price);
+        assertThat(engine.crossesRestingLimit("AAPL", new BigDecimal("99"))).isTrue();
+    }
+
+    @Test
+    void processSymbol_notOwned_skipsWithoutLoading() {
+        when(shardCoordinator.owns("MSFT")).thenReturn(false);
+
+        engine.processSymbol("MSFT");
+        engine.processOrders("MSFT", List.of(UUID.randomUUID()));
+
+        verifyNoInteractions(orderRepository, processor);
+    }
+
+    @Test
+    void processOpenOrders_skipLockedEnabled_drainsInsteadOfScanning() {
+        when(drainer.isEnabled()).thenReturn(true);
+
+        engine.processOpenOrders();
+
+        verify(drainer).drain();
+        verifyNoInteractions(orderRepository, processor, openOrderCursor);
+    }
+
+    private Order limitOrder(OrderSide side, String price) {
+        return new Order(
+            new Instrument("AAPL"),
+            side,
+            OrderType.LIMIT,
+            new BigDecimal("10"),
+            new BigDecimal(price),
+            BigDecimal.ZERO,
+            OrderStatus.NEW
+        );
+    }
+}
@@ -2,32 +2,43 @@ package io.github.yasmiins.orderexecutionservice.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
-import io.github.yasmiins.orderexecutionservice.domain.Execution;
-import io.github.yasmiins.orderexecutionservice.domain.Instrument;
-import io.github.yasmiins.orderexecutionservice.domain.Order;
 import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
 import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
 import io.github.yasmiins.orderexecutionservice.domain.OrderType;
-import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderFill;
+import io.github.yasmiins.orderexecutionservice.repository.OrderFillRepository;
 import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderFilled;
+import io.github.yasmiins.orderexecutionservice.service.event.OrderPartiallyFilled;
+import io.github.yasmiins.orderexecutionservice.service.fill.FillSizeModel;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+import io.github.yasmiins.orderexecutionservice.service.lifecycle.OrderLifecycleLogger;
+import io.github.yasmiins.orderexecutionservice.service.profiling.FillTickProfiler;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrder;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderStateStore;
 
 @ExtendWith(MockitoExtension.class)
 class SimulatedFillProcessorTest {
@@ -36,14 +47,26 @@ class SimulatedFillProcessorTest {
     private OrderRepository orderRepository;
 
     @Mock
-    private ExecutionRepository executionRepository;
+    private OrderFillRepository orderFillRepository;
 
     @Mock
     private DomainEventPublisher eventPublisher;
 
+    @Mock
+    private OrderJournal orderJournal;
+
     @Mock
     private OrderMetrics orderMetrics;
 
+    @Mock
+    private OrderLifecycleLogger lifecycleLog;
+
+    @Mock
+    private OpenOrderStateStore stateStore;
+
+    @Captor
+    private ArgumentCaptor<List<OrderFill>> fills;
+
     private SimulatedFillProperties properties;
     private SimulatedFillProcessor processor;
 
@@ -57,87 +80,122 @@ class SimulatedFillProcessorTest {
 
         processor = new SimulatedFillProcessor(
             orderRepository,
-            executionRepository,
-            properties,
+            orderFillRepository,
+            new FillSizeModel(properties),
             eventPublisher,
-            orderMetrics
+            orderJournal,
+            orderMetrics,
+            lifecycleLog,
+            stateStore,
+            new FillTickProfiler(properties)
         );
     }
 
     @Test
-    void processOrder_appliesPartialFillInRange() throws Exception {
-        Order order = buildOrder(
-            new BigDecimal("10"),
-            new BigDecimal("150"),
-            OrderSide.BUY
-        );
-        UUID id = assignId(order);
-        when(orderRepository.findById(id)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
-        processor.processOrder(id, new BigDecimal("100"));
-
-        BigDecimal filled = order.getFilledQuantity();
-        assertThat(filled).isGreaterThan(BigDecimal.ZERO);
-        assertThat(filled).isBetween(new BigDecimal("2.5"), new BigDecimal("5.0"));
-        assertThat(order.getStatus()).isIn(OrderStatus.PARTIALLY_FILLED, OrderStatus.FILLED);
-        verify(executionRepository, times(1)).save(any(Execution.class));
-        verify(orderRepository, times(1)).save(any(Order.class));
+    void processOrders_appliesPartialFillInRange() {
+        OpenOrder order = openOrder(new BigDecimal("10"), new BigDecimal("150"), OrderSide.BUY);
+        when(orderFillRepository.applyFills(anyList())).thenReturn(new boolean[] {true});
+
+        processor.processOrders(List.of(order), new BigDecimal("100"));
+
+        verify(orderFillRepository).applyFills(fills.capture());
+        OrderFill fill = fills.getValue().getFirst();
+        assertThat(fill.fromStatus()).isEqualTo(OrderStatus.NEW);
+        assertThat(fill.fromFilledQuantity()).isEqualByComparingTo("0");
+        assertThat(fill.fillQuantity()).isBetween(new BigDecimal("2.5"), new BigDecimal("5.0"));
+        assertThat(fill.filledQuantity()).isEqualByComparingTo(fill.fillQuantity());
+        assertThat(fill.status()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+        verify(orderMetrics).incrementFillCreated(OrderStatus.PARTIALLY_FILLED);
+        verify(orderJournal).appendAfterCommit(any(JournalEntry.Fill.class));
+        verify(eventPublisher).publishAfterCommit(new OrderPartiallyFilled(order.id()));
     }
 
     @Test
-    void processOrder_nonMarketableLimitBuy_skips() throws Exception {
-        Order order = buildOrder(
-            new BigDecimal("10"),
-            new BigDecimal("50"),
-            OrderSide.BUY
-        );
-        UUID id = assignId(order);
-        when(orderRepository.findById(id)).thenReturn(Optional.of(order));
+    void processOrders_nonMarketableLimitBuy_skips() {
+        OpenOrder order = openOrder(new BigDecimal("10"), new BigDecimal("50"), OrderSide.BUY);
 
-        processor.processOrder(id, new BigDecimal("100"));
+        processor.processOrders(List.of(order), new BigDecimal("100"));
 
-        assertThat(order.getFilledQuantity()).isEqualByComparingTo("0");
-        assertThat(order.getStatus()).isEqualTo(OrderStatus.NEW);
-        verify(executionRepository, never()).save(any(Execution.class));
-        verify(orderRepository, never()).save(any(Order.class));
+        verifyNoInteractions(orderFillRepository, orderJournal, eventPublisher);
     }
 
     @Test
-    void processOrder_smallRemaining_fillsCompletely() throws Exception {
-        Order order = buildOrder(
-            new BigDecimal("0.000001"),
-            new BigDecimal("80"),
-            OrderSide.SELL
-        );
-        UUID id = assignId(order);
-        when(orderRepository.findById(id)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    void processOrders_smallRemaining_fillsCompletely() {
+        OpenOrder order = openOrder(new BigDecimal("0.000001"), new BigDecimal("80"), OrderSide.SELL);
+        when(orderFillRepository.applyFills(anyList())).thenReturn(new boolean[] {true});
 
-        processor.processOrder(id, new BigDecimal("100"));
+        processor.processOrders(List.of(order), new BigDecimal("100"));
 
-        assertThat(order.getFilledQuantity()).isEqualByComparingTo("0.000001");
-        assertThat(order.getStatus()).isEqualTo(OrderStatus.FILLED);
-        verify(executionRepository, times(1)).save(any(Execution.class));
+        verify(orderFillRepository).applyFills(fills.capture());
+        OrderFill fill = fills.getValue().getFirst();
+        assertThat(fill.fillQuantity()).isEqualByComparingTo("0.000001");
+        assertThat(fill.status()).isEqualTo(OrderStatus.FILLED);
+        verify(eventPublisher).publishAfterCommit(new OrderFilled(order.id()));
     }
 
-    private Order buildOrder(BigDecimal quantity, BigDecimal price, OrderSide side) {
-        return new Order(
-            new Instrument("AAPL"),
+    @Test
+    void processOrders_fillNotApplied_hasNoSideEffectsAndReloadsState() {
+        OpenOrder stale = openOrder(new BigDecimal("10"), new BigDecimal("150"), OrderSide.BUY);
+        OpenOrder current = openOrder(new BigDecimal("10"), new BigDecimal("150"), OrderSide.BUY);
+        when(orderFillRepository.applyFills(anyList())).thenReturn(new boolean[] {false, true});
+
+        processor.processOrders(List.of(stale, current), new BigDecimal("100"));
+
+        verify(orderFillRepository).applyFills(fills.capture());
+        assertThat(fills.getValue()).extracting(OrderFill::orderId).containsExactly(stale.id(), current.id());
+        verify(orderJournal, times(1)).appendAfterCommit(any(JournalEntry.Fill.class));
+        verify(eventPublisher, never()).publishAfterCommit(new OrderPartiallyFilled(stale.id()));
+        verify(eventPublisher).publishAfterCommit(new OrderPartiallyFilled(current.id()));
+        verify(stateStore).reload(List.of(stale.id()));
+    }
+
+    @Test
+    void processOrders_fixedSeed_replaysSameFills() {
+        properties.getFillModel().setSeed(7L);
+        OpenOrder order = openOrder(new BigDecimal("10"), new BigDecimal("150"), OrderSide.BUY);
+        when(orderFillRepository.applyFills(anyList())).thenReturn(new boolean[] {true});
+
+        for (int run = 0; run < 2; run++) {
+            new SimulatedFillProcessor(
+                orderRepository,
+                orderFillRepository,
+                new FillSizeModel(properties),
+                eventPublisher,
+                orderJournal,
+                orderMetrics,
+                lifecycleLog,
+                stateStore,
+                new FillTickProfiler(properties)
+            ).processOrders(List.of(order), new BigDecimal("100"));
+        }
+
+        verify(orderFillRepository, times(2)).applyFills(fills.capture());
+        assertThat(fills.getAllValues().get(0).getFirst().fillQuantity())
+            .isEqualTo(fills.getAllValues().get(1).getFirst().fillQuantity());
+    }
+
+    @Test
+    void processOrder_loadsStateById() {
+        OpenOrder order = openOrder(new BigDecimal("10"), new BigDecimal("150"), OrderSide.BUY);
+        when(orderRepository.findOrderStateByIdIn(List.of(order.id()))).thenReturn(List.of(order));
+        when(orderFillRepository.applyFills(anyList())).thenReturn(new boolean[] {true});
+
+        processor.processOrder(order.id(), new BigDecimal("100"));
+
+        verify(orderFillRepository).applyFills(anyList());
+    }
+
+    private OpenOrder openOrder(BigDecimal quantity, BigDecimal price, OrderSide side) {
+        return new OpenOrder(
+            UUID.randomUUID(),
+            "AAPL",
             side,
             OrderType.LIMIT,
             quantity,
             price,
             BigDecimal.ZERO,
-            OrderStatus.NEW
+            OrderStatus.NEW,
+            Instant.now()
         );
     }
-
-    private UUID assignId(Order order) throws Exception {
-        Field field = Order.class.getDeclaredField("id");
-        field.setAccessible(true);
-        UUID id = UUID.randomUUID();
-        field.set(order, id);
-        return id;
-    }
 }
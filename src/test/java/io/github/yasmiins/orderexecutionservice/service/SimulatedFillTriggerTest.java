@@ -0,0 +1,74 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+
+@ExtendWith(MockitoExtension.class)
+class SimulatedFillTriggerTest {
+
+    @Mock
+    private SimulatedFillEngine engine;
+
+    private SimulatedFillTrigger trigger;
+
+    @BeforeEach
+    void setUp() {
+        SimulatedFillProperties properties = new SimulatedFillProperties();
+        properties.setTriggerThreads(2);
+        trigger = new SimulatedFillTrigger(engine, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        trigger.shutdown();
+    }
+
+    @Test
+    void requestPass_hotSymbolHoldsOneThreadAndRunsOneFollowUp() throws InterruptedException {
+        CountDownLatch firstPassStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            firstPassStarted.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } finally {
+                running.decrementAndGet();
+            }
+            return null;
+        }).when(engine).processSymbol("AAPL");
+
+        trigger.requestPass("AAPL");
+        assertThat(firstPassStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            trigger.requestPass("AAPL");
+        }
+        trigger.requestPass("MSFT");
+
+        // The second thread stays free for other symbols while AAPL runs.
+        verify(engine, timeout(5000)).processSymbol("MSFT");
+        release.countDown();
+
+        verify(engine, timeout(5000).times(2)).processSymbol("AAPL");
+        verify(engine, after(200).times(2)).processSymbol("AAPL");
+        assertThat(maxRunning).hasValue(1);
+    }
+}
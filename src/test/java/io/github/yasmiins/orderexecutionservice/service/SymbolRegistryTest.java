@@ -0,0 +1,82 @@
+package io.github.yasmiins.orderexecutionservice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.yasmiins.orderexecutionservice.config.OrderValidationProperties;
+
+class SymbolRegistryTest {
+
+    private final SymbolRegistry registry = registry(List.of("aapl", " MSFT ", "GOOG", "AAPL", ""));
+
+    @Test
+    void lookup_resolvesRawInputToSharedInstrumentAndDenseId() {
+        SymbolRegistry.RegisteredSymbol aapl = registry.lookup("AAPL");
+
+        assertThat(aapl.id()).isZero();
+        assertThat(aapl.symbol()).isEqualTo("AAPL");
+        assertThat(registry.lookup("  aApL\t")).isSameAs(aapl);
+        assertThat(registry.lookup("msft").instrument()).isSameAs(registry.byId(1).instrument());
+        assertThat(registry.lookup("GOOG").id()).isEqualTo(2);
+        assertThat(registry.size()).isEqualTo(3);
+        assertThat(registry.isRestricted()).isTrue();
+    }
+
+    @Test
+    void lookup_returnsNullForUnknownBlankOrPartialInput() {
+        assertThat(registry.lookup(null)).isNull();
+        assertThat(registry.lookup("   ")).isNull();
+        assertThat(registry.lookup("TSLA")).isNull();
+        assertThat(registry.lookup("AAP")).isNull();
+        assertThat(registry.lookup("AAPLX")).isNull();
+        assertThat(registry.lookup("AA PL")).isNull();
+    }
+
+    @Test
+    void emptyConfiguration_isUnrestricted() {
+        SymbolRegistry unrestricted = registry(null);
+
+        assertThat(unrestricted.isRestricted()).isFalse();
+        assertThat(unrestricted.lookup("AAPL")).isNull();
+    }
+
+    @Test
+    void normalize_prefersRegisteredSymbolAndUpperCasesOthers() {
+        assertThat(registry.normalize(" aapl ")).isSameAs(registry.lookup("AAPL").symbol());
+        assertThat(registry.normalize(" tsla\t")).isEqualTo("TSLA");
+        assertThat(registry.normalize("  ")).isNull();
+        assertThat(registry.normalize(null)).isNull();
+    }
+
+    @Test
+    void lookup_doesNotAllocate() {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String[] inputs = {"AAPL", " msft ", "Goog", "TSLA"};
+        for (int i = 0; i < 20_000; i++) {
+            registry.lookup(inputs[i & 3]);
+        }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        int hits = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (registry.lookup(inputs[i & 3]) != null) {
+                hits++;
+            }
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(hits).isEqualTo(75_000);
+        // Allowance for the measurement itself; a per-call allocation would be megabytes.
+        assertThat(allocated).isLessThan(16 * 1024);
+    }
+
+    private static SymbolRegistry registry(List<String> supportedSymbols) {
+        OrderValidationProperties properties = new OrderValidationProperties();
+        properties.setSupportedSymbols(supportedSymbols);
+        return new SymbolRegistry(properties);
+    }
+}
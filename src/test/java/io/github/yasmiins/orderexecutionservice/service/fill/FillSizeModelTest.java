@@ -0,0 +1,79 @@
+package io.github.yasmiins.orderexecutionservice.service.fill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties.FillModel.Distribution;
+
+class FillSizeModelTest {
+
+    private static final BigDecimal TEN = BigDecimal.TEN;
+
+    @Test
+    void sameSeed_replaysEachSymbolRegardlessOfInterleaving() {
+        FillSizeModel first = model(Distribution.UNIFORM, 42L);
+        FillSizeModel second = model(Distribution.UNIFORM, 42L);
+
+        double[] aaplAlone = new double[5];
+        for (int i = 0; i < aaplAlone.length; i++) {
+            aaplAlone[i] = first.nextFillFraction("AAPL", TEN);
+        }
+        double[] aaplInterleaved = new double[5];
+        for (int i = 0; i < aaplInterleaved.length; i++) {
+            second.nextFillFraction("MSFT", TEN);
+            aaplInterleaved[i] = second.nextFillFraction("AAPL", TEN);
+        }
+
+        assertThat(aaplInterleaved).containsExactly(aaplAlone);
+        assertThat(model(Distribution.UNIFORM, 43L).nextFillFraction("AAPL", TEN)).isNotEqualTo(aaplAlone[0]);
+    }
+
+    @Test
+    void uniform_staysWithinConfiguredPercentRange() {
+        FillSizeModel model = model(Distribution.UNIFORM, 1L);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(model.nextFillFraction("AAPL", TEN)).isBetween(0.25, 0.50);
+        }
+    }
+
+    @Test
+    void poisson_skipsPassesWithoutArrivalsAtExpectedRate() {
+        FillSizeModel model = model(Distribution.POISSON, 1L);
+        int draws = 20_000;
+        int empty = 0;
+        for (int i = 0; i < draws; i++) {
+            double fraction = model.nextFillFraction("AAPL", TEN);
+            assertThat(fraction).isBetween(0.0, 1.0);
+            if (fraction == 0.0) {
+                empty++;
+            }
+        }
+
+        // P(no arrival) = e^-1 for the default arrival rate of 1.
+        assertThat((double) empty / draws).isCloseTo(Math.exp(-1), within(0.02));
+    }
+
+    @Test
+    void sizeDependent_fillsLargeOrdersMoreSlowly() {
+        FillSizeModel model = model(Distribution.SIZE_DEPENDENT, 1L);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(model.nextFillFraction("AAPL", new BigDecimal("100"))).isBetween(0.25, 0.50);
+            // (100 / 10_000) ^ 0.5 = 0.1
+            assertThat(model.nextFillFraction("AAPL", new BigDecimal("10000"))).isBetween(0.0249, 0.0501);
+        }
+    }
+
+    private static FillSizeModel model(Distribution distribution, Long seed) {
+        SimulatedFillProperties properties = new SimulatedFillProperties();
+        properties.getFillModel().setDistribution(distribution);
+        properties.getFillModel().setSeed(seed);
+        return new FillSizeModel(properties);
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.yasmiins.orderexecutionservice.service.fill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Drains {@value #ORDERS} marketable orders with 1, 2, 4 and 8 claiming workers. Every drain must
+ * fill each order exactly once, which is asserted; throughput per worker count depends on the
+ * machine and the database's cores, so it is logged only.
+ */
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "simulator.scheduling.enabled=false",
+        "simulator.skip-locked.enabled=true",
+        "simulator.skip-locked.batch-size=100"
+    }
+)
+class SkipLockedScalingBenchmarkIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(SkipLockedScalingBenchmarkIntegrationTest.class);
+    private static final int ORDERS = 4_000;
+    private static final List<String> SYMBOLS = List.of("AAPL", "MSFT");
+    private static final List<Integer> WORKER_COUNTS = List.of(1, 2, 4, 8);
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private SkipLockedFillDrainer drainer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedOrders() {
+        jdbcTemplate.update("DELETE FROM executions");
+        jdbcTemplate.update("DELETE FROM orders");
+        Instant now = Instant.now();
+        jdbcTemplate.batchUpdate(
+            """
+                INSERT INTO orders (id, symbol, side, order_type, quantity, filled_quantity, price, status, created_at, updated_at)
+                VALUES (?, ?, 'BUY', 'LIMIT', 10, 0, 150, 'NEW', ?, ?)
+                """,
+            IntStream.range(0, ORDERS)
+                .mapToObj(i -> new Object[] {
+                    UUID.randomUUID(),
+                    SYMBOLS.get(i % SYMBOLS.size()),
+                    Timestamp.from(now.minusMillis(ORDERS - i)),
+                    Timestamp.from(now)
+                })
+                .toList()
+        );
+    }
+
+    @Test
+    void drain_fillsEachOrderOnceAtEveryWorkerCount() {
+        List<String> results = new ArrayList<>();
+        for (int workers : WORKER_COUNTS) {
+            resetOrders();
+
+            long startedAt = System.nanoTime();
+            int claimed = drainer.drain(workers);
+            double millis = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+            assertThat(claimed).as("claimed with %d workers", workers).isEqualTo(ORDERS);
+            List<Integer> fillsPerOrder = jdbcTemplate.queryForList(
+                "SELECT COUNT(e.id)::int FROM orders o LEFT JOIN executions e ON e.order_id = o.id GROUP BY o.id",
+                Integer.class
+            );
+            assertThat(fillsPerOrder).as("fills per order with %d workers", workers)
+                .hasSize(ORDERS)
+                .containsOnly(1);
+            results.add(String.format("%d:%.0f", workers, ORDERS * 1000.0 / millis));
+        }
+        log.info("event=skip_locked_scaling_benchmark orders={} ordersPerSecondByWorkers={}", ORDERS, results);
+    }
+
+    /**
+     * Reopens every order and backdates it, so it was last updated before the next drain starts.
+     */
+    private void resetOrders() {
+        jdbcTemplate.update("DELETE FROM executions");
+        jdbcTemplate.update(
+            "UPDATE orders SET status = 'NEW', filled_quantity = 0, updated_at = NOW() - INTERVAL '1 minute'"
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.yasmiins.orderexecutionservice.service.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.service.state.OpenOrderState;
+
+class MappedJournalWriterTest {
+
+    private static final long SEGMENT_SIZE = 4096;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_rollsSegmentsAndReplaysInOrder() throws IOException {
+        List<UUID> ids = new ArrayList<>();
+        try (MappedJournalWriter writer = new MappedJournalWriter(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 200; i++) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                writer.append(create(id, "AAPL"));
+            }
+            writer.append(new JournalEntry.Cancel(ids.get(0)));
+            writer.append(new JournalEntry.Fill(
+                ids.get(1),
+                new BigDecimal("10"),
+                new BigDecimal("100.25"),
+                new BigDecimal("10"),
+                OrderStatus.FILLED
+            ));
+            writer.append(new JournalEntry.Fill(
+                ids.get(2),
+                new BigDecimal("2.5"),
+                new BigDecimal("100.25"),
+                new BigDecimal("2.5"),
+                OrderStatus.PARTIALLY_FILLED
+            ));
+        }
+
+        assertThat(JournalSegments.list(directory)).hasSizeGreaterThan(1);
+
+        OpenOrderState state = JournalReplayer.replay(directory, new OpenOrderState());
+        assertThat(state.lastSequence()).isEqualTo(203);
+        assertThat(state.size()).isEqualTo(198);
+        assertThat(state.get(ids.get(0))).isNull();
+        assertThat(state.get(ids.get(1))).isNull();
+        assertThat(state.get(ids.get(2)).status()).isEqualTo(OrderStatus.PARTIALLY_FILLED);
+        assertThat(state.get(ids.get(2)).filledQuantity()).isEqualByComparingTo("2.5");
+        assertThat(state.get(ids.get(3)).price()).isEqualByComparingTo("100.50");
+        assertThat(state.get(ids.get(3)).createdAt()).isEqualTo(Instant.parse("2026-01-02T03:04:05.123456Z"));
+    }
+
+    @Test
+    void reopen_discardsTornTailAndContinuesSequence() throws IOException {
+        UUID first = UUID.randomUUID();
+        try (MappedJournalWriter writer = new MappedJournalWriter(directory, SEGMENT_SIZE)) {
+            writer.append(create(first, "AAPL"));
+            writer.append(create(UUID.randomUUID(), "MSFT"));
+        }
+        corruptLastFrame();
+
+        UUID third = UUID.randomUUID();
+        try (MappedJournalWriter writer = new MappedJournalWriter(directory, SEGMENT_SIZE)) {
+            assertThat(writer.nextSequence()).isEqualTo(2);
+            assertThat(writer.append(create(third, "GOOG"))).isEqualTo(2);
+        }
+
+        OpenOrderState state = JournalReplayer.replay(directory, new OpenOrderState());
+        assertThat(state.size()).isEqualTo(2);
+        assertThat(state.get(first)).isNotNull();
+        assertThat(state.get(third).symbol()).isEqualTo("GOOG");
+    }
+
+    @Test
+    void read_skipsEntriesUpToBaseSequence() throws IOException {
+        try (MappedJournalWriter writer = new MappedJournalWriter(directory, SEGMENT_SIZE)) {
+            for (int i = 0; i < 5; i++) {
+                writer.append(create(UUID.randomUUID(), "AAPL"));
+            }
+        }
+        List<Long> sequences = new ArrayList<>();
+
+        long last = JournalReader.read(directory, 3, (entry, sequence) -> sequences.add(sequence));
+
+        assertThat(sequences).containsExactly(4L, 5L);
+        assertThat(last).isEqualTo(5);
+    }
+
+    private JournalEntry.Create create(UUID id, String symbol) {
+        return new JournalEntry.Create(
+            id,
+            symbol,
+            OrderSide.BUY,
+            OrderType.LIMIT,
+            new BigDecimal("10"),
+            new BigDecimal("100.50"),
+            Instant.parse("2026-01-02T03:04:05.123456Z")
+        );
+    }
+
+    private void corruptLastFrame() throws IOException {
+        Path segment = JournalSegments.list(directory).get(0);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(JournalCodec.HEADER_BYTES);
+            channel.read(header, 0);
+            int secondFrame = JournalCodec.HEADER_BYTES + header.getInt(0);
+            // Flip a payload byte of the second frame so its CRC no longer matches.
+            channel.write(ByteBuffer.wrap(new byte[] {(byte) 0x7f}), secondFrame + JournalCodec.HEADER_BYTES + 12);
+        }
+    }
+}
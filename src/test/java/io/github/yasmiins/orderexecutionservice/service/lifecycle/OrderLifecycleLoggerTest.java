@@ -0,0 +1,139 @@
+package io.github.yasmiins.orderexecutionservice.service.lifecycle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import io.github.yasmiins.orderexecutionservice.config.LifecycleLogProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class OrderLifecycleLoggerTest {
+
+    private final Logger logbackLogger = (Logger) LoggerFactory.getLogger(OrderLifecycleLogger.class);
+    private final CapturingAppender appender = new CapturingAppender();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void detachAppender() {
+        appender.release.countDown();
+        logbackLogger.detachAppender(appender);
+    }
+
+    @Test
+    void records_areWrittenAsJsonByTheWriterThread() throws Exception {
+        OrderLifecycleLogger logger = logger(16, LifecycleLogProperties.OverflowPolicy.DROP);
+        appender.release.countDown();
+        UUID orderId = new UUID(1, 2);
+
+        logger.info("order_filled", orderId, "AAPL", OrderStatus.NEW, OrderStatus.FILLED,
+            new BigDecimal("10.000000"), new BigDecimal("10"), new BigDecimal("101.5"), null);
+        logger.warn("idempotency_conflict", null, null, null, null, null, null, null, "key \"1\"\n");
+        logger.stop();
+
+        assertThat(appender.events).hasSize(2);
+        assertThat(appender.events.get(0).getThreadName()).isEqualTo("order-lifecycle-log");
+        assertThat(appender.events.get(0).getFormattedMessage())
+            .startsWith("{\"ts\":\"")
+            .endsWith(",\"event\":\"order_filled\",\"orderId\":\"" + orderId + "\",\"symbol\":\"AAPL\","
+                + "\"fromStatus\":\"NEW\",\"toStatus\":\"FILLED\",\"filledQuantity\":10.000000,"
+                + "\"quantity\":10,\"price\":101.5}");
+        assertThat(appender.events.get(1).getLevel()).isEqualTo(ch.qos.logback.classic.Level.WARN);
+        assertThat(appender.events.get(1).getFormattedMessage())
+            .endsWith(",\"event\":\"idempotency_conflict\",\"idempotencyKey\":\"key \\\"1\\\"\\n\"}");
+    }
+
+    @Test
+    void fullBuffer_withDropPolicy_dropsAndCounts() throws Exception {
+        OrderLifecycleLogger logger = logger(4, LifecycleLogProperties.OverflowPolicy.DROP);
+
+        logger.info("order_accepted", UUID.randomUUID(), "AAPL", null, OrderStatus.NEW, null, null, null, null);
+        assertThat(appender.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        // The writer is stuck in the appender and still holds the first slot, so three more fit.
+        for (int i = 0; i < 10; i++) {
+            logger.info("order_accepted", UUID.randomUUID(), "AAPL", null, OrderStatus.NEW, null, null, null, null);
+        }
+        assertThat(meterRegistry.counter("orders.lifecycle_log.dropped").count()).isEqualTo(7.0);
+
+        appender.release.countDown();
+        logger.stop();
+        assertThat(appender.events).hasSize(4);
+    }
+
+    @Test
+    void fullBuffer_withBlockPolicy_waitsForSpace() throws Exception {
+        OrderLifecycleLogger logger = logger(2, LifecycleLogProperties.OverflowPolicy.BLOCK);
+        logger.info("order_accepted", UUID.randomUUID(), "AAPL", null, OrderStatus.NEW, null, null, null, null);
+        assertThat(appender.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread producer = Thread.ofPlatform().start(() -> {
+            for (int i = 0; i < 5; i++) {
+                logger.info("order_accepted", UUID.randomUUID(), "AAPL", null, OrderStatus.NEW, null, null, null, null);
+            }
+        });
+        producer.join(200);
+        assertThat(producer.isAlive()).isTrue();
+
+        appender.release.countDown();
+        producer.join(TimeUnit.SECONDS.toMillis(5));
+        logger.stop();
+        assertThat(appender.events).hasSize(6);
+        assertThat(meterRegistry.counter("orders.lifecycle_log.dropped").count()).isZero();
+    }
+
+    @Test
+    void encoder_writesIsoUtcTimestampWithMillis() {
+        for (String instant : List.of("2025-03-01T10:15:30.123Z", "1969-12-31T23:59:59.009Z", "2024-02-29T00:00:00.000Z")) {
+            LifecycleRecord record = new LifecycleRecord();
+            record.set(Instant.parse(instant).toEpochMilli(), false, "e", null, null, null, null, null, null, null, null);
+            StringBuilder out = new StringBuilder();
+
+            LifecycleJsonEncoder.encode(record, out);
+
+            assertThat(out).hasToString("{\"ts\":\"" + instant + "\",\"event\":\"e\"}");
+        }
+    }
+
+    private OrderLifecycleLogger logger(int capacity, LifecycleLogProperties.OverflowPolicy policy) {
+        appender.start();
+        logbackLogger.addAppender(appender);
+        LifecycleLogProperties properties = new LifecycleLogProperties();
+        properties.setCapacity(capacity);
+        properties.setOverflowPolicy(policy);
+        OrderLifecycleLogger logger = new OrderLifecycleLogger(properties, new OrderMetrics(meterRegistry));
+        logger.start();
+        return logger;
+    }
+
+    private static final class CapturingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            blocked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.service.event.PriceChanged;
+
+class LatestPriceCacheTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private LatestPriceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        SimulatedFillProperties properties = new SimulatedFillProperties();
+        properties.setDefaultPrice(new BigDecimal("100"));
+        properties.setPrices(Map.of("AAPL", new BigDecimal("150")));
+        cache = new LatestPriceCache(properties, events::add);
+    }
+
+    @Test
+    void update_publishesOnlyWhenThePriceMoves() {
+        cache.update("AAPL", new BigDecimal("151"));
+        cache.update("AAPL", new BigDecimal("151.00"));
+        cache.update("AAPL", new BigDecimal("150.5"));
+
+        assertThat(cache.latestPrice("AAPL")).isEqualByComparingTo("150.5");
+        assertThat(events).containsExactly(
+            new PriceChanged("AAPL", new BigDecimal("150"), new BigDecimal("151")),
+            new PriceChanged("AAPL", new BigDecimal("151"), new BigDecimal("150.5"))
+        );
+    }
+
+    @Test
+    void update_unknownSymbol_startsFromTheDefaultPrice() {
+        assertThat(cache.latestPrice("TSLA")).isEqualByComparingTo("100");
+
+        cache.update("TSLA", new BigDecimal("100"));
+        assertThat(events).isEmpty();
+
+        cache.update("TSLA", new BigDecimal("250"));
+        assertThat(cache.latestPrice("TSLA")).isEqualByComparingTo("250");
+        assertThat(events).containsExactly(
+            new PriceChanged("TSLA", new BigDecimal("100"), new BigDecimal("250"))
+        );
+        assertThat(cache.symbols()).containsExactlyInAnyOrder("AAPL", "TSLA");
+    }
+
+    @Test
+    void update_ignoresMissingAndNonPositivePrices() {
+        cache.update("AAPL", null);
+        cache.update("AAPL", BigDecimal.ZERO);
+        cache.update("AAPL", new BigDecimal("-1"));
+        cache.update(null, BigDecimal.ONE);
+
+        assertThat(cache.latestPrice("AAPL")).isEqualByComparingTo("150");
+        assertThat(events).isEmpty();
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.yasmiins.orderexecutionservice.service.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.service.event.PriceChanged;
+
+class TickFilePriceFeedTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<Object> events = new ArrayList<>();
+
+    @Test
+    void csv_skipsHeaderCommentsAndMalformedLines() throws Exception {
+        Path file = directory.resolve("ticks.csv");
+        Files.writeString(file, """
+            timestamp,symbol,price
+            # recorded session
+            1000,AAPL,101.5
+
+            1001,AAPL,not-a-price
+            1002,MSFT
+            oops,MSFT,250
+            1003,MSFT,201.25
+            1004,AAPL,102
+            """, StandardCharsets.UTF_8);
+
+        replay(file);
+
+        assertThat(events).containsExactly(
+            new PriceChanged("AAPL", new BigDecimal("100"), new BigDecimal("101.5")),
+            new PriceChanged("MSFT", new BigDecimal("100"), new BigDecimal("201.25")),
+            new PriceChanged("AAPL", new BigDecimal("101.5"), new BigDecimal("102"))
+        );
+    }
+
+    @Test
+    void binary_replaysRecordsAndStopsAtATruncatedTail() throws Exception {
+        Path file = directory.resolve("ticks.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+            writeTick(out, 1000, "AAPL", 10150, 2);
+            writeTick(out, 1001, "GOOG", 1505, 1);
+            out.writeLong(1002);
+            out.writeUTF("AAPL");
+        }
+
+        replay(file);
+
+        assertThat(events).containsExactly(
+            new PriceChanged("AAPL", new BigDecimal("100"), new BigDecimal("101.50")),
+            new PriceChanged("GOOG", new BigDecimal("100"), new BigDecimal("150.5"))
+        );
+    }
+
+    private void replay(Path file) throws InterruptedException {
+        SimulatedFillProperties properties = new SimulatedFillProperties();
+        properties.getPriceFeed().setFile(file);
+        properties.getPriceFeed().setLoop(false);
+        properties.getPriceFeed().setSpeed(1000);
+        TickFilePriceFeed feed = new TickFilePriceFeed(new LatestPriceCache(properties, events::add), properties);
+
+        feed.start();
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (feed.isRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(feed.isRunning()).isFalse();
+    }
+
+    private static void writeTick(DataOutputStream out, long timestamp, String symbol, long unscaled, int scale)
+        throws IOException {
+        out.writeLong(timestamp);
+        out.writeUTF(symbol);
+        out.writeLong(unscaled);
+        out.writeByte(scale);
+    }
+}
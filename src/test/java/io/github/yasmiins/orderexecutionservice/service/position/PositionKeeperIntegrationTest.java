@@ -0,0 +1,105 @@
+package io.github.yasmiins.orderexecutionservice.service.position;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "simulator.scheduling.enabled=false",
+        "order.positions.rebuild-fetch-size=2"
+    }
+)
+class PositionKeeperIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SimulatedFillEngine engine;
+
+    @Autowired
+    private PositionKeeper positionKeeper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanDatabase() {
+        jdbcTemplate.update("DELETE FROM executions");
+        jdbcTemplate.update("DELETE FROM orders");
+        positionKeeper.rebuild();
+    }
+
+    @Test
+    void fillsUpdatePositionAndRebuildReplaysTheSameState() {
+        for (int i = 0; i < 3; i++) {
+            orderService.createOrder("AAPL", OrderSide.BUY, new BigDecimal("10"), new BigDecimal("150"), OrderType.LIMIT);
+            orderService.createOrder("AAPL", OrderSide.SELL, new BigDecimal("4"), new BigDecimal("50"), OrderType.LIMIT);
+        }
+        for (int pass = 0; pass < 3; pass++) {
+            engine.processOpenOrders();
+        }
+
+        BigDecimal expectedQuantity = jdbcTemplate.queryForObject(
+            """
+                SELECT COALESCE(SUM(CASE WHEN o.side = 'BUY' THEN e.quantity ELSE -e.quantity END), 0)
+                FROM executions e JOIN orders o ON o.id = e.order_id
+                WHERE e.symbol = 'AAPL'
+                """,
+            BigDecimal.class
+        );
+        Long executions = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM executions WHERE symbol = 'AAPL'",
+            Long.class
+        );
+
+        PositionSnapshot live = restTemplate.getForObject(
+            "http://localhost:" + port + "/positions/aapl",
+            PositionSnapshot.class
+        );
+        assertThat(live).isNotNull();
+        assertThat(live.symbol()).isEqualTo("AAPL");
+        assertThat(live.quantity()).isEqualByComparingTo(expectedQuantity).isPositive();
+        assertThat(live.tradeCount()).isEqualTo(executions);
+        // Every fill is at the simulator's default price, so the position marks to zero P&L.
+        assertThat(live.totalPnl()).isEqualByComparingTo("0");
+
+        positionKeeper.rebuild();
+
+        PositionSnapshot rebuilt = positionKeeper.position("AAPL");
+        assertThat(rebuilt.quantity()).isEqualByComparingTo(live.quantity());
+        assertThat(rebuilt.averagePrice()).isEqualByComparingTo(live.averagePrice());
+        assertThat(rebuilt.realizedPnl()).isEqualByComparingTo(live.realizedPnl());
+        assertThat(rebuilt.tradeCount()).isEqualTo(live.tradeCount());
+    }
+}
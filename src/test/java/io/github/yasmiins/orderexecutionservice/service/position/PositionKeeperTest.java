@@ -0,0 +1,123 @@
+package io.github.yasmiins.orderexecutionservice.service.position;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionHistoryRepository;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionHistoryRepository.ExecutedFill;
+import io.github.yasmiins.orderexecutionservice.service.event.ExecutionCreated;
+import io.github.yasmiins.orderexecutionservice.service.marketdata.PriceSource;
+
+@ExtendWith(MockitoExtension.class)
+class PositionKeeperTest {
+
+    @Mock
+    private ExecutionHistoryRepository executionHistoryRepository;
+
+    @Mock
+    private PriceSource priceSource;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PositionKeeper keeper;
+
+    @BeforeEach
+    void setUp() {
+        keeper = new PositionKeeper(executionHistoryRepository, priceSource, transactionManager);
+    }
+
+    @Test
+    void reducingFillsRealizeAgainstAverageCost() {
+        when(priceSource.latestPrice("AAPL")).thenReturn(new BigDecimal("115"));
+        fill(OrderSide.BUY, "10", "100");
+        fill(OrderSide.BUY, "10", "110");
+        fill(OrderSide.SELL, "5", "120");
+
+        PositionSnapshot position = keeper.position("AAPL");
+
+        assertThat(position.quantity()).isEqualByComparingTo("15");
+        assertThat(position.averagePrice()).isEqualByComparingTo("105");
+        // 5 sold at 120 against an average cost of 105.
+        assertThat(position.realizedPnl()).isEqualByComparingTo("75");
+        // 15 held at 105, marked at 115.
+        assertThat(position.unrealizedPnl()).isEqualByComparingTo("150");
+        assertThat(position.totalPnl()).isEqualByComparingTo("225");
+        assertThat(position.boughtQuantity()).isEqualByComparingTo("20");
+        assertThat(position.soldQuantity()).isEqualByComparingTo("5");
+        assertThat(position.tradeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void fillCrossingZeroOpensRemainderAtFillPrice() {
+        when(priceSource.latestPrice("AAPL")).thenReturn(new BigDecimal("95"));
+        fill(OrderSide.BUY, "4", "100");
+        fill(OrderSide.SELL, "10", "90");
+
+        PositionSnapshot position = keeper.position("AAPL");
+
+        assertThat(position.quantity()).isEqualByComparingTo("-6");
+        assertThat(position.averagePrice()).isEqualByComparingTo("90");
+        assertThat(position.realizedPnl()).isEqualByComparingTo("-40");
+        // Short 6 from 90, marked at 95.
+        assertThat(position.unrealizedPnl()).isEqualByComparingTo("-30");
+    }
+
+    @Test
+    void flatAfterRoundTripKeepsOnlyRealized() {
+        when(priceSource.latestPrice("MSFT")).thenReturn(new BigDecimal("1"));
+        fill("MSFT", OrderSide.SELL, "3", "50.5");
+        fill("MSFT", OrderSide.BUY, "3", "50");
+
+        PositionSnapshot position = keeper.position("MSFT");
+
+        assertThat(position.quantity()).isZero();
+        assertThat(position.averagePrice()).isNull();
+        assertThat(position.realizedPnl()).isEqualByComparingTo("1.5");
+        assertThat(position.unrealizedPnl()).isZero();
+    }
+
+    @Test
+    void rebuild_replacesPositionsWithReplayedHistory() {
+        fill(OrderSide.BUY, "1", "100");
+        when(executionHistoryRepository.forEachFill(any())).thenAnswer(invocation -> {
+            Consumer<ExecutedFill> consumer = invocation.getArgument(0);
+            consumer.accept(new ExecutedFill("MSFT", OrderSide.BUY, new BigDecimal("2"), new BigDecimal("10")));
+            return 1L;
+        });
+
+        keeper.rebuild();
+
+        assertThat(keeper.positions()).extracting(PositionSnapshot::symbol).containsExactly("MSFT");
+        assertThat(keeper.position("MSFT").quantity()).isEqualByComparingTo("2");
+    }
+
+    private void fill(OrderSide side, String quantity, String price) {
+        fill("AAPL", side, quantity, price);
+    }
+
+    private void fill(String symbol, OrderSide side, String quantity, String price) {
+        keeper.onExecutionCreated(new ExecutionCreated(
+            UUID.randomUUID(),
+            symbol,
+            side,
+            new BigDecimal(quantity),
+            new BigDecimal(price),
+            Instant.now()
+        ));
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.yasmiins.orderexecutionservice.service.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+
+class FillTickProfilerTest {
+
+    @Test
+    void disabled_recordsNothing() {
+        FillTickProfiler profiler = new FillTickProfiler(new SimulatedFillProperties());
+
+        assertThat(profiler.beginPass("tick")).isFalse();
+        profiler.enter("find_open_orders");
+        profiler.exit("find_open_orders");
+        profiler.endPass();
+
+        assertThat(profiler.recentProfiles()).isEmpty();
+    }
+
+    @Test
+    void pass_recordsSelfTimePerStackThatAddsUpToDuration() {
+        FillTickProfiler profiler = enabledProfiler(10);
+
+        assertThat(profiler.beginPass("tick")).isTrue();
+        assertThat(profiler.beginPass("symbol")).as("nested pass joins the outer one").isFalse();
+        profiler.enter("find_open_orders");
+        FillTickProfiler.enterCurrent("jdbc_execute");
+        FillTickProfiler.exitCurrent("jdbc_execute");
+        profiler.exit("find_open_orders");
+        for (int i = 0; i < 3; i++) {
+            profiler.enter("AAPL");
+            profiler.enter("process_order");
+            profiler.enter("reread");
+            profiler.exit("reread");
+            profiler.exit("process_order");
+            profiler.exit("AAPL");
+        }
+        profiler.endPass();
+
+        FillTickProfile profile = profiler.recentProfiles().getFirst();
+        assertThat(profile.kind()).isEqualTo("tick");
+        assertThat(profile.frames())
+            .extracting(FillTickProfile.FrameTime::stack, FillTickProfile.FrameTime::calls)
+            .containsExactlyInAnyOrder(
+                tuple("tick", 1L),
+                tuple("tick;find_open_orders", 1L),
+                tuple("tick;find_open_orders;jdbc_execute", 1L),
+                tuple("tick;AAPL", 3L),
+                tuple("tick;AAPL;process_order", 3L),
+                tuple("tick;AAPL;process_order;reread", 3L)
+            );
+        assertThat(profile.frames().stream().mapToLong(FillTickProfile.FrameTime::selfNanos).sum())
+            .isEqualTo(profile.durationNanos());
+    }
+
+    @Test
+    void unmatchedExitIsIgnoredAndOpenFramesCloseWithTheirParent() {
+        FillTickProfiler profiler = enabledProfiler(10);
+
+        profiler.beginPass("tick");
+        FillTickProfiler.exitCurrent("flush");
+        profiler.enter("process_order");
+        // A JDBC callback whose end never came must not swallow the caller's own frame.
+        FillTickProfiler.enterCurrent("jdbc_execute");
+        profiler.exit("process_order");
+        profiler.enter("resting_limits");
+        profiler.endPass();
+
+        assertThat(profiler.recentProfiles().getFirst().frames())
+            .extracting(FillTickProfile.FrameTime::stack)
+            .containsExactlyInAnyOrder(
+                "tick",
+                "tick;process_order",
+                "tick;process_order;jdbc_execute",
+                "tick;resting_limits"
+            );
+    }
+
+    @Test
+    void recentProfiles_keepsOnlyTheConfiguredHistory() {
+        FillTickProfiler profiler = enabledProfiler(2);
+
+        for (String kind : new String[] {"tick", "symbol", "orders"}) {
+            profiler.beginPass(kind);
+            profiler.endPass();
+        }
+
+        assertThat(profiler.recentProfiles()).extracting(FillTickProfile::kind).containsExactly("symbol", "orders");
+    }
+
+    private static FillTickProfiler enabledProfiler(int history) {
+        SimulatedFillProperties properties = new SimulatedFillProperties();
+        properties.getProfiling().setEnabled(true);
+        properties.getProfiling().setHistory(history);
+        return new FillTickProfiler(properties);
+    }
+}
@@ -0,0 +1,65 @@
+package io.github.yasmiins.orderexecutionservice.service.profiling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "simulator.scheduling.enabled=false",
+        "simulator.profiling.enabled=true"
+    }
+)
+class FillTickProfilingIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SimulatedFillEngine engine;
+
+    @Autowired
+    private FillTickEndpoint endpoint;
+
+    @Test
+    void tick_breaksDownIntoQueryAndBatchedFillWrite() {
+        orderService.createOrder("AAPL", OrderSide.BUY, new BigDecimal("10"), new BigDecimal("150"), OrderType.LIMIT);
+
+        engine.processOpenOrders();
+
+        FillTickEndpoint.FillTickReport report = endpoint.fillTicks();
+        assertThat(report.enabled()).isTrue();
+        FillTickEndpoint.Pass tick = report.passes().stream()
+            .filter(pass -> pass.kind().equals("tick"))
+            .reduce((first, second) -> second)
+            .orElseThrow();
+        assertThat(tick.folded()).extracting(line -> line.substring(0, line.lastIndexOf(' '))).contains(
+            "tick;find_open_orders;jdbc_execute",
+            "tick;group_by_symbol",
+            "tick;AAPL;lock_wait",
+            "tick;AAPL;apply_fills",
+            "tick;AAPL;apply_fills;write_fills"
+        );
+        assertThat(tick.phasesMs()).containsKeys("find_open_orders", "jdbc_execute", "write_fills");
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.yasmiins.orderexecutionservice.service.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.github.yasmiins.orderexecutionservice.config.OrderJournalProperties;
+import io.github.yasmiins.orderexecutionservice.config.PreTradeRiskProperties;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.OpenExposure;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.OrderRiskException;
+import io.github.yasmiins.orderexecutionservice.service.journal.JournalEntry;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+
+@ExtendWith(MockitoExtension.class)
+class PreTradeRiskEngineTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    private final OrderJournal orderJournal = new OrderJournal(new OrderJournalProperties());
+
+    @Test
+    void reserve_rejectsOrderOverAccountNotional() {
+        PreTradeRiskProperties properties = new PreTradeRiskProperties();
+        properties.setMaxAccountNotional(new BigDecimal("1500"));
+        PreTradeRiskEngine engine = startedEngine(properties, List.of());
+
+        engine.reserve(UUID.randomUUID(), "acct", "AAPL", OrderType.LIMIT, new BigDecimal("10"), new BigDecimal("100"));
+
+        assertThatThrownBy(() -> engine.reserve(
+            UUID.randomUUID(), "acct", "AAPL", OrderType.LIMIT, new BigDecimal("6"), new BigDecimal("100")
+        )).isInstanceOf(OrderRiskException.class);
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("1000");
+        assertThat(engine.openQuantity("acct", "AAPL")).isEqualByComparingTo("10");
+
+        engine.reserve(UUID.randomUUID(), "other", "AAPL", OrderType.LIMIT, new BigDecimal("6"), new BigDecimal("100"));
+        assertThat(engine.symbolNotional("AAPL")).isEqualByComparingTo("1600");
+    }
+
+    @Test
+    void reserve_rejectsOpenQuantityAndSymbolNotionalLimits() {
+        PreTradeRiskProperties properties = new PreTradeRiskProperties();
+        properties.setMaxOpenQuantity(new BigDecimal("10"));
+        properties.setMaxSymbolNotional(new BigDecimal("1500"));
+        PreTradeRiskEngine engine = startedEngine(properties, List.of());
+        engine.reserve(UUID.randomUUID(), "acct", "AAPL", OrderType.MARKET, new BigDecimal("8"), null);
+
+        assertThatThrownBy(() -> engine.reserve(
+            UUID.randomUUID(), "acct", "AAPL", OrderType.MARKET, new BigDecimal("3"), null
+        )).isInstanceOf(OrderRiskException.class).hasMessageContaining("Open quantity");
+        assertThatThrownBy(() -> engine.reserve(
+            UUID.randomUUID(), "other", "AAPL", OrderType.MARKET, new BigDecimal("8"), null
+        )).isInstanceOf(OrderRiskException.class).hasMessageContaining("symbol limit");
+        assertThat(engine.accountNotional("other")).isEqualByComparingTo("0");
+        assertThat(engine.openQuantity("other", "AAPL")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void reserve_rejectsLimitPriceOutsideBand() {
+        PreTradeRiskProperties properties = new PreTradeRiskProperties();
+        properties.setPriceBandPercent(new BigDecimal("10"));
+        PreTradeRiskEngine engine = startedEngine(properties, List.of());
+
+        engine.reserve(UUID.randomUUID(), "acct", "AAPL", OrderType.LIMIT, BigDecimal.ONE, new BigDecimal("110"));
+        assertThatThrownBy(() -> engine.reserve(
+            UUID.randomUUID(), "acct", "AAPL", OrderType.LIMIT, BigDecimal.ONE, new BigDecimal("89.99")
+        )).isInstanceOf(OrderRiskException.class).hasMessageContaining("10% band");
+    }
+
+    @Test
+    void committedFillsAndCancels_releaseExposure() {
+        PreTradeRiskEngine engine = startedEngine(withAccountLimit(), List.of());
+        UUID partiallyFilled = UUID.randomUUID();
+        UUID canceled = UUID.randomUUID();
+        engine.reserve(partiallyFilled, "acct", "AAPL", OrderType.LIMIT, new BigDecimal("10"), new BigDecimal("100"));
+        engine.reserve(canceled, "acct", "AAPL", OrderType.LIMIT, new BigDecimal("5"), new BigDecimal("100"));
+
+        orderJournal.appendAfterCommit(fill(partiallyFilled, "4", OrderStatus.PARTIALLY_FILLED));
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("1100");
+
+        // A stale fill arriving late must not put exposure back.
+        orderJournal.appendAfterCommit(fill(partiallyFilled, "2", OrderStatus.PARTIALLY_FILLED));
+        orderJournal.appendAfterCommit(new JournalEntry.Cancel(canceled));
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("600");
+
+        orderJournal.appendAfterCommit(fill(partiallyFilled, "10", OrderStatus.FILLED));
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("0");
+        assertThat(engine.symbolNotional("AAPL")).isEqualByComparingTo("0");
+        assertThat(engine.openQuantity("acct", "AAPL")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void afterSingletonsInstantiated_rebuildsExposureFromOpenOrders() {
+        UUID orderId = UUID.randomUUID();
+        PreTradeRiskEngine engine = startedEngine(withAccountLimit(), List.of(
+            new OpenExposure(orderId, "acct", "AAPL", OrderType.LIMIT, new BigDecimal("10"), new BigDecimal("4"), new BigDecimal("50")),
+            new OpenExposure(UUID.randomUUID(), "acct", "MSFT", OrderType.MARKET, new BigDecimal("2"), BigDecimal.ZERO, null)
+        ));
+
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("500");
+        assertThat(engine.openQuantity("acct", "AAPL")).isEqualByComparingTo("6");
+
+        orderJournal.appendAfterCommit(fill(orderId, "7", OrderStatus.PARTIALLY_FILLED));
+        assertThat(engine.openQuantity("acct", "AAPL")).isEqualByComparingTo("3");
+    }
+
+    @Test
+    void rebuild_reconcilesWithOrdersChangedElsewhere() {
+        UUID filledElsewhere = UUID.randomUUID();
+        UUID canceledElsewhere = UUID.randomUUID();
+        PreTradeRiskEngine engine = startedEngine(withAccountLimit(), List.of(
+            new OpenExposure(filledElsewhere, "acct", "AAPL", OrderType.LIMIT, new BigDecimal("10"), BigDecimal.ZERO, new BigDecimal("50")),
+            new OpenExposure(canceledElsewhere, "acct", "AAPL", OrderType.LIMIT, new BigDecimal("5"), BigDecimal.ZERO, new BigDecimal("50"))
+        ));
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("750");
+
+        UUID inFlight = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            engine.reserve(inFlight, "acct", "AAPL", OrderType.LIMIT, BigDecimal.ONE, new BigDecimal("100"));
+            when(orderRepository.findOpenExposures(anyList())).thenReturn(List.of(
+                new OpenExposure(filledElsewhere, "acct", "AAPL", OrderType.LIMIT, new BigDecimal("10"), new BigDecimal("6"), new BigDecimal("50")),
+                new OpenExposure(UUID.randomUUID(), "other", "AAPL", OrderType.LIMIT, new BigDecimal("2"), BigDecimal.ZERO, new BigDecimal("50"))
+            ));
+
+            engine.rebuild();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // 4 left at 50, plus the uncommitted reservation the read could not see yet.
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("300");
+        assertThat(engine.accountNotional("other")).isEqualByComparingTo("100");
+        assertThat(engine.symbolNotional("AAPL")).isEqualByComparingTo("400");
+        assertThat(engine.openQuantity("acct", "AAPL")).isEqualByComparingTo("5");
+    }
+
+    @Test
+    void rebuild_doesNotReReserveOrderReleasedDuringRead() {
+        UUID orderId = UUID.randomUUID();
+        OpenExposure exposure =
+            new OpenExposure(orderId, "acct", "AAPL", OrderType.LIMIT, new BigDecimal("10"), BigDecimal.ZERO, new BigDecimal("50"));
+        PreTradeRiskEngine engine = startedEngine(withAccountLimit(), List.of(exposure));
+        when(orderRepository.findOpenExposures(anyList())).thenAnswer(invocation -> {
+            orderJournal.appendAfterCommit(new JournalEntry.Cancel(orderId));
+            return List.of(exposure);
+        });
+
+        engine.rebuild();
+
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("0");
+        assertThat(engine.openQuantity("acct", "AAPL")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void rebuild_skipsMarketOrderWithoutPrice() {
+        when(orderRepository.findOpenExposures(anyList())).thenReturn(List.of(
+            new OpenExposure(UUID.randomUUID(), "acct", "MSFT", OrderType.MARKET, new BigDecimal("2"), BigDecimal.ZERO, null),
+            new OpenExposure(UUID.randomUUID(), "acct", "AAPL", OrderType.LIMIT, new BigDecimal("1"), BigDecimal.ZERO, new BigDecimal("50"))
+        ));
+        PreTradeRiskEngine engine = new PreTradeRiskEngine(
+            orderRepository,
+            orderJournal,
+            symbol -> null,
+            withAccountLimit()
+        );
+
+        engine.afterSingletonsInstantiated();
+
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("50");
+        assertThat(engine.openQuantity("acct", "MSFT")).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void withoutLimits_neitherReservesNorReadsOpenOrders() {
+        PreTradeRiskEngine engine = new PreTradeRiskEngine(
+            orderRepository,
+            orderJournal,
+            symbol -> new BigDecimal("100"),
+            new PreTradeRiskProperties()
+        );
+        engine.afterSingletonsInstantiated();
+
+        engine.reserve(UUID.randomUUID(), "acct", "AAPL", OrderType.LIMIT, new BigDecimal("10"), new BigDecimal("100"));
+        engine.rebuild();
+
+        assertThat(engine.accountNotional("acct")).isEqualByComparingTo("0");
+        verifyNoInteractions(orderRepository);
+    }
+
+    private static PreTradeRiskProperties withAccountLimit() {
+        PreTradeRiskProperties properties = new PreTradeRiskProperties();
+        properties.setMaxAccountNotional(new BigDecimal("1000000"));
+        return properties;
+    }
+
+    private PreTradeRiskEngine startedEngine(PreTradeRiskProperties properties, List<OpenExposure> open) {
+        when(orderRepository.findOpenExposures(anyList())).thenReturn(open);
+        PreTradeRiskEngine engine = new PreTradeRiskEngine(
+            orderRepository,
+            orderJournal,
+            symbol -> new BigDecimal("100"),
+            properties
+        );
+        engine.afterSingletonsInstantiated();
+        return engine;
+    }
+
+    private static JournalEntry.Fill fill(UUID orderId, String filledQuantity, OrderStatus status) {
+        return new JournalEntry.Fill(orderId, BigDecimal.ONE, new BigDecimal("100"), new BigDecimal(filledQuantity), status);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.yasmiins.orderexecutionservice.service.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.OrderRiskException;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillProcessor;
+
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "simulator.enabled=false",
+        "order.risk.max-account-notional=10000",
+        "order.risk.price-band-percent=10"
+    }
+)
+class PreTradeRiskIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SimulatedFillProcessor fillProcessor;
+
+    @Autowired
+    private PreTradeRiskEngine riskEngine;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @BeforeEach
+    void cleanDatabase() {
+        // Cancel through the service so exposure left by the previous test is released too.
+        orderRepository.findAll().stream()
+            .filter(order -> order.getStatus() == OrderStatus.NEW || order.getStatus() == OrderStatus.PARTIALLY_FILLED)
+            .forEach(order -> orderService.cancelOrder(order.getId()));
+        executionRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void createOrder_overAccountNotional_isRejectedUntilExposureIsCanceled() {
+        Order first = createLimit("acct-1", "60", "100");
+
+        assertThatThrownBy(() -> createLimit("acct-1", "50", "100"))
+            .isInstanceOf(OrderRiskException.class);
+        assertThat(orderRepository.count()).isEqualTo(1);
+        assertThat(orderRepository.findById(first.getId()).orElseThrow().getAccount()).isEqualTo("acct-1");
+
+        createLimit("acct-2", "50", "100");
+
+        orderService.cancelOrder(first.getId());
+        createLimit("acct-1", "50", "100");
+        assertThat(riskEngine.accountNotional("acct-1")).isEqualByComparingTo("5000");
+    }
+
+    @Test
+    void fills_releaseExposure() {
+        Order order = createLimit("acct-3", "100", "100");
+
+        while (orderRepository.findById(order.getId()).orElseThrow().getFilledQuantity().signum() == 0) {
+            fillProcessor.processOrder(order.getId(), new BigDecimal("100"));
+        }
+
+        BigDecimal filled = orderRepository.findById(order.getId()).orElseThrow().getFilledQuantity();
+        assertThat(riskEngine.accountNotional("acct-3"))
+            .isEqualByComparingTo(new BigDecimal("100").subtract(filled).multiply(new BigDecimal("100")));
+    }
+
+    @Test
+    void createOrder_limitPriceOutsideBand_isRejected() {
+        assertThatThrownBy(() -> createLimit("acct-4", "1", "150"))
+            .isInstanceOf(OrderRiskException.class)
+            .hasMessageContaining("band");
+        assertThat(riskEngine.accountNotional("acct-4")).isEqualByComparingTo("0");
+    }
+
+    private Order createLimit(String account, String quantity, String price) {
+        return orderService.createOrder(
+            account,
+            "AAPL",
+            OrderSide.BUY,
+            new BigDecimal(quantity),
+            new BigDecimal(price),
+            OrderType.LIMIT
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.yasmiins.orderexecutionservice.service.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class SymbolShardCoordinatorTest {
+
+    private static final List<String> SYMBOLS = IntStream.range(0, 40).mapToObj(i -> "SYM" + i).toList();
+
+    @Test
+    void assign_balancesSymbolsAcrossNodes() {
+        Map<String, String> owners = SymbolShardCoordinator.assign(SYMBOLS, List.of("a", "b", "c"));
+
+        assertThat(owners).hasSize(SYMBOLS.size());
+        Map<String, Long> perNode = owners.values().stream()
+            .collect(Collectors.groupingBy(node -> node, Collectors.counting()));
+        assertThat(perNode).containsOnlyKeys("a", "b", "c");
+        assertThat(perNode.values()).allSatisfy(count -> assertThat(count).isBetween(13L, 14L));
+    }
+
+    @Test
+    void assign_dependsOnlyOnMembershipNotOrder() {
+        List<String> shuffledNodes = new ArrayList<>(List.of("a", "b", "c"));
+        Collections.reverse(shuffledNodes);
+        List<String> shuffledSymbols = new ArrayList<>(SYMBOLS);
+        Collections.shuffle(shuffledSymbols);
+
+        assertThat(SymbolShardCoordinator.assign(shuffledSymbols, shuffledNodes))
+            .isEqualTo(SymbolShardCoordinator.assign(SYMBOLS, List.of("a", "b", "c")));
+    }
+
+    @Test
+    void assign_joiningNodeMovesAboutItsShare() {
+        Map<String, String> before = SymbolShardCoordinator.assign(SYMBOLS, List.of("a", "b", "c"));
+        Map<String, String> after = SymbolShardCoordinator.assign(SYMBOLS, List.of("a", "b", "c", "d"));
+
+        long moved = SYMBOLS.stream().filter(symbol -> !before.get(symbol).equals(after.get(symbol))).count();
+        long toNewNode = after.values().stream().filter("d"::equals).count();
+
+        assertThat(toNewNode).isEqualTo(10);
+        // Capacity limits can bump a few symbols between old nodes, but most stay where they were.
+        assertThat(moved).isLessThan(SYMBOLS.size() / 2);
+    }
+}
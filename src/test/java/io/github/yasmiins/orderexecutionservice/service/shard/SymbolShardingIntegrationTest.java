@@ -0,0 +1,126 @@
+package io.github.yasmiins.orderexecutionservice.service.shard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.OrderExecutionServiceApplication;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+
+/**
+ * Runs several application contexts against one database, each acting as a fill-engine node.
+ */
+@Testcontainers
+class SymbolShardingIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final List<String> SYMBOLS = List.of("AAPL", "MSFT", "GOOG", "TSLA", "AMZN", "NVDA");
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void stopNodes() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void nodesSplitSymbolsWithoutDuplicateFillsAndRebalanceOnLeaveAndJoin() {
+        ConfigurableApplicationContext nodeA = startNode("node-a");
+        JdbcTemplate jdbcTemplate = nodeA.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM executions");
+        jdbcTemplate.update("DELETE FROM orders");
+        jdbcTemplate.update("DELETE FROM symbol_leases");
+        ConfigurableApplicationContext nodeB = startNode("node-b");
+        converge(nodeA, nodeB);
+
+        assertPartition(nodeA, nodeB);
+
+        OrderService orderService = nodeA.getBean(OrderService.class);
+        for (String symbol : SYMBOLS) {
+            for (int i = 0; i < 2; i++) {
+                orderService.createOrder(symbol, OrderSide.BUY, new BigDecimal("10"), new BigDecimal("150"), OrderType.LIMIT);
+            }
+        }
+        nodeA.getBean(SimulatedFillEngine.class).processOpenOrders();
+        nodeB.getBean(SimulatedFillEngine.class).processOpenOrders();
+
+        // One pass per node; a symbol processed by both nodes would have two fills per order.
+        List<Integer> fillsPerOrder = jdbcTemplate.queryForList(
+            "SELECT COUNT(e.id)::int FROM orders o LEFT JOIN executions e ON e.order_id = o.id GROUP BY o.id",
+            Integer.class
+        );
+        assertThat(fillsPerOrder).hasSize(SYMBOLS.size() * 2).containsOnly(1);
+
+        nodes.remove(nodeB);
+        nodeB.close();
+        converge(nodeA);
+        assertThat(coordinator(nodeA).ownedSymbols()).containsExactlyInAnyOrderElementsOf(SYMBOLS);
+
+        ConfigurableApplicationContext nodeC = startNode("node-c");
+        converge(nodeA, nodeC);
+        assertPartition(nodeA, nodeC);
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeId) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(OrderExecutionServiceApplication.class)
+            .run(
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                "--spring.datasource.username=" + POSTGRES.getUsername(),
+                "--spring.datasource.password=" + POSTGRES.getPassword(),
+                "--order.validation.supported-symbols=" + String.join(",", SYMBOLS),
+                "--logging.level.io.github.yasmiins.orderexecutionservice=INFO",
+                "--simulator.scheduling.enabled=false",
+                "--simulator.sharding.enabled=true",
+                "--simulator.sharding.node-id=" + nodeId,
+                "--simulator.sharding.heartbeat-ms=3600000",
+                "--simulator.sharding.lease-ms=60000"
+            );
+        nodes.add(context);
+        return context;
+    }
+
+    /**
+     * A moved symbol needs one heartbeat on the old owner to release it and one on the new owner
+     * to claim it; three rounds settle any order of joins.
+     */
+    private static void converge(ConfigurableApplicationContext... contexts) {
+        for (int round = 0; round < 3; round++) {
+            for (ConfigurableApplicationContext context : contexts) {
+                coordinator(context).rebalance();
+            }
+        }
+    }
+
+    private static void assertPartition(ConfigurableApplicationContext first, ConfigurableApplicationContext second) {
+        Set<String> firstOwned = coordinator(first).ownedSymbols();
+        Set<String> secondOwned = coordinator(second).ownedSymbols();
+        assertThat(firstOwned).hasSize(SYMBOLS.size() / 2).doesNotContainAnyElementsOf(secondOwned);
+        Set<String> all = new HashSet<>(firstOwned);
+        all.addAll(secondOwned);
+        assertThat(all).containsExactlyInAnyOrderElementsOf(SYMBOLS);
+    }
+
+    private static SymbolShardCoordinator coordinator(ConfigurableApplicationContext context) {
+        return context.getBean(SymbolShardCoordinator.class);
+    }
+}
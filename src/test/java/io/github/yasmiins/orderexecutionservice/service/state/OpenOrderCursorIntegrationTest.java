@@ -0,0 +1,132 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.OrderMetrics;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.SimulatedFillEngine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "simulator.enabled=true",
+        "simulator.scheduling.enabled=false",
+        "simulator.open-order-cursor.enabled=true",
+        "simulator.open-order-cursor.overlap-ms=0"
+    }
+)
+class OpenOrderCursorIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private SimulatedFillProperties properties;
+
+    @Autowired
+    private SimulatedFillEngine fillEngine;
+
+    @Autowired
+    private OpenOrderCursor openOrderCursor;
+
+    @BeforeEach
+    void cleanDatabase() {
+        executionRepository.deleteAll();
+        orderRepository.deleteAll();
+    }
+
+    @Test
+    void refresh_readsOnlyOrdersChangedSinceLastRead() throws Exception {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        OpenOrderCursor cursor = new OpenOrderCursor(orderRepository, new OrderMetrics(registry), properties);
+        List<UUID> resting = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            resting.add(createLimitOrder(OrderSide.BUY, "50").getId());
+        }
+
+        cursor.refresh();
+        assertThat(rowsRead(registry, "full")).isEqualTo(20);
+        assertThat(cursor.size()).isEqualTo(20);
+        Thread.sleep(5);
+
+        UUID canceled = resting.removeFirst();
+        orderService.cancelOrder(canceled);
+        resting.add(createLimitOrder(OrderSide.BUY, "50").getId());
+        cursor.refresh();
+
+        assertThat(rowsRead(registry, "incremental")).isEqualTo(2);
+        assertThat(cursor.ordersFor("AAPL")).extracting(OpenOrder::id)
+            .containsExactlyInAnyOrderElementsOf(resting)
+            .doesNotContain(canceled);
+    }
+
+    @Test
+    void fillPasses_fillFromCacheAndEvictClosedOrders() {
+        Order marketable = createLimitOrder(OrderSide.BUY, "150");
+
+        fillEngine.processOpenOrders();
+        fillEngine.processOpenOrders();
+        BigDecimal filled = orderRepository.findById(marketable.getId()).orElseThrow().getFilledQuantity();
+        assertThat(filled).isGreaterThan(BigDecimal.ZERO);
+        assertThat(openOrderCursor.ordersFor("AAPL")).extracting(OpenOrder::id).contains(marketable.getId());
+
+        orderService.cancelOrder(marketable.getId());
+        fillEngine.processOpenOrders();
+
+        assertThat(orderStatus(marketable)).isEqualTo(OrderStatus.CANCELED);
+        assertThat(openOrderCursor.ordersFor("AAPL")).extracting(OpenOrder::id).doesNotContain(marketable.getId());
+    }
+
+    private Order createLimitOrder(OrderSide side, String price) {
+        return orderService.createOrder(
+            "AAPL",
+            side,
+            new BigDecimal("10"),
+            new BigDecimal(price),
+            OrderType.LIMIT
+        );
+    }
+
+    private OrderStatus orderStatus(Order order) {
+        return orderRepository.findById(order.getId()).orElseThrow().getStatus();
+    }
+
+    private static double rowsRead(MeterRegistry registry, String read) {
+        return registry.get("orders.open_order_cursor.rows").tag("read", read).counter().count();
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+class OpenOrderSnapshotsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void writeThenRead_restoresOrdersPerSymbol() throws IOException {
+        OpenOrderState state = new OpenOrderState();
+        OpenOrder limit = order("AAPL", OrderType.LIMIT, new BigDecimal("101.25"), OrderStatus.PARTIALLY_FILLED);
+        OpenOrder market = order("MSFT", OrderType.MARKET, null, OrderStatus.NEW);
+        state.put(limit);
+        state.put(market);
+        state.setLastSequence(42);
+        Instant takenAt = Instant.parse("2026-03-01T10:15:30.000001Z");
+        Path file = directory.resolve("open-orders.snap");
+
+        OpenOrderSnapshots.write(file, state, takenAt);
+        OpenOrderSnapshots.Snapshot snapshot = OpenOrderSnapshots.read(file);
+
+        assertThat(snapshot).isNotNull();
+        assertThat(snapshot.takenAt()).isEqualTo(takenAt);
+        assertThat(snapshot.state().lastSequence()).isEqualTo(42);
+        assertThat(snapshot.state().ordersFor("AAPL")).containsExactly(limit);
+        assertThat(snapshot.state().ordersFor("MSFT")).containsExactly(market);
+    }
+
+    @Test
+    void read_corruptFile_returnsNull() throws IOException {
+        OpenOrderState state = new OpenOrderState();
+        state.put(order("AAPL", OrderType.LIMIT, new BigDecimal("99"), OrderStatus.NEW));
+        Path file = directory.resolve("open-orders.snap");
+        OpenOrderSnapshots.write(file, state, Instant.now());
+
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(40);
+            int original = raw.read();
+            raw.seek(40);
+            raw.write(~original);
+        }
+
+        assertThat(OpenOrderSnapshots.read(file)).isNull();
+    }
+
+    @Test
+    void read_corruptOrdinal_returnsNullInsteadOfDecoding() throws IOException {
+        OpenOrderState state = new OpenOrderState();
+        state.put(order("AAPL", OrderType.LIMIT, new BigDecimal("99"), OrderStatus.NEW));
+        Path file = directory.resolve("open-orders.snap");
+        OpenOrderSnapshots.write(file, state, Instant.now());
+
+        // Header (30 bytes), symbol "AAPL" (6), order count (4), order id (16), then the side.
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(56);
+            raw.write(0x7F);
+        }
+
+        assertThat(OpenOrderSnapshots.read(file)).isNull();
+    }
+
+    private OpenOrder order(String symbol, OrderType type, BigDecimal price, OrderStatus status) {
+        return new OpenOrder(
+            UUID.randomUUID(),
+            symbol,
+            OrderSide.BUY,
+            type,
+            new BigDecimal("10.000000"),
+            price,
+            status == OrderStatus.NEW ? BigDecimal.ZERO : new BigDecimal("2.500000"),
+            status,
+            Instant.parse("2026-03-01T10:00:00Z")
+        );
+    }
+}
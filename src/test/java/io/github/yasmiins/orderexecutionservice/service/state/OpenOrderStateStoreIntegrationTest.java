@@ -0,0 +1,165 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.domain.Order;
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+import io.github.yasmiins.orderexecutionservice.repository.ExecutionRepository;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.OrderService;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+
+@Testcontainers
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.NONE,
+    properties = {
+        "simulator.enabled=true",
+        "simulator.scheduling.enabled=false",
+        "simulator.warm-start.enabled=true",
+        "simulator.warm-start.catch-up-skew-ms=0"
+    }
+)
+class OpenOrderStateStoreIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES =
+        new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final Path SNAPSHOT_DIR = createTempDir();
+
+    @DynamicPropertySource
+    static void snapshotFile(DynamicPropertyRegistry registry) {
+        registry.add("simulator.warm-start.snapshot-file", () -> SNAPSHOT_DIR.resolve("open-orders.snap").toString());
+    }
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ExecutionRepository executionRepository;
+
+    @Autowired
+    private OrderJournal orderJournal;
+
+    @Autowired
+    private SimulatedFillProperties properties;
+
+    @Autowired
+    private OpenOrderStateStore stateStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanDatabase() throws Exception {
+        executionRepository.deleteAll();
+        orderRepository.deleteAll();
+        Files.deleteIfExists(SNAPSHOT_DIR.resolve("open-orders.snap"));
+        // Rows were deleted behind the live state's back; reload it from the now empty table.
+        stateStore.warmStart();
+    }
+
+    @Test
+    void liveState_tracksCommittedCommands() {
+        Order kept = createLimitOrder("AAPL");
+        Order canceled = createLimitOrder("AAPL");
+
+        orderService.cancelOrder(canceled.getId());
+
+        assertThat(stateStore.isReady()).isTrue();
+        assertThat(idsFor(stateStore, "AAPL")).contains(kept.getId()).doesNotContain(canceled.getId());
+    }
+
+    @Test
+    void warmStart_restoresSnapshotAndCatchesUpOnlyNewerChanges() throws Exception {
+        Order beforeSnapshot = createLimitOrder("AAPL");
+        Order canceledAfterSnapshot = createLimitOrder("MSFT");
+        stateStore.writeSnapshot();
+        Thread.sleep(5);
+
+        orderService.cancelOrder(canceledAfterSnapshot.getId());
+        Order afterSnapshot = createLimitOrder("MSFT");
+
+        OpenOrderStateStore restarted = new OpenOrderStateStore(orderRepository, orderJournal, properties);
+        restarted.warmStart();
+
+        assertThat(restarted.isReady()).isTrue();
+        assertThat(idsFor(restarted, "AAPL")).containsExactly(beforeSnapshot.getId());
+        assertThat(idsFor(restarted, "MSFT")).containsExactly(afterSnapshot.getId());
+    }
+
+    @Test
+    void reloadAndReconcile_correctChangesMadeOutsideTheJournal() {
+        Order filledElsewhere = createLimitOrder("AAPL");
+        Order canceledElsewhere = createLimitOrder("AAPL");
+        Order deletedElsewhere = createLimitOrder("MSFT");
+        // Another instance's writes never reach this instance's journal.
+        jdbcTemplate.update(
+            "UPDATE orders SET filled_quantity = 4, status = 'PARTIALLY_FILLED', updated_at = NOW() WHERE id = ?",
+            filledElsewhere.getId()
+        );
+        jdbcTemplate.update(
+            "UPDATE orders SET status = 'CANCELED', updated_at = NOW() WHERE id = ?",
+            canceledElsewhere.getId()
+        );
+        stateStore.reload(List.of(filledElsewhere.getId()));
+
+        assertThat(stateStore.ordersFor("AAPL"))
+            .filteredOn(order -> order.id().equals(filledElsewhere.getId()))
+            .singleElement()
+            .satisfies(order -> assertThat(order.filledQuantity()).isEqualByComparingTo("4"));
+        assertThat(idsFor(stateStore, "AAPL")).contains(canceledElsewhere.getId());
+
+        jdbcTemplate.update("DELETE FROM orders WHERE id = ?", deletedElsewhere.getId());
+        stateStore.reconcile();
+
+        assertThat(idsFor(stateStore, "AAPL")).containsExactly(filledElsewhere.getId());
+        assertThat(idsFor(stateStore, "MSFT")).isEmpty();
+    }
+
+    private Order createLimitOrder(String symbol) {
+        return orderService.createOrder(
+            symbol,
+            OrderSide.BUY,
+            new BigDecimal("10"),
+            new BigDecimal("50"),
+            OrderType.LIMIT
+        );
+    }
+
+    private List<UUID> idsFor(OpenOrderStateStore store, String symbol) {
+        return store.ordersFor(symbol).stream().map(OpenOrder::id).toList();
+    }
+
+    private static Path createTempDir() {
+        try {
+            return Files.createTempDirectory("open-order-snapshots");
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.yasmiins.orderexecutionservice.service.state;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.github.yasmiins.orderexecutionservice.config.SimulatedFillProperties;
+import io.github.yasmiins.orderexecutionservice.repository.OrderRepository;
+import io.github.yasmiins.orderexecutionservice.service.journal.OrderJournal;
+
+@ExtendWith(MockitoExtension.class)
+class OpenOrderStateStoreTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderJournal orderJournal;
+
+    @Test
+    void warmStartWithSharding_failsFast() {
+        SimulatedFillProperties properties = new SimulatedFillProperties();
+        properties.getWarmStart().setEnabled(true);
+        properties.getSharding().setEnabled(true);
+
+        assertThatThrownBy(() -> new OpenOrderStateStore(orderRepository, orderJournal, properties))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("simulator.sharding.enabled");
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.yasmiins.orderexecutionservice.service.stats;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.repository.SymbolMinuteStats;
+import io.github.yasmiins.orderexecutionservice.repository.SymbolStatsRepository;
+import io.github.yasmiins.orderexecutionservice.service.event.ExecutionCreated;
+
+@ExtendWith(MockitoExtension.class)
+class SymbolStatsRecorderTest {
+
+    @Mock
+    private SymbolStatsRepository symbolStatsRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private static final Instant MINUTE = Instant.parse("2026-01-05T14:30:00Z");
+
+    private SymbolStatsRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new SymbolStatsRecorder(symbolStatsRepository, transactionManager);
+    }
+
+    @Test
+    void flush_writesSumsPerSymbolInSymbolOrder() {
+        execution("MSFT", "4", "200");
+        execution("AAPL", "10", "100");
+        execution("AAPL", "5", "103");
+
+        recorder.flush();
+
+        SortedMap<String, List<SymbolMinuteStats>> written = captureAdd(1).getFirst();
+        assertThat(written.keySet()).containsExactly("AAPL", "MSFT");
+        assertThat(total(written.get("AAPL"))).satisfies(aapl -> {
+            assertThat(aapl.volume()).isEqualByComparingTo("15");
+            assertThat(aapl.notional()).isEqualByComparingTo("1515");
+            assertThat(aapl.tradeCount()).isEqualTo(2);
+            assertThat(aapl.high()).isEqualByComparingTo("103");
+            assertThat(aapl.low()).isEqualByComparingTo("100");
+        });
+
+        // Nothing new since the last flush.
+        recorder.flush();
+        verify(symbolStatsRepository, times(1)).add(any());
+    }
+
+    @Test
+    void onExecutionCreated_bucketsByExecutionTime() {
+        execution("AAPL", "10", "100", MINUTE.plusSeconds(59));
+        execution("AAPL", "5", "101", MINUTE.plusSeconds(60));
+
+        recorder.flush();
+
+        assertThat(captureAdd(1).getFirst().get("AAPL"))
+            .extracting(SymbolMinuteStats::minute)
+            .containsExactly(MINUTE, MINUTE.plusSeconds(60));
+    }
+
+    @Test
+    void flush_withoutExecutions_writesNothing() {
+        recorder.flush();
+
+        verifyNoInteractions(symbolStatsRepository, transactionManager);
+    }
+
+    @Test
+    void flush_keepsSumsThatFailToWriteForTheNextFlush() {
+        execution("AAPL", "10", "100");
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(symbolStatsRepository).add(any());
+        recorder.flush();
+
+        execution("AAPL", "2", "99");
+        recorder.flush();
+
+        SymbolMinuteStats aapl = total(captureAdd(2).getLast().get("AAPL"));
+        assertThat(aapl.volume()).isEqualByComparingTo("12");
+        assertThat(aapl.tradeCount()).isEqualTo(2);
+        assertThat(aapl.low()).isEqualByComparingTo("99");
+    }
+
+    private void execution(String symbol, String quantity, String price) {
+        execution(symbol, quantity, price, MINUTE.plusSeconds(15));
+    }
+
+    private void execution(String symbol, String quantity, String price, Instant executedAt) {
+        recorder.onExecutionCreated(new ExecutionCreated(
+            UUID.randomUUID(),
+            symbol,
+            OrderSide.BUY,
+            new BigDecimal(quantity),
+            new BigDecimal(price),
+            executedAt
+        ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<SortedMap<String, List<SymbolMinuteStats>>> captureAdd(int calls) {
+        ArgumentCaptor<SortedMap<String, List<SymbolMinuteStats>>> captor = ArgumentCaptor.forClass(SortedMap.class);
+        verify(symbolStatsRepository, times(calls)).add(captor.capture());
+        return captor.getAllValues();
+    }
+
+    /**
+     * Combines the buckets of one symbol.
+     */
+    private static SymbolMinuteStats total(List<SymbolMinuteStats> buckets) {
+        BigDecimal volume = BigDecimal.ZERO;
+        BigDecimal notional = BigDecimal.ZERO;
+        long tradeCount = 0;
+        BigDecimal high = null;
+        BigDecimal low = null;
+        for (SymbolMinuteStats bucket : buckets) {
+            volume = volume.add(bucket.volume());
+            notional = notional.add(bucket.notional());
+            tradeCount += bucket.tradeCount();
+            high = high == null ? bucket.high() : high.max(bucket.high());
+            low = low == null ? bucket.low() : low.min(bucket.low());
+        }
+        return new SymbolMinuteStats(buckets.getFirst().minute(), volume, notional, tradeCount, high, low);
+    }
+}
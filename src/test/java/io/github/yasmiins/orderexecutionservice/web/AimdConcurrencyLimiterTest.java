@@ -0,0 +1,170 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final double TOLERANCE = 2.0;
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void acquire_overLimitWithoutQueue_sheds() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(2, 1, 10, TOLERANCE, WINDOW, 0.5, 0);
+
+        assertThat(limiter.acquire(0)).isEqualTo(AimdConcurrencyLimiter.Outcome.ACCEPTED);
+        assertThat(limiter.acquire(0)).isEqualTo(AimdConcurrencyLimiter.Outcome.ACCEPTED);
+        assertThat(limiter.acquire(TimeUnit.SECONDS.toNanos(1))).isEqualTo(AimdConcurrencyLimiter.Outcome.SHED);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void acquire_overLimit_waitsForRelease() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(1, 1, 10, TOLERANCE, WINDOW, 0.5, 1);
+        limiter.acquire(0);
+
+        CompletableFuture<AimdConcurrencyLimiter.Outcome> outcome = new CompletableFuture<>();
+        Thread waiter = Thread.ofPlatform().start(() -> {
+            try {
+                outcome.complete(limiter.acquire(TimeUnit.SECONDS.toNanos(5)));
+            } catch (InterruptedException ex) {
+                outcome.completeExceptionally(ex);
+            }
+        });
+        while (waiter.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        limiter.release(0, false);
+
+        assertThat(outcome.get(5, TimeUnit.SECONDS)).isEqualTo(AimdConcurrencyLimiter.Outcome.QUEUED);
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_queueTimeout_sheds() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(1, 1, 10, TOLERANCE, WINDOW, 0.5, 1);
+        limiter.acquire(0);
+
+        assertThat(limiter.acquire(TimeUnit.MILLISECONDS.toNanos(20))).isEqualTo(AimdConcurrencyLimiter.Outcome.SHED);
+    }
+
+    @Test
+    void release_fastAndSaturated_increasesLimitByOne() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(2, 1, 10, TOLERANCE, WINDOW, 0.5, 0);
+        limiter.acquire(0);
+        limiter.acquire(0);
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        assertThat(limiter.limit()).isEqualTo(3);
+    }
+
+    @Test
+    void release_fastButUnsaturated_keepsLimit() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(4, 1, 10, TOLERANCE, WINDOW, 0.5, 0);
+        limiter.acquire(0);
+
+        limiter.release(TimeUnit.MILLISECONDS.toNanos(5), false);
+
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_slowerThanBaseline_backsOffMultiplicatively() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(8, 1, 10, TOLERANCE, WINDOW, 0.5, 0);
+        limiter.acquire(0);
+        limiter.acquire(0);
+
+        limiter.release(millis(10), false);
+        assertThat(limiter.baselineNanos()).isEqualTo(millis(10));
+        assertThat(limiter.limit()).isEqualTo(8);
+
+        limiter.release(millis(25), false);
+        assertThat(limiter.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_latencyWithinTolerance_keepsLimit() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(8, 1, 10, TOLERANCE, WINDOW, 0.5, 0);
+        limiter.acquire(0);
+        limiter.acquire(0);
+
+        limiter.release(millis(100), false);
+        limiter.release(millis(150), false);
+
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void release_slowAndFailedInOneWindow_backsOffOnce() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(8, 1, 10, TOLERANCE, WINDOW, 0.5, 0);
+        for (int i = 0; i < 4; i++) {
+            limiter.acquire(0);
+        }
+        limiter.release(millis(10), false);
+
+        limiter.release(millis(50), false);
+        limiter.release(millis(50), false);
+        limiter.release(0, true);
+        assertThat(limiter.limit()).isEqualTo(4);
+
+        clock.addAndGet(WINDOW);
+        limiter.acquire(0);
+        limiter.release(0, true);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void release_baselineFollowsWindowMinimum() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(8, 1, 10, TOLERANCE, WINDOW, 0.5, 0);
+        limiter.acquire(0);
+        limiter.release(millis(20), false);
+
+        limiter.acquire(0);
+        limiter.release(millis(10), false);
+        clock.addAndGet(WINDOW);
+        limiter.acquire(0);
+        limiter.release(millis(15), false);
+        assertThat(limiter.baselineNanos()).isEqualTo(millis(10));
+
+        clock.addAndGet(WINDOW);
+        limiter.acquire(0);
+        limiter.release(millis(15), false);
+        assertThat(limiter.baselineNanos()).isEqualTo(millis(10) + millis(5) / 10);
+    }
+
+    @Test
+    void release_neverDropsBelowMinimum() throws Exception {
+        AimdConcurrencyLimiter limiter = limiter(2, 2, 10, TOLERANCE, WINDOW, 0.5, 0);
+        limiter.acquire(0);
+
+        limiter.release(0, true);
+
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    private AimdConcurrencyLimiter limiter(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double tolerance,
+        long window,
+        double backoffRatio,
+        int maxQueued
+    ) {
+        return new AimdConcurrencyLimiter(
+            initialLimit, minLimit, maxLimit, tolerance, window, backoffRatio, maxQueued, clock::get
+        );
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
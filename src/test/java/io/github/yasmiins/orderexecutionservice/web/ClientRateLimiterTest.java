@@ -0,0 +1,67 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+
+    @Test
+    void tryAcquire_allowsBurstThenRejects() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 3, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void tryAcquire_refillsAtConfiguredRate() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 1, 100, clock::get);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_idleTimeDoesNotAccumulateBeyondBurst() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 2, 100, clock::get);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void tryAcquire_clientsHaveSeparateBuckets() {
+        ClientRateLimiter limiter = new ClientRateLimiter(10, 1, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+        assertThat(limiter.tryAcquire("b")).isZero();
+    }
+
+    @Test
+    void tryAcquire_boundsClientsAndEvictsRefilledBucketsFirst() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 2, clock::get);
+        limiter.tryAcquire("idle");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        limiter.tryAcquire("busy");
+
+        assertThat(limiter.tryAcquire("new")).isZero();
+
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("busy")).isPositive();
+    }
+}
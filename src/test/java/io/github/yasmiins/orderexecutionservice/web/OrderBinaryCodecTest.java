@@ -0,0 +1,97 @@
+package io.github.yasmiins.orderexecutionservice.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.yasmiins.orderexecutionservice.domain.OrderSide;
+import io.github.yasmiins.orderexecutionservice.domain.OrderStatus;
+import io.github.yasmiins.orderexecutionservice.domain.OrderType;
+
+class OrderBinaryCodecTest {
+
+    @Test
+    void createOrder_roundTripsIncludingNulls() {
+        CreateOrderRequest limit = new CreateOrderRequest(
+            "AAPL", OrderSide.BUY, OrderType.LIMIT, new BigDecimal("10.000001"), new BigDecimal("100.50")
+        );
+        CreateOrderRequest market = new CreateOrderRequest("MSFT", OrderSide.SELL, null, new BigDecimal("5"), null);
+
+        assertThat(OrderBinaryCodec.decodeCreateOrder(OrderBinaryCodec.encodeCreateOrder(limit))).isEqualTo(limit);
+        assertThat(OrderBinaryCodec.decodeCreateOrder(OrderBinaryCodec.encodeCreateOrder(market))).isEqualTo(market);
+    }
+
+    @Test
+    void orderAndOrderList_roundTrip() {
+        OrderResponse filled = order("AAPL", OrderStatus.FILLED, new BigDecimal("101.25"));
+        OrderResponse market = order("MSFT", OrderStatus.NEW, null);
+
+        byte[] single = OrderBinaryCodec.encodeOrder(filled);
+        assertThat(OrderBinaryCodec.decodeOrder(single)).isEqualTo(filled);
+        assertThat(OrderBinaryCodec.decodeOrders(OrderBinaryCodec.encodeOrders(List.of(filled, market))))
+            .containsExactly(filled, market);
+        assertThat(OrderBinaryCodec.decodeOrders(OrderBinaryCodec.encodeOrders(List.of()))).isEmpty();
+    }
+
+    @Test
+    void decode_rejectsTruncatedAndMismatchedMessages() {
+        byte[] order = OrderBinaryCodec.encodeOrder(order("AAPL", OrderStatus.NEW, BigDecimal.ONE));
+
+        assertThatThrownBy(() -> OrderBinaryCodec.decodeOrder(Arrays.copyOf(order, order.length - 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Truncated");
+        assertThatThrownBy(() -> OrderBinaryCodec.decodeCreateOrder(order))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("message type");
+        byte[] unknownVersion = order.clone();
+        unknownVersion[0] = 9;
+        assertThatThrownBy(() -> OrderBinaryCodec.decodeOrder(unknownVersion))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+    }
+
+    @Test
+    void decode_rejectsSymbolLengthPastTheEndOfTheMessage() {
+        byte[] create = OrderBinaryCodec.encodeCreateOrder(new CreateOrderRequest(
+            "AAPL", OrderSide.BUY, OrderType.MARKET, BigDecimal.ONE, null
+        ));
+        // The length byte follows the two header bytes.
+        create[2] = (byte) 0xFF;
+
+        assertThatThrownBy(() -> OrderBinaryCodec.decodeCreateOrder(create))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Truncated");
+    }
+
+    @Test
+    void encode_rejectsQuantitiesThatDoNotFitTheWireFormat() {
+        CreateOrderRequest huge = new CreateOrderRequest(
+            "AAPL", OrderSide.BUY, OrderType.MARKET, new BigDecimal("1e30").setScale(0), null
+        );
+
+        assertThatThrownBy(() -> OrderBinaryCodec.encodeCreateOrder(huge)).isInstanceOf(ArithmeticException.class);
+    }
+
+    private static OrderResponse order(String symbol, OrderStatus status, BigDecimal price) {
+        Instant createdAt = Instant.parse("2025-03-01T10:15:30.123456Z");
+        return new OrderResponse(
+            UUID.randomUUID(),
+            symbol,
+            OrderSide.BUY,
+            price == null ? OrderType.MARKET : OrderType.LIMIT,
+            new BigDecimal("10.000000"),
+            new BigDecimal("4.500000"),
+            price,
+            status,
+            createdAt,
+            createdAt.plusMillis(250)
+        );
+    }
+}